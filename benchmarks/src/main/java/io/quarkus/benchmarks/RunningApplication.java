@@ -0,0 +1,32 @@
+package io.quarkus.benchmarks;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import io.quarkus.runtime.Application;
+
+/**
+ * Starts the application built by this module, i.e. the same generated code that runs in production, once per benchmark
+ * trial.
+ * <p>
+ * JMH forks a new JVM for every benchmark, so there is never more than one running application per JVM.
+ */
+@State(Scope.Benchmark)
+public class RunningApplication {
+
+    private Application application;
+
+    @Setup
+    public void start() throws Exception {
+        application = (Application) Class.forName("io.quarkus.runner.ApplicationImpl").newInstance();
+        application.start(new String[0]);
+    }
+
+    @TearDown
+    public void stop() {
+        application.stop();
+    }
+
+}
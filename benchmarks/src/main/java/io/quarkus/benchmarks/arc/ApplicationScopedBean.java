@@ -0,0 +1,15 @@
+package io.quarkus.benchmarks.arc;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import io.quarkus.arc.Unremovable;
+
+@Unremovable
+@ApplicationScoped
+public class ApplicationScopedBean {
+
+    public String ping(String value) {
+        return value;
+    }
+
+}
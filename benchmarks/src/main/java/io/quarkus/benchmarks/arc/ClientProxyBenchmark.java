@@ -0,0 +1,73 @@
+package io.quarkus.benchmarks.arc;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.benchmarks.RunningApplication;
+
+/**
+ * Invokes a business method through the client proxies generated for normal scoped beans, and through an intercepted
+ * subclass with a single interceptor.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ClientProxyBenchmark {
+
+    private ApplicationScopedBean applicationScoped;
+    private RequestScopedBean requestScoped;
+    private InterceptedBean intercepted;
+    private ManagedContext requestContext;
+
+    @Setup
+    public void setup(RunningApplication application) {
+        applicationScoped = Arc.container().instance(ApplicationScopedBean.class).get();
+        requestScoped = Arc.container().instance(RequestScopedBean.class).get();
+        intercepted = Arc.container().instance(InterceptedBean.class).get();
+        requestContext = Arc.container().requestContext();
+    }
+
+    // the request context is bound to the thread that runs the benchmark
+    @Setup(Level.Iteration)
+    public void activate() {
+        requestContext.activate();
+    }
+
+    @TearDown(Level.Iteration)
+    public void terminate() {
+        requestContext.terminate();
+    }
+
+    @Benchmark
+    public String applicationScoped() {
+        return applicationScoped.ping("foo");
+    }
+
+    @Benchmark
+    public String requestScoped() {
+        return requestScoped.ping("foo");
+    }
+
+    @Benchmark
+    public String intercepted() {
+        return intercepted.ping("foo");
+    }
+
+}
@@ -0,0 +1,16 @@
+package io.quarkus.benchmarks.arc;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import io.quarkus.arc.Unremovable;
+
+@Traced
+@Unremovable
+@ApplicationScoped
+public class InterceptedBean {
+
+    public String ping(String value) {
+        return value;
+    }
+
+}
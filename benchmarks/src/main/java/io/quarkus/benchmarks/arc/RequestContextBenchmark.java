@@ -0,0 +1,58 @@
+package io.quarkus.benchmarks.arc;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.benchmarks.RunningApplication;
+
+/**
+ * Activates and terminates the request context, as done for every HTTP request, optionally using a request scoped bean in
+ * between.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RequestContextBenchmark {
+
+    private ManagedContext requestContext;
+    private RequestScopedBean requestScoped;
+
+    @Setup
+    public void setup(RunningApplication application) {
+        requestContext = Arc.container().requestContext();
+        requestScoped = Arc.container().instance(RequestScopedBean.class).get();
+    }
+
+    @Benchmark
+    public void activateTerminate() {
+        requestContext.activate();
+        requestContext.terminate();
+    }
+
+    @Benchmark
+    public void activateUseTerminate(Blackhole blackhole) {
+        requestContext.activate();
+        try {
+            blackhole.consume(requestScoped.ping("foo"));
+        } finally {
+            requestContext.terminate();
+        }
+    }
+
+}
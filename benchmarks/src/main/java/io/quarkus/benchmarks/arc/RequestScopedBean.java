@@ -0,0 +1,15 @@
+package io.quarkus.benchmarks.arc;
+
+import javax.enterprise.context.RequestScoped;
+
+import io.quarkus.arc.Unremovable;
+
+@Unremovable
+@RequestScoped
+public class RequestScopedBean {
+
+    public String ping(String value) {
+        return value;
+    }
+
+}
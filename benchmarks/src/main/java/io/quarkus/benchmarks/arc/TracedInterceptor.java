@@ -0,0 +1,18 @@
+package io.quarkus.benchmarks.arc;
+
+import javax.annotation.Priority;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InvocationContext;
+
+@Traced
+@Priority(1)
+@Interceptor
+public class TracedInterceptor {
+
+    @AroundInvoke
+    Object trace(InvocationContext ctx) throws Exception {
+        return ctx.proceed();
+    }
+
+}
@@ -0,0 +1,60 @@
+package io.quarkus.benchmarks.config;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.config.ConfigProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.benchmarks.RunningApplication;
+import io.smallrye.config.SmallRyeConfig;
+
+/**
+ * Looks up config properties through the {@link SmallRyeConfig} instance of the application, i.e. with all the config
+ * sources, interceptors and converters registered by Quarkus.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConfigLookupBenchmark {
+
+    private SmallRyeConfig config;
+
+    @Setup
+    public void setup(RunningApplication application) {
+        config = (SmallRyeConfig) ConfigProvider.getConfig();
+    }
+
+    @Benchmark
+    public String string() {
+        return config.getValue("benchmark.greeting", String.class);
+    }
+
+    @Benchmark
+    public Integer converted() {
+        return config.getValue("benchmark.count", Integer.class);
+    }
+
+    @Benchmark
+    public String expression() {
+        return config.getValue("benchmark.message", String.class);
+    }
+
+    @Benchmark
+    public Optional<String> missing() {
+        return config.getOptionalValue("benchmark.missing", String.class);
+    }
+
+}
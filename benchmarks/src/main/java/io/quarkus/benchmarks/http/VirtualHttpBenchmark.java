@@ -0,0 +1,163 @@
+package io.quarkus.benchmarks.http;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelInitializer;
+import io.netty.handler.codec.http.DefaultHttpRequest;
+import io.netty.handler.codec.http.DefaultLastHttpContent;
+import io.netty.handler.codec.http.HttpContent;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpMethod;
+import io.netty.handler.codec.http.HttpRequest;
+import io.netty.handler.codec.http.HttpResponse;
+import io.netty.handler.codec.http.HttpVersion;
+import io.netty.handler.codec.http.LastHttpContent;
+import io.netty.util.ReferenceCountUtil;
+import io.quarkus.benchmarks.RunningApplication;
+import io.quarkus.netty.runtime.virtual.VirtualAddress;
+import io.quarkus.netty.runtime.virtual.VirtualChannel;
+import io.quarkus.netty.runtime.virtual.VirtualClientConnection;
+import io.quarkus.netty.runtime.virtual.VirtualResponseHandler;
+import io.quarkus.netty.runtime.virtual.VirtualServerChannel;
+import io.quarkus.vertx.core.runtime.VertxCoreRecorder;
+import io.quarkus.vertx.http.runtime.VertxHttpRecorder;
+import io.vertx.core.http.HttpServerOptions;
+import io.vertx.core.http.impl.Http1xServerConnection;
+import io.vertx.core.impl.ContextInternal;
+import io.vertx.core.impl.VertxInternal;
+import io.vertx.core.json.JsonObject;
+import io.vertx.core.net.impl.VertxHandler;
+
+/**
+ * Sends HTTP requests through a virtual connection, i.e. without a socket, to the Vert.x router of the application, which
+ * dispatches them to a JAX-RS resource via the {@code VertxRequestHandler}. This is the path used by the serverless
+ * integrations, and it measures the request handling overhead without the network stack.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VirtualHttpBenchmark {
+
+    private static final VirtualAddress ADDRESS = new VirtualAddress("benchmark-http");
+
+    private Channel serverChannel;
+
+    @Setup
+    public void setup(RunningApplication application) throws InterruptedException {
+        // the same pipeline as the one used for the virtual HTTP server of the serverless integrations
+        VertxInternal vertx = (VertxInternal) VertxCoreRecorder.getVertx().get();
+        serverChannel = new ServerBootstrap()
+                .group(vertx.getEventLoopGroup())
+                .channel(VirtualServerChannel.class)
+                .handler(new ChannelInitializer<VirtualServerChannel>() {
+                    @Override
+                    public void initChannel(VirtualServerChannel ch) {
+                    }
+                })
+                .childHandler(new ChannelInitializer<VirtualChannel>() {
+                    @Override
+                    public void initChannel(VirtualChannel ch) {
+                        ContextInternal context = (ContextInternal) vertx.createEventLoopContext(null, null,
+                                new JsonObject(), Thread.currentThread().getContextClassLoader());
+                        VertxHandler<Http1xServerConnection> handler = VertxHandler.create(context, chctx -> {
+                            Http1xServerConnection conn = new Http1xServerConnection(context.owner(), null,
+                                    new HttpServerOptions(), chctx, context, "localhost", null);
+                            conn.handler(VertxHttpRecorder.getRootHandler());
+                            return conn;
+                        });
+                        ch.pipeline().addLast("handler", handler);
+                    }
+                })
+                .bind(ADDRESS).sync().channel();
+    }
+
+    @TearDown
+    public void tearDown() throws InterruptedException {
+        serverChannel.close().sync();
+    }
+
+    @Benchmark
+    public String get() throws Exception {
+        return send(new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.GET, "/hello"),
+                LastHttpContent.EMPTY_LAST_CONTENT);
+    }
+
+    @Benchmark
+    public String post() throws Exception {
+        HttpRequest request = new DefaultHttpRequest(HttpVersion.HTTP_1_1, HttpMethod.POST, "/hello");
+        ByteBuf body = Unpooled.copiedBuffer("Quarkus", StandardCharsets.UTF_8);
+        request.headers().set(HttpHeaderNames.CONTENT_TYPE, "text/plain");
+        request.headers().set(HttpHeaderNames.CONTENT_LENGTH, body.readableBytes());
+        return send(request, new DefaultLastHttpContent(body));
+    }
+
+    private static String send(HttpRequest request, LastHttpContent content) throws Exception {
+        request.headers().set(HttpHeaderNames.HOST, "localhost");
+        ResponseHandler handler = new ResponseHandler();
+        VirtualClientConnection connection = VirtualClientConnection.connect(handler, ADDRESS);
+        try {
+            // the request and its content are separate messages, as if decoded by the HTTP codec
+            connection.sendMessage(request);
+            connection.sendMessage(content);
+            return handler.response.get(10, TimeUnit.SECONDS);
+        } finally {
+            connection.close();
+        }
+    }
+
+    static final class ResponseHandler implements VirtualResponseHandler {
+
+        final CompletableFuture<String> response = new CompletableFuture<>();
+        private final StringBuilder body = new StringBuilder();
+        private int status;
+
+        @Override
+        public void handleMessage(Object msg) {
+            try {
+                if (msg instanceof HttpResponse) {
+                    status = ((HttpResponse) msg).status().code();
+                }
+                if (msg instanceof HttpContent) {
+                    body.append(((HttpContent) msg).content().toString(StandardCharsets.UTF_8));
+                }
+                if (msg instanceof LastHttpContent) {
+                    if (status == 200) {
+                        response.complete(body.toString());
+                    } else {
+                        response.completeExceptionally(new IllegalStateException("Unexpected status: " + status));
+                    }
+                }
+            } finally {
+                ReferenceCountUtil.release(msg);
+            }
+        }
+
+        @Override
+        public void close() {
+            response.completeExceptionally(new IllegalStateException("Connection closed"));
+        }
+
+    }
+
+}
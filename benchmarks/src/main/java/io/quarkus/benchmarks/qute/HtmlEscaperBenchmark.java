@@ -0,0 +1,73 @@
+package io.quarkus.benchmarks.qute;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.benchmarks.RunningApplication;
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.ResultMapper;
+
+/**
+ * Compares the HTML escaper registered by the Qute extension with the previous implementation, see
+ * {@link SwitchHtmlEscaper}, on typical values: a value without any special character, a text with a few characters to
+ * escape and an HTML fragment.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HtmlEscaperBenchmark {
+
+    @Param({ "plain", "text", "markup" })
+    String payload;
+
+    private ResultMapper escaper;
+    private ResultMapper switchEscaper;
+    private String value;
+
+    @Setup
+    public void setup(RunningApplication application) {
+        escaper = Arc.container().instance(Engine.class).get().getResultMappers().stream()
+                .filter(mapper -> mapper.getClass().getSimpleName().equals("HtmlEscaper")).findFirst()
+                .orElseThrow(() -> new IllegalStateException("HtmlEscaper not registered"));
+        switchEscaper = new SwitchHtmlEscaper();
+        switch (payload) {
+            case "plain":
+                value = "Lightweight running shoes with a breathable mesh upper, size 44";
+                break;
+            case "text":
+                value = "Tom's \"Classic\" running shoes - comfort & style, now 20% off";
+                break;
+            case "markup":
+                value = "<p class=\"note\">Use <b>&lt;br&gt;</b> for a line break & <i>'single'</i> quotes</p>";
+                break;
+            default:
+                throw new IllegalArgumentException(payload);
+        }
+    }
+
+    @Benchmark
+    public String tableDriven() {
+        return escaper.map(value, null);
+    }
+
+    @Benchmark
+    public String switchBased() {
+        return switchEscaper.map(value, null);
+    }
+
+}
@@ -0,0 +1,20 @@
+package io.quarkus.benchmarks.qute;
+
+import java.math.BigDecimal;
+
+import io.quarkus.qute.TemplateData;
+
+@TemplateData
+public class Item {
+
+    public final String name;
+    public final BigDecimal price;
+    public final String description;
+
+    public Item(String name, BigDecimal price, String description) {
+        this.name = name;
+        this.price = price;
+        this.description = description;
+    }
+
+}
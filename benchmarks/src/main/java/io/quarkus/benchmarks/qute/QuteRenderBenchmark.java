@@ -0,0 +1,57 @@
+package io.quarkus.benchmarks.qute;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.benchmarks.RunningApplication;
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.Template;
+
+/**
+ * Renders an HTML template with a loop, conditions, property access and escaping, using the engine configured by the
+ * Qute extension, i.e. with the value resolvers generated at build time.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class QuteRenderBenchmark {
+
+    @Param({ "10", "100" })
+    int items;
+
+    private Template template;
+    private List<Item> data;
+
+    @Setup
+    public void setup(RunningApplication application) {
+        template = Arc.container().instance(Engine.class).get().getTemplate("items.html");
+        data = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            data.add(new Item("Item " + i, BigDecimal.valueOf(i * 10 + 5, 1), "A \"quoted\" <description> & more"));
+        }
+    }
+
+    @Benchmark
+    public String render() {
+        return template.data("title", "Items").data("items", data).render();
+    }
+
+}
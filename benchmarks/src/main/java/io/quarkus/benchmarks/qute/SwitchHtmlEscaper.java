@@ -0,0 +1,63 @@
+package io.quarkus.benchmarks.qute;
+
+import java.util.Objects;
+
+import io.quarkus.qute.Expression;
+import io.quarkus.qute.ResultMapper;
+
+/**
+ * A copy of the previous implementation of {@code io.quarkus.qute.runtime.HtmlEscaper}, kept as the baseline for
+ * {@link HtmlEscaperBenchmark}.
+ */
+class SwitchHtmlEscaper implements ResultMapper {
+
+    @Override
+    public String map(Object result, Expression expression) {
+        return escape(result.toString());
+    }
+
+    String escape(CharSequence value) {
+        if (Objects.requireNonNull(value).length() == 0) {
+            return value.toString();
+        }
+        for (int i = 0; i < value.length(); i++) {
+            String replacement = replacementFor(value.charAt(i));
+            if (replacement != null) {
+                return doEscape(value, i, new StringBuilder(value.subSequence(0, i)).append(replacement));
+            }
+        }
+        return value.toString();
+    }
+
+    private String doEscape(CharSequence value, int index, StringBuilder builder) {
+        int length = value.length();
+        while (++index < length) {
+            char c = value.charAt(index);
+            String replacement = replacementFor(c);
+            if (replacement != null) {
+                builder.append(replacement);
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    private String replacementFor(char c) {
+        switch (c) {
+            case '"':
+                return "&quot;";
+            case '\'':
+                return "&#39;";
+            case '&':
+                return "&amp;";
+            case '<':
+                return "&lt;";
+            case '>':
+                return "&gt;";
+            default:
+                return null;
+        }
+    }
+
+}
@@ -0,0 +1,125 @@
+package io.quarkus.benchmarks.runner;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import io.quarkus.bootstrap.runner.RunnerClassLoader;
+import io.quarkus.bootstrap.runner.SerializedApplication;
+import io.quarkus.qute.Engine;
+
+/**
+ * Loads classes and resources through the {@link RunnerClassLoader} used by the {@code fast-jar} packaging, backed by the
+ * Qute core jar.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RunnerClassLoaderBenchmark {
+
+    private Path appRoot;
+    private byte[] serializedApplication;
+    private List<String> classNames;
+    private String resourceName;
+    private RunnerClassLoader loader;
+
+    @Setup
+    public void setup() throws IOException, URISyntaxException, ClassNotFoundException {
+        Path jar = Paths.get(Engine.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        appRoot = jar.getParent();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        SerializedApplication.write(out, Engine.class.getName(), appRoot, Collections.singletonList(jar),
+                Collections.emptyList());
+        serializedApplication = out.toByteArray();
+
+        classNames = new ArrayList<>();
+        try (JarFile jarFile = new JarFile(jar.toFile())) {
+            Enumeration<JarEntry> entries = jarFile.entries();
+            while (entries.hasMoreElements()) {
+                String name = entries.nextElement().getName();
+                if (name.endsWith(".class") && !name.endsWith("module-info.class")) {
+                    classNames.add(name.substring(0, name.length() - ".class".length()).replace('/', '.'));
+                }
+            }
+        }
+        resourceName = Engine.class.getName().replace('.', '/') + ".class";
+
+        loader = newClassLoader();
+        loadClasses(loader);
+    }
+
+    @TearDown
+    public void tearDown() {
+        loader.close();
+    }
+
+    /**
+     * Creates a class loader and loads all the classes of the jar, as done during the startup of an application.
+     */
+    @Benchmark
+    public void loadAllClasses(Blackhole blackhole) throws IOException, ClassNotFoundException {
+        RunnerClassLoader loader = newClassLoader();
+        try {
+            blackhole.consume(loadClasses(loader));
+        } finally {
+            loader.close();
+        }
+    }
+
+    @Benchmark
+    public Class<?> loadLoadedClass() throws ClassNotFoundException {
+        return loader.loadClass("io.quarkus.qute.EngineImpl");
+    }
+
+    @Benchmark
+    public Class<?> loadParentClass() throws ClassNotFoundException {
+        // not in the jar, so delegated to the parent class loader
+        return loader.loadClass("org.openjdk.jmh.infra.Blackhole");
+    }
+
+    @Benchmark
+    public URL getResource() {
+        return loader.getResource(resourceName);
+    }
+
+    private RunnerClassLoader newClassLoader() throws IOException {
+        return SerializedApplication.read(new ByteArrayInputStream(serializedApplication), appRoot).getRunnerClassLoader();
+    }
+
+    private int loadClasses(RunnerClassLoader loader) throws ClassNotFoundException {
+        int loaded = 0;
+        for (String className : classNames) {
+            loader.loadClass(className);
+            loaded++;
+        }
+        return loaded;
+    }
+
+}
@@ -8,7 +8,12 @@ import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_KEY;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_KEY_PARAMETER_POSITIONS_PARAM;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_NAME_PARAM;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.CACHE_RESULT;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.COMPLETABLE_FUTURE;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.COMPLETION_STAGE;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.COMPLETION_STAGE_RETURN_TYPE_PARAM;
 import static io.quarkus.cache.deployment.CacheDeploymentConstants.LOCK_TIMEOUT_PARAM;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.UNI;
+import static io.quarkus.cache.deployment.CacheDeploymentConstants.UNI_RETURN_TYPE_PARAM;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -78,6 +83,7 @@ public class CacheAnnotationsTransformer implements AnnotationsTransformer {
         parameters.add(getCacheName(annotation));
         findCacheKeyParameters(method).ifPresent(parameters::add);
         findLockTimeout(annotation).ifPresent(parameters::add);
+        findAsyncReturnType(method).ifPresent(parameters::add);
         return createBinding(CacheResultInterceptorBinding.class, target, toArray(parameters));
     }
 
@@ -106,6 +112,16 @@ public class CacheAnnotationsTransformer implements AnnotationsTransformer {
         return Optional.ofNullable(annotation.value(LOCK_TIMEOUT_PARAM));
     }
 
+    private Optional<AnnotationValue> findAsyncReturnType(MethodInfo method) {
+        DotName returnType = method.returnType().name();
+        if (COMPLETION_STAGE.equals(returnType) || COMPLETABLE_FUTURE.equals(returnType)) {
+            return Optional.of(AnnotationValue.createBooleanValue(COMPLETION_STAGE_RETURN_TYPE_PARAM, true));
+        } else if (UNI.equals(returnType)) {
+            return Optional.of(AnnotationValue.createBooleanValue(UNI_RETURN_TYPE_PARAM, true));
+        }
+        return Optional.empty();
+    }
+
     private AnnotationValue[] toArray(List<AnnotationValue> parameters) {
         return parameters.toArray(new AnnotationValue[0]);
     }
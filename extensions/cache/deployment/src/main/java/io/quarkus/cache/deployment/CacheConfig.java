@@ -15,7 +15,8 @@ import io.quarkus.runtime.annotations.ConfigRoot;
 public class CacheConfig {
 
     /**
-     * Cache type.
+     * Cache type. Supported values are {@code caffeine} and {@code infinispan}. The {@code infinispan} cache type stores the
+     * cached values in remote Infinispan caches and requires the {@code quarkus-infinispan-client} extension.
      */
     @ConfigItem(defaultValue = CacheDeploymentConstants.CAFFEINE_CACHE_TYPE)
     String type;
@@ -25,6 +26,11 @@ public class CacheConfig {
      */
     CaffeineConfig caffeine;
 
+    /**
+     * Infinispan configuration.
+     */
+    InfinispanConfig infinispan;
+
     @ConfigGroup
     public static class CaffeineConfig {
 
@@ -54,6 +60,23 @@ public class CacheConfig {
             @ConfigItem
             OptionalLong maximumSize;
 
+            /**
+             * Maximum weight of the entries the cache may contain. The weight of each entry is computed by the
+             * {@code weigher} when the entry is stored. By default, the weight is an estimation of the entry size in bytes
+             * which is reasonably accurate for strings, arrays, boxed primitives and collections of these types, while any
+             * other object is counted as 64 bytes. Like {@code maximum-size}, the cache may evict an entry before this limit
+             * is exceeded or temporarily exceed it while evicting. This property cannot be used with {@code maximum-size}.
+             */
+            @ConfigItem
+            OptionalLong maximumWeight;
+
+            /**
+             * Fully qualified name of the {@code io.quarkus.cache.CacheWeigher} implementation used to compute the weight of
+             * the entries when {@code maximum-weight} is set. The class must have a public no-args constructor.
+             */
+            @ConfigItem
+            Optional<String> weigher;
+
             /**
              * Specifies that each entry should be automatically removed from the cache once a fixed duration has elapsed after
              * the entry's creation, or the most recent replacement of its value.
@@ -67,6 +90,58 @@ public class CacheConfig {
              */
             @ConfigItem
             Optional<Duration> expireAfterAccess;
+
+            /**
+             * Specifies that each entry should be reloaded in the background once a fixed duration has elapsed after the
+             * entry's creation, or the most recent replacement of its value. The reload is triggered by the first read of the
+             * entry after that duration and only one reload runs at a time for a given entry. Until the reload completes, the
+             * current value is still returned without blocking the callers. This duration should be shorter than
+             * {@code expire-after-write}, otherwise the entry expires before it can be refreshed.
+             * <p>
+             * The reload does not run in the context of the caller, so the cached method must not depend on request state such
+             * as {@code @RequestScoped} beans. If the reload fails, a warning is logged and the current value is kept.
+             */
+            @ConfigItem
+            Optional<Duration> refreshAfterWrite;
+
+            /**
+             * Specifies for how long an entry should still be served after it expired because of {@code expire-after-write}.
+             * During that time, the first read of the expired entry triggers a background reload and the expired value is
+             * returned to the callers until the reload completes. Once that duration has elapsed, the entry is removed from
+             * the cache. This property requires {@code expire-after-write} to be set.
+             * <p>
+             * As with {@code refresh-after-write}, the cached method must not depend on request state such as
+             * {@code @RequestScoped} beans.
+             */
+            @ConfigItem
+            Optional<Duration> staleWhileRevalidate;
+
+            /**
+             * Whether or not the cache should record statistics about hits, misses, evictions, load times and lock timeouts.
+             * Recording statistics has a small performance cost. If the SmallRye Metrics extension is present, the statistics
+             * are also exposed as vendor metrics tagged with the cache name.
+             */
+            @ConfigItem(defaultValue = "false")
+            boolean statsEnabled;
         }
     }
+
+    @ConfigGroup
+    public static class InfinispanConfig {
+
+        /**
+         * Whether or not a local Caffeine near cache should be used in front of each remote Infinispan cache. The near caches
+         * are configured with the Caffeine properties of the same cache name. Their entries are invalidated when the
+         * corresponding remote entries are modified or removed by any application instance.
+         */
+        @ConfigItem(defaultValue = "false")
+        boolean nearCacheEnabled;
+
+        /**
+         * Name of the Infinispan server template used to create the remote caches which do not exist yet. If this property is
+         * not set, all of the remote caches must exist on the server when the application starts.
+         */
+        @ConfigItem
+        Optional<String> template;
+    }
 }
@@ -28,10 +28,22 @@ public class CacheDeploymentConstants {
     public static final String CACHE_NAME_PARAM = "cacheName";
     public static final String CACHE_KEY_PARAMETER_POSITIONS_PARAM = "cacheKeyParameterPositions";
     public static final String LOCK_TIMEOUT_PARAM = "lockTimeout";
+    public static final String COMPLETION_STAGE_RETURN_TYPE_PARAM = "completionStageReturnType";
+    public static final String UNI_RETURN_TYPE_PARAM = "uniReturnType";
+
+    // Async return types.
+    public static final DotName COMPLETION_STAGE = DotName.createSimple("java.util.concurrent.CompletionStage");
+    public static final DotName COMPLETABLE_FUTURE = DotName.createSimple("java.util.concurrent.CompletableFuture");
+    public static final DotName UNI = DotName.createSimple("io.smallrye.mutiny.Uni");
 
     // Caffeine.
     public static final String CAFFEINE_CACHE_TYPE = "caffeine";
 
+    // Infinispan.
+    public static final String INFINISPAN_CACHE_TYPE = "infinispan";
+    public static final String REMOTE_CACHE_MANAGER = "org.infinispan.client.hotrod.RemoteCacheManager";
+    public static final String NEAR_CACHE_INVALIDATION_LISTENER = "io.quarkus.cache.runtime.infinispan.NearCacheInvalidationListener";
+
     private static DotName dotName(Class<?> annotationClass) {
         return DotName.createSimple(annotationClass.getName());
     }
@@ -15,6 +15,10 @@ import java.util.Set;
 
 import javax.enterprise.inject.spi.DeploymentException;
 
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.MetricType;
+import org.eclipse.microprofile.metrics.MetricUnits;
+import org.eclipse.microprofile.metrics.Tag;
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.IndexView;
@@ -23,22 +27,33 @@ import org.jboss.jandex.MethodInfo;
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.arc.deployment.AnnotationsTransformerBuildItem;
 import io.quarkus.arc.deployment.BeanContainerBuildItem;
+import io.quarkus.arc.deployment.UnremovableBeanBuildItem;
 import io.quarkus.arc.deployment.ValidationPhaseBuildItem;
 import io.quarkus.arc.deployment.ValidationPhaseBuildItem.ValidationErrorBuildItem;
 import io.quarkus.arc.processor.AnnotationStore;
 import io.quarkus.arc.processor.BeanInfo;
 import io.quarkus.arc.processor.BuildExtension.Key;
+import io.quarkus.cache.deployment.CacheConfig.CaffeineConfig.CaffeineNamespaceConfig;
 import io.quarkus.cache.runtime.CacheInvalidateAllInterceptor;
 import io.quarkus.cache.runtime.CacheInvalidateInterceptor;
 import io.quarkus.cache.runtime.CacheResultInterceptor;
 import io.quarkus.cache.runtime.caffeine.CaffeineCacheBuildRecorder;
 import io.quarkus.cache.runtime.caffeine.CaffeineCacheInfo;
+import io.quarkus.cache.runtime.caffeine.metrics.CacheMetrics;
+import io.quarkus.cache.runtime.caffeine.metrics.CaffeineCacheCounter;
+import io.quarkus.cache.runtime.caffeine.metrics.CaffeineCacheGauge;
+import io.quarkus.cache.runtime.infinispan.InfinispanCacheBuildRecorder;
+import io.quarkus.deployment.Capabilities;
+import io.quarkus.deployment.Capability;
 import io.quarkus.deployment.Feature;
+import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.ManagedExecutorInitializedBuildItem;
+import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.smallrye.metrics.deployment.spi.MetricBuildItem;
 
 class CacheProcessor {
 
@@ -79,25 +94,161 @@ class CacheProcessor {
     @BuildStep
     @Record(RUNTIME_INIT)
     void recordCachesBuild(CombinedIndexBuildItem combinedIndex, BeanContainerBuildItem beanContainer, CacheConfig config,
-            CaffeineCacheBuildRecorder caffeineRecorder,
+            CaffeineCacheBuildRecorder caffeineRecorder, InfinispanCacheBuildRecorder infinispanRecorder,
             List<AdditionalCacheNameBuildItem> additionalCacheNames,
-            Optional<ManagedExecutorInitializedBuildItem> managedExecutorInitialized) {
-        Set<String> cacheNames = getCacheNames(combinedIndex.getIndex());
-        for (AdditionalCacheNameBuildItem additionalCacheName : additionalCacheNames) {
-            cacheNames.add(additionalCacheName.getName());
-        }
+            Optional<ManagedExecutorInitializedBuildItem> managedExecutorInitialized,
+            Capabilities capabilities) {
+        Set<String> cacheNames = getCacheNames(combinedIndex.getIndex(), additionalCacheNames);
         switch (config.type) {
             case CacheDeploymentConstants.CAFFEINE_CACHE_TYPE:
-                Set<CaffeineCacheInfo> cacheInfos = CaffeineCacheInfoBuilder.build(cacheNames, config);
+                Set<CaffeineCacheInfo> cacheInfos = CaffeineCacheInfoBuilder.build(cacheNames, config,
+                        capabilities.isPresent(Capability.METRICS));
                 caffeineRecorder.buildCaches(managedExecutorInitialized.isPresent(), beanContainer.getValue(), cacheInfos);
                 break;
+            case CacheDeploymentConstants.INFINISPAN_CACHE_TYPE:
+                // The Caffeine configuration is used for the near caches.
+                Set<CaffeineCacheInfo> nearCacheInfos = CaffeineCacheInfoBuilder.build(cacheNames, config, false);
+                infinispanRecorder.buildCaches(managedExecutorInitialized.isPresent(), beanContainer.getValue(),
+                        nearCacheInfos, config.infinispan.nearCacheEnabled, config.infinispan.template.orElse(null));
+                break;
             default:
                 throw new DeploymentException("Unknown cache type: " + config.type);
         }
     }
 
-    private Set<String> getCacheNames(IndexView index) {
+    @BuildStep
+    void infinispan(CacheConfig config, BuildProducer<UnremovableBeanBuildItem> unremovableBeans,
+            BuildProducer<ReflectiveClassBuildItem> reflectiveClasses) {
+        if (!CacheDeploymentConstants.INFINISPAN_CACHE_TYPE.equals(config.type)) {
+            return;
+        }
+        try {
+            Class.forName(CacheDeploymentConstants.REMOTE_CACHE_MANAGER, false, Thread.currentThread().getContextClassLoader());
+        } catch (ClassNotFoundException e) {
+            throw new DeploymentException(
+                    "The " + CacheDeploymentConstants.INFINISPAN_CACHE_TYPE
+                            + " cache type requires the quarkus-infinispan-client extension");
+        }
+        // The remote cache manager is only retrieved programmatically by the recorder.
+        unremovableBeans.produce(UnremovableBeanBuildItem
+                .beanTypes(DotName.createSimple(CacheDeploymentConstants.REMOTE_CACHE_MANAGER)));
+        // The Hot Rod client reads the listener annotations reflectively.
+        reflectiveClasses
+                .produce(new ReflectiveClassBuildItem(true, false, CacheDeploymentConstants.NEAR_CACHE_INVALIDATION_LISTENER));
+    }
+
+    @BuildStep
+    void registerMetrics(CombinedIndexBuildItem combinedIndex, CacheConfig config,
+            List<AdditionalCacheNameBuildItem> additionalCacheNames, BuildProducer<MetricBuildItem> metrics) {
+        if (!CacheDeploymentConstants.CAFFEINE_CACHE_TYPE.equals(config.type)) {
+            return;
+        }
+        Metadata hitsMetadata = Metadata.builder()
+                .withName(CacheMetrics.HITS)
+                .withDescription("Number of times a cache lookup returned a cached value.")
+                .withType(MetricType.COUNTER)
+                .build();
+        Metadata missesMetadata = Metadata.builder()
+                .withName(CacheMetrics.MISSES)
+                .withDescription("Number of times a cache lookup required the cached method to be invoked.")
+                .withType(MetricType.COUNTER)
+                .build();
+        Metadata evictionsMetadata = Metadata.builder()
+                .withName(CacheMetrics.EVICTIONS)
+                .withDescription("Number of entries evicted from the cache because of its size or expiration policies.")
+                .withType(MetricType.COUNTER)
+                .build();
+        Metadata loadFailuresMetadata = Metadata.builder()
+                .withName(CacheMetrics.LOAD_FAILURES)
+                .withDescription("Number of times the cached method invocation threw an exception.")
+                .withType(MetricType.COUNTER)
+                .build();
+        Metadata lockTimeoutsMetadata = Metadata.builder()
+                .withName(CacheMetrics.LOCK_TIMEOUTS)
+                .withDescription(
+                        "Number of times the cached method was invoked without caching its result because of a lock timeout.")
+                .withType(MetricType.COUNTER)
+                .build();
+        Metadata sizeMetadata = Metadata.builder()
+                .withName(CacheMetrics.SIZE)
+                .withDescription("Approximate number of entries in the cache.")
+                .withType(MetricType.GAUGE)
+                .build();
+        Metadata weightMetadata = Metadata.builder()
+                .withName(CacheMetrics.WEIGHT)
+                .withDescription("Total weight of the entries in the cache, as computed by the cache weigher.")
+                .withType(MetricType.GAUGE)
+                .build();
+        Metadata loadTimeMetadata = Metadata.builder()
+                .withName(CacheMetrics.LOAD_TIME)
+                .withDescription("Time spent invoking the cached method to compute missing values.")
+                .withUnit(MetricUnits.NANOSECONDS)
+                .withType(MetricType.TIMER)
+                .build();
+
+        String configRootName = "cache";
+        for (String cacheName : getCacheNames(combinedIndex.getIndex(), additionalCacheNames)) {
+            CaffeineNamespaceConfig namespaceConfig = config.caffeine.namespace.get(cacheName);
+            // metrics are only exposed for the caches which record statistics
+            boolean metricsEnabledForThisCache = namespaceConfig != null && namespaceConfig.statsEnabled;
+            Tag tag = new Tag(CacheMetrics.CACHE_TAG, cacheName);
+            metrics.produce(new MetricBuildItem(hitsMetadata,
+                    new CaffeineCacheCounter(cacheName, "hitCount"),
+                    metricsEnabledForThisCache,
+                    configRootName,
+                    tag));
+            metrics.produce(new MetricBuildItem(missesMetadata,
+                    new CaffeineCacheCounter(cacheName, "missCount"),
+                    metricsEnabledForThisCache,
+                    configRootName,
+                    tag));
+            metrics.produce(new MetricBuildItem(evictionsMetadata,
+                    new CaffeineCacheCounter(cacheName, "evictionCount"),
+                    metricsEnabledForThisCache,
+                    configRootName,
+                    tag));
+            metrics.produce(new MetricBuildItem(loadFailuresMetadata,
+                    new CaffeineCacheCounter(cacheName, "loadFailureCount"),
+                    metricsEnabledForThisCache,
+                    configRootName,
+                    tag));
+            metrics.produce(new MetricBuildItem(lockTimeoutsMetadata,
+                    new CaffeineCacheCounter(cacheName, "lockTimeoutCount"),
+                    metricsEnabledForThisCache,
+                    configRootName,
+                    tag));
+            metrics.produce(new MetricBuildItem(sizeMetadata,
+                    new CaffeineCacheGauge(cacheName, "estimatedSize"),
+                    metricsEnabledForThisCache,
+                    configRootName,
+                    tag));
+            metrics.produce(new MetricBuildItem(loadTimeMetadata,
+                    metricsEnabledForThisCache,
+                    configRootName,
+                    tag));
+            // the weight is known without recording statistics
+            metrics.produce(new MetricBuildItem(weightMetadata,
+                    new CaffeineCacheGauge(cacheName, "weightedSize"),
+                    namespaceConfig != null && namespaceConfig.maximumWeight.isPresent(),
+                    configRootName,
+                    tag));
+        }
+    }
+
+    @BuildStep
+    void registerWeighersForReflection(CacheConfig config, BuildProducer<ReflectiveClassBuildItem> reflectiveClasses) {
+        for (CaffeineNamespaceConfig namespaceConfig : config.caffeine.namespace.values()) {
+            // the weighers are instantiated from their class name at runtime
+            namespaceConfig.weigher.ifPresent(weigher -> reflectiveClasses.produce(new ReflectiveClassBuildItem(false,
+                    false, weigher)));
+        }
+    }
+
+    private Set<String> getCacheNames(IndexView index, List<AdditionalCacheNameBuildItem> additionalCacheNames) {
         Set<String> cacheNames = new HashSet<>();
+        for (AdditionalCacheNameBuildItem additionalCacheName : additionalCacheNames) {
+            cacheNames.add(additionalCacheName.getName());
+        }
         for (DotName cacheAnnotation : API_METHODS_ANNOTATIONS) {
             for (AnnotationInstance annotation : index.getAnnotations(cacheAnnotation)) {
                 if (annotation.target().kind() == METHOD) {
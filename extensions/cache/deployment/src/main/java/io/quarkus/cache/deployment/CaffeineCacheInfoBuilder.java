@@ -3,12 +3,14 @@ package io.quarkus.cache.deployment;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import javax.enterprise.inject.spi.DeploymentException;
+
 import io.quarkus.cache.deployment.CacheConfig.CaffeineConfig.CaffeineNamespaceConfig;
 import io.quarkus.cache.runtime.caffeine.CaffeineCacheInfo;
 
 public class CaffeineCacheInfoBuilder {
 
-    public static Set<CaffeineCacheInfo> build(Set<String> cacheNames, CacheConfig cacheConfig) {
+    public static Set<CaffeineCacheInfo> build(Set<String> cacheNames, CacheConfig cacheConfig, boolean metricsCapability) {
         return cacheNames.stream().map(cacheName -> {
             CaffeineCacheInfo cacheInfo = new CaffeineCacheInfo();
             cacheInfo.name = cacheName;
@@ -17,8 +19,29 @@ public class CaffeineCacheInfoBuilder {
             if (namespaceConfig != null) {
                 namespaceConfig.initialCapacity.ifPresent(capacity -> cacheInfo.initialCapacity = capacity);
                 namespaceConfig.maximumSize.ifPresent(size -> cacheInfo.maximumSize = size);
+                if (namespaceConfig.maximumWeight.isPresent()) {
+                    if (cacheInfo.maximumSize != null) {
+                        throw new DeploymentException("The maximum-size and maximum-weight properties of the [" + cacheName
+                                + "] cache cannot be used together");
+                    }
+                    cacheInfo.maximumWeight = namespaceConfig.maximumWeight.getAsLong();
+                    namespaceConfig.weigher.ifPresent(weigher -> cacheInfo.weigher = weigher);
+                } else if (namespaceConfig.weigher.isPresent()) {
+                    throw new DeploymentException("The weigher property of the [" + cacheName
+                            + "] cache requires the maximum-weight property to be set");
+                }
                 namespaceConfig.expireAfterWrite.ifPresent(delay -> cacheInfo.expireAfterWrite = delay);
                 namespaceConfig.expireAfterAccess.ifPresent(delay -> cacheInfo.expireAfterAccess = delay);
+                namespaceConfig.refreshAfterWrite.ifPresent(delay -> cacheInfo.refreshAfterWrite = delay);
+                if (namespaceConfig.staleWhileRevalidate.isPresent()) {
+                    if (cacheInfo.expireAfterWrite == null) {
+                        throw new DeploymentException("The stale-while-revalidate property of the [" + cacheName
+                                + "] cache requires the expire-after-write property to be set");
+                    }
+                    cacheInfo.staleWhileRevalidate = namespaceConfig.staleWhileRevalidate.get();
+                }
+                cacheInfo.statsEnabled = namespaceConfig.statsEnabled;
+                cacheInfo.metricsEnabled = namespaceConfig.statsEnabled && metricsCapability;
             }
 
             return cacheInfo;
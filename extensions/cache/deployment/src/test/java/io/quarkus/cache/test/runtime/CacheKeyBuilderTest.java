@@ -74,4 +74,38 @@ public class CacheKeyBuilderTest {
         Object compositeKey7 = CacheKeyBuilder.build(Arrays.asList(keyElement1, keyElement2, new BigDecimal(10)));
         assertNotEquals(compositeKey2, compositeKey7);
     }
+
+    @Test
+    public void testKeyFromMethodParameters() {
+        Object[] methodParameterValues = new Object[] { "quarkus", 123L, new int[] { 1, 2 }, Boolean.TRUE, "cache" };
+
+        // A cache key built from a single parameter position should be the parameter value itself.
+        assertTrue(methodParameterValues[3] == CacheKeyBuilder.build(methodParameterValues, new short[] { 3 }));
+        assertThrows(NullPointerException.class, () -> {
+            CacheKeyBuilder.build(new Object[] { "quarkus", null }, new short[] { 1 });
+        }, CacheKeyBuilder.NULL_KEYS_NOT_SUPPORTED_MSG);
+
+        // The key elements should be taken from the given positions, not from the leading parameters.
+        for (short[] positions : new short[][] { { 1, 4 }, { 1, 2, 4 }, { 0, 1, 2, 4 } }) {
+            Object[] expectedKeyElements = new Object[positions.length];
+            for (int i = 0; i < positions.length; i++) {
+                expectedKeyElements[i] = methodParameterValues[positions[i]];
+            }
+            Object expectedKey = CacheKeyBuilder.build(Arrays.asList(expectedKeyElements));
+            Object key = CacheKeyBuilder.build(methodParameterValues, positions);
+            assertEquals(expectedKey, key);
+            assertEquals(expectedKey.hashCode(), key.hashCode());
+        }
+
+        // Array elements should be compared by content.
+        Object key1 = CacheKeyBuilder.build(methodParameterValues, new short[] { 0, 2 });
+        Object key2 = CacheKeyBuilder.build(new Object[] { "quarkus", new int[] { 1, 2 } }, null);
+        assertEquals(key1, key2);
+        assertEquals(key1.hashCode(), key2.hashCode());
+        assertNotEquals(key1, CacheKeyBuilder.build(new Object[] { "quarkus", new int[] { 2, 1 } }, null));
+
+        // Without positions, the key should be composed of all of the method parameters.
+        assertEquals(CacheKeyBuilder.build(Arrays.asList(methodParameterValues)),
+                CacheKeyBuilder.build(methodParameterValues, new short[0]));
+    }
 }
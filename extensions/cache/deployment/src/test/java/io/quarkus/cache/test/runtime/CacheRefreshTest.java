@@ -0,0 +1,177 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.CacheInvalidateAll;
+import io.quarkus.cache.CacheResult;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class CacheRefreshTest {
+
+    private static final String REFRESH_CACHE = "refresh-cache";
+    private static final String STALE_CACHE = "stale-cache";
+    private static final String FAILING_CACHE = "failing-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+            .addAsResource(new StringAsset("quarkus.cache.caffeine.\"" + REFRESH_CACHE + "\".refresh-after-write=0.2S\n"
+                    + "quarkus.cache.caffeine.\"" + STALE_CACHE + "\".expire-after-write=0.2S\n"
+                    + "quarkus.cache.caffeine.\"" + STALE_CACHE + "\".stale-while-revalidate=1H\n"
+                    + "quarkus.cache.caffeine.\"" + FAILING_CACHE + "\".refresh-after-write=0.2S"), "application.properties")
+            .addClass(CachedService.class));
+
+    @Inject
+    CachedService cachedService;
+
+    @Test
+    public void testRefreshAfterWrite() throws InterruptedException {
+        testBackgroundReload(cachedService::refreshCachedMethod);
+    }
+
+    @Test
+    public void testStaleWhileRevalidate() throws InterruptedException {
+        testBackgroundReload(cachedService::staleCachedMethod);
+    }
+
+    @Test
+    public void testFailedRefresh() throws InterruptedException {
+        cachedService.invalidateAll();
+        cachedService.setFailing(false);
+
+        // STEP 1
+        // Action: first @CacheResult-annotated method call.
+        // Expected effect: method invoked and result cached.
+        int value1 = cachedService.failingCachedMethod();
+
+        // STEP 2
+        // Action: same call once the entry is older than the refresh delay, while the method throws.
+        // Expected effect: the stale value is returned and the background reload fails.
+        cachedService.setFailing(true);
+        Thread.sleep(300L);
+        assertEquals(value1, cachedService.failingCachedMethod());
+        awaitAttempts(value1 + 1);
+
+        // STEP 3
+        // Action: same calls after the failed reload.
+        // Expected effect: the stale value is still returned and the next read triggers another reload.
+        long deadline = System.currentTimeMillis() + 5000L;
+        while (cachedService.getAttempts() < value1 + 2) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("The refresh was not retried");
+            }
+            assertEquals(value1, cachedService.failingCachedMethod());
+            Thread.sleep(20L);
+        }
+
+        // STEP 4
+        // Action: same calls once the method no longer throws.
+        // Expected effect: the entry is eventually refreshed.
+        cachedService.setFailing(false);
+        deadline = System.currentTimeMillis() + 5000L;
+        while (cachedService.failingCachedMethod() == value1) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("The cache entry was not refreshed");
+            }
+            Thread.sleep(20L);
+        }
+    }
+
+    private void awaitAttempts(int attempts) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000L;
+        while (cachedService.getAttempts() < attempts) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("The cache entry was not reloaded");
+            }
+            Thread.sleep(20L);
+        }
+    }
+
+    private void testBackgroundReload(Supplier<Integer> cachedMethod) throws InterruptedException {
+        cachedService.invalidateAll();
+        int initialValue = cachedService.getInvocations();
+
+        // STEP 1
+        // Action: first @CacheResult-annotated method call.
+        // Expected effect: method invoked and result cached.
+        int value1 = cachedMethod.get();
+        assertEquals(initialValue + 1, value1);
+
+        // STEP 2
+        // Action: same call once the entry is older than the refresh delay.
+        // Expected effect: the current value is returned while the entry is reloaded in the background.
+        Thread.sleep(300L);
+        int value2 = cachedMethod.get();
+        assertEquals(value1, value2);
+
+        // STEP 3
+        // Action: same call until the background reload completes.
+        // Expected effect: the reloaded value is returned and the method was only invoked once by the reload.
+        long deadline = System.currentTimeMillis() + 5000L;
+        while (cachedMethod.get() == value1) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("The cache entry was not refreshed");
+            }
+            Thread.sleep(20L);
+        }
+        assertEquals(value1 + 1, cachedMethod.get());
+        assertEquals(value1 + 1, cachedService.getInvocations());
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private final AtomicInteger invocations = new AtomicInteger();
+        private final AtomicInteger attempts = new AtomicInteger();
+        private volatile boolean failing;
+
+        @CacheResult(cacheName = REFRESH_CACHE)
+        public Integer refreshCachedMethod() {
+            return invocations.incrementAndGet();
+        }
+
+        @CacheResult(cacheName = STALE_CACHE)
+        public Integer staleCachedMethod() {
+            return invocations.incrementAndGet();
+        }
+
+        @CacheResult(cacheName = FAILING_CACHE)
+        public Integer failingCachedMethod() {
+            int attempt = attempts.incrementAndGet();
+            if (failing) {
+                throw new IllegalStateException("Refresh failure");
+            }
+            return attempt;
+        }
+
+        @CacheInvalidateAll(cacheName = REFRESH_CACHE)
+        @CacheInvalidateAll(cacheName = STALE_CACHE)
+        @CacheInvalidateAll(cacheName = FAILING_CACHE)
+        public void invalidateAll() {
+        }
+
+        public void setFailing(boolean failing) {
+            this.failing = failing;
+        }
+
+        public int getAttempts() {
+            return attempts.get();
+        }
+
+        public int getInvocations() {
+            return invocations.get();
+        }
+    }
+}
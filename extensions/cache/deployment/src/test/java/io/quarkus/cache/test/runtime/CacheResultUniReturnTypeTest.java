@@ -0,0 +1,80 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.CacheResult;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.mutiny.Uni;
+
+public class CacheResultUniReturnTypeTest {
+
+    private static final Object KEY_1 = new Object();
+    private static final Object KEY_2 = new Object();
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().setArchiveProducer(
+            () -> ShrinkWrap.create(JavaArchive.class).addClass(CachedService.class));
+
+    @Inject
+    CachedService cachedService;
+
+    @Test
+    public void testAllCacheAnnotations() {
+        // STEP 1
+        // Action: @CacheResult-annotated method call without any subscription.
+        // Expected effect: method not invoked since the cache lookup is deferred until the Uni is subscribed to.
+        // Verified by: invocations counter.
+        Uni<Object> uni1 = cachedService.cachedMethod(KEY_1);
+        assertEquals(0, cachedService.getInvocations());
+
+        // STEP 2
+        // Action: subscription to the Uni from STEP 1.
+        // Expected effect: method invoked and the Uni item cached.
+        // Verified by: invocations counter and STEP 3.
+        Object value1 = uni1.await().atMost(Duration.ofSeconds(5));
+        assertEquals(1, cachedService.getInvocations());
+
+        // STEP 3
+        // Action: same call as STEP 1 followed by a subscription.
+        // Expected effect: method not invoked and item coming from the cache.
+        // Verified by: invocations counter and same object reference between STEPS 2 and 3 results.
+        Object value2 = cachedService.cachedMethod(KEY_1).await().atMost(Duration.ofSeconds(5));
+        assertEquals(1, cachedService.getInvocations());
+        assertTrue(value1 == value2);
+
+        // STEP 4
+        // Action: same call as STEP 3 with a new key.
+        // Expected effect: method invoked and item cached.
+        // Verified by: invocations counter and different objects references between STEPS 3 and 4 results.
+        Object value3 = cachedService.cachedMethod(KEY_2).await().atMost(Duration.ofSeconds(5));
+        assertEquals(2, cachedService.getInvocations());
+        assertTrue(value2 != value3);
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        private int invocations;
+
+        @CacheResult(cacheName = "test-cache")
+        public Uni<Object> cachedMethod(Object key) {
+            invocations++;
+            return Uni.createFrom().item(new Object());
+        }
+
+        public int getInvocations() {
+            return invocations;
+        }
+    }
+}
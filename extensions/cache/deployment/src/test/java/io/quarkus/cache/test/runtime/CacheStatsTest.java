@@ -0,0 +1,75 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.runtime.CacheRepository;
+import io.quarkus.cache.runtime.caffeine.CaffeineCache;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class CacheStatsTest {
+
+    private static final String STATS_CACHE = "stats-cache";
+    private static final String NO_STATS_CACHE = "no-stats-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+            .addAsResource(new StringAsset("quarkus.cache.caffeine.\"" + STATS_CACHE + "\".stats-enabled=true"),
+                    "application.properties")
+            .addClass(CachedService.class));
+
+    @Inject
+    CachedService cachedService;
+
+    @Inject
+    CacheRepository cacheRepository;
+
+    @Test
+    public void testStats() {
+        cachedService.cachedMethod("foo");
+        cachedService.cachedMethod("foo");
+        cachedService.cachedMethod("bar");
+        cachedService.otherCachedMethod("foo");
+        cachedService.otherCachedMethod("foo");
+
+        CaffeineCache cache = (CaffeineCache) cacheRepository.getCache(STATS_CACHE);
+        assertTrue(cache.isStatsEnabled());
+        CacheStats stats = cache.getStats();
+        assertEquals(1L, stats.hitCount());
+        assertEquals(2L, stats.missCount());
+        assertEquals(2L, stats.loadSuccessCount());
+        assertEquals(0L, cache.getLockTimeoutCount());
+        assertEquals(2L, cache.getEstimatedSize());
+
+        CaffeineCache otherCache = (CaffeineCache) cacheRepository.getCache(NO_STATS_CACHE);
+        assertFalse(otherCache.isStatsEnabled());
+        assertEquals(0L, otherCache.getStats().requestCount());
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        @CacheResult(cacheName = STATS_CACHE)
+        public String cachedMethod(String key) {
+            return key.toUpperCase();
+        }
+
+        @CacheResult(cacheName = NO_STATS_CACHE)
+        public String otherCachedMethod(String key) {
+            return key.toUpperCase();
+        }
+    }
+}
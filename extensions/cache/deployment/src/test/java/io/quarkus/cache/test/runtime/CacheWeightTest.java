@@ -0,0 +1,118 @@
+package io.quarkus.cache.test.runtime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.LongPredicate;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.cache.CacheResult;
+import io.quarkus.cache.CacheWeigher;
+import io.quarkus.cache.runtime.CacheRepository;
+import io.quarkus.cache.runtime.caffeine.CaffeineCache;
+import io.quarkus.cache.runtime.caffeine.DefaultCacheWeigher;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class CacheWeightTest {
+
+    private static final String CUSTOM_WEIGHER_CACHE = "custom-weigher-cache";
+    private static final String DEFAULT_WEIGHER_CACHE = "default-weigher-cache";
+
+    @RegisterExtension
+    static final QuarkusUnitTest TEST = new QuarkusUnitTest().setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+            .addAsResource(new StringAsset("quarkus.cache.caffeine.\"" + CUSTOM_WEIGHER_CACHE + "\".maximum-weight=100\n"
+                    + "quarkus.cache.caffeine.\"" + CUSTOM_WEIGHER_CACHE + "\".weigher=" + LengthWeigher.class.getName() + "\n"
+                    + "quarkus.cache.caffeine.\"" + DEFAULT_WEIGHER_CACHE + "\".maximum-weight=1000000"),
+                    "application.properties")
+            .addClasses(CachedService.class, LengthWeigher.class));
+
+    @Inject
+    CachedService cachedService;
+
+    @Inject
+    CacheRepository cacheRepository;
+
+    @Test
+    public void testCustomWeigher() throws InterruptedException {
+        CaffeineCache cache = (CaffeineCache) cacheRepository.getCache(CUSTOM_WEIGHER_CACHE);
+        assertEquals(100L, cache.getMaximumWeight());
+        assertTrue(cache.getWeigher() instanceof LengthWeigher);
+
+        // STEP 1
+        // Action: two entries with a total weight lower than the maximum weight are cached.
+        // Expected effect: the weighted size is the sum of the entries weights.
+        cachedService.cachedMethod(40);
+        cachedService.cachedMethod(50);
+        // The weighted size is updated asynchronously by the cache maintenance.
+        awaitWeightedSize(cache, weightedSize -> weightedSize == 90L);
+
+        // STEP 2
+        // Action: an entry which makes the total weight exceed the maximum weight is cached.
+        // Expected effect: entries are evicted until the weighted size is lower than the maximum weight.
+        cachedService.cachedMethod(30);
+        awaitWeightedSize(cache, weightedSize -> weightedSize > 0L && weightedSize <= 100L);
+    }
+
+    @Test
+    public void testDefaultWeigher() throws InterruptedException {
+        CaffeineCache cache = (CaffeineCache) cacheRepository.getCache(DEFAULT_WEIGHER_CACHE);
+        assertTrue(cache.getWeigher() instanceof DefaultCacheWeigher);
+
+        CacheWeigher weigher = cache.getWeigher();
+        // Longer strings, arrays and collections should weigh more.
+        assertTrue(weigher.weigh("key", "a") < weigher.weigh("key", "abcdefghijklmnopqrstuvwxyz"));
+        assertTrue(weigher.weigh("key", new byte[10]) < weigher.weigh("key", new byte[1000]));
+        List<String> smallList = Arrays.asList("a", "b");
+        List<String> largeList = Arrays.asList("a", "b", "c", "d", "e", "f");
+        assertTrue(weigher.weigh("key", smallList) < weigher.weigh("key", largeList));
+        assertTrue(weigher.weigh("key", null) > 0);
+
+        cachedService.defaultWeigherCachedMethod("foo");
+        awaitWeightedSize(cache, weightedSize -> weightedSize == weigher.weigh("foo", "FOO"));
+    }
+
+    private static void awaitWeightedSize(CaffeineCache cache, LongPredicate condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000L;
+        while (!condition.test(cache.getWeightedSize())) {
+            if (System.currentTimeMillis() > deadline) {
+                fail("Unexpected weighted size: " + cache.getWeightedSize());
+            }
+            Thread.sleep(20L);
+        }
+    }
+
+    @ApplicationScoped
+    static class CachedService {
+
+        @CacheResult(cacheName = CUSTOM_WEIGHER_CACHE)
+        public String cachedMethod(int length) {
+            char[] chars = new char[length];
+            Arrays.fill(chars, 'x');
+            return new String(chars);
+        }
+
+        @CacheResult(cacheName = DEFAULT_WEIGHER_CACHE)
+        public String defaultWeigherCachedMethod(String key) {
+            return key.toUpperCase();
+        }
+    }
+
+    public static class LengthWeigher implements CacheWeigher {
+
+        @Override
+        public int weigh(Object key, Object value) {
+            return ((String) value).length();
+        }
+    }
+}
@@ -23,6 +23,10 @@ import javax.enterprise.util.Nonbinding;
  * a given delay. The lock timeout is disabled by default, meaning the lock is never interrupted. See the parameter Javadoc for
  * more details.
  * <p>
+ * If the method returns a {@link java.util.concurrent.CompletionStage CompletionStage} or a Mutiny {@code Uni}, the result of
+ * the asynchronous computation is cached instead of the returned object itself and the cache lookup never blocks the calling
+ * thread. Concurrent invocations share the same in-flight computation and the {@code lockTimeout} parameter is ignored.
+ * <p>
  * This annotation cannot be used on a method returning {@code void}. It can be combined with multiple other caching
  * annotations on a single method. Caching operations will always be executed in the same order: {@link CacheInvalidateAll}
  * first, then {@link CacheInvalidate} and finally {@link CacheResult}.
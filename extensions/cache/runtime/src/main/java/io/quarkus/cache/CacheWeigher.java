@@ -0,0 +1,22 @@
+package io.quarkus.cache;
+
+/**
+ * Computes the weight of the cache entries when a cache is bounded with the {@code maximum-weight} configuration property.
+ * <p>
+ * An implementation can be selected for a cache with the {@code weigher} configuration property. It must be a public class
+ * with a public no-args constructor and its {@link #weigh(Object, Object)} method must be thread-safe. The weight of an entry
+ * is computed once, when the entry is stored in the cache.
+ */
+@FunctionalInterface
+public interface CacheWeigher {
+
+    /**
+     * Returns the weight of a cache entry. The weight unit is chosen by the implementation, it could for example be an
+     * estimated number of bytes.
+     * 
+     * @param key cache key
+     * @param value cached value, may be {@code null} if the cached method returned {@code null}
+     * @return non-negative weight of the entry
+     */
+    int weigh(Object key, Object value);
+}
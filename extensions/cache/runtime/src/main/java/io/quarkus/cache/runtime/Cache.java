@@ -0,0 +1,59 @@
+package io.quarkus.cache.runtime;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Cache provider SPI used by the caching annotations interceptors. Each cache provider ({@code quarkus.cache.type}) builds
+ * its own implementation of this interface for each cache name found at build time and registers it in the
+ * {@link CacheRepository}.
+ * <p>
+ * Implementations are responsible for the conversion of {@code null} values with the {@link NullValueConverter} if the
+ * underlying caching provider does not support them.
+ */
+public interface Cache {
+
+    /**
+     * Returns the unique name of the cache.
+     * 
+     * @return cache name
+     */
+    String getName();
+
+    /**
+     * Returns the value associated with the given key. If the key is not already associated with a value, the given loader is
+     * invoked and its result is stored in the cache. Concurrent invocations with the same missing key must not invoke the
+     * loader more than once unless the lock timeout is exceeded.
+     * 
+     * @param key cache key
+     * @param valueLoader loader of the missing value
+     * @param lockTimeout delay in milliseconds before the lock on cache miss is interrupted, {@code 0} means no timeout
+     * @return cached value
+     * @throws Exception if the value loader threw an exception
+     */
+    Object get(Object key, Callable<Object> valueLoader, long lockTimeout) throws Exception;
+
+    /**
+     * Returns a future of the value associated with the given key. If the key is not already associated with a value, the
+     * given loader is invoked and the result of the {@link CompletionStage} it returns is stored in the cache once it is
+     * completed. This method must never block.
+     * 
+     * @param key cache key
+     * @param asyncValueLoader loader of the missing value, returning a {@link CompletionStage}
+     * @return future of the cached value
+     */
+    CompletableFuture<Object> getAsync(Object key, Callable<CompletionStage<?>> asyncValueLoader);
+
+    /**
+     * Removes the entry associated with the given key from the cache.
+     * 
+     * @param key cache key
+     */
+    void invalidate(Object key);
+
+    /**
+     * Removes all entries from the cache.
+     */
+    void invalidateAll();
+}
@@ -2,7 +2,6 @@ package io.quarkus.cache.runtime;
 
 import java.lang.annotation.Annotation;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.List;
 
 import javax.inject.Inject;
@@ -29,8 +28,15 @@ public abstract class CacheInterceptor {
         return bindings;
     }
 
+    @SuppressWarnings("unchecked")
     protected <T> T getInterceptorBinding(InvocationContext context, Class<T> bindingClass) {
-        return getInterceptorBindings(context, bindingClass).get(0);
+        // This method is called on each intercepted invocation so it returns the first match without building a list.
+        for (Annotation binding : InterceptorBindings.getInterceptorBindings(context)) {
+            if (bindingClass.isInstance(binding)) {
+                return (T) binding;
+            }
+        }
+        throw new IllegalStateException("No interceptor binding found for " + bindingClass.getName());
     }
 
     protected Object buildCacheKey(String cacheName, short[] cacheKeyParameterPositions, Object[] methodParameterValues) {
@@ -38,18 +44,12 @@ public abstract class CacheInterceptor {
         if (methodParameterValues.length == 0) {
             return CacheKeyBuilder.buildDefault(cacheName);
         } else {
-            List<Object> keyElements = new ArrayList<>();
-            // If at least one of the method parameters is annotated with @CacheKey, then the key is composed of all
-            // @CacheKey-annotated parameters that were identified at build time.
-            if (cacheKeyParameterPositions.length > 0) {
-                for (int i = 0; i < cacheKeyParameterPositions.length; i++) {
-                    keyElements.add(methodParameterValues[i]);
-                }
-            } else {
-                // Otherwise, the key is composed of all of the method parameters.
-                keyElements.addAll(Arrays.asList(methodParameterValues));
-            }
-            return CacheKeyBuilder.build(keyElements);
+            /*
+             * If at least one of the method parameters is annotated with {@code @CacheKey}, then the key is composed of all
+             * the annotated parameters that were identified at build time. Otherwise, the key is composed of all of the
+             * method parameters.
+             */
+            return CacheKeyBuilder.build(methodParameterValues, cacheKeyParameterPositions);
         }
     }
 }
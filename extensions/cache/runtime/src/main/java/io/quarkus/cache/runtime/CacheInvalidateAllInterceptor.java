@@ -7,8 +7,6 @@ import javax.interceptor.InvocationContext;
 
 import org.jboss.logging.Logger;
 
-import io.quarkus.cache.runtime.caffeine.CaffeineCache;
-
 @CacheInvalidateAllInterceptorBinding
 @Interceptor
 @Priority(CacheInterceptor.BASE_PRIORITY)
@@ -20,7 +18,7 @@ public class CacheInvalidateAllInterceptor extends CacheInterceptor {
     public Object intercept(InvocationContext context) throws Exception {
         for (CacheInvalidateAllInterceptorBinding binding : getInterceptorBindings(context,
                 CacheInvalidateAllInterceptorBinding.class)) {
-            CaffeineCache cache = cacheRepository.getCache(binding.cacheName());
+            Cache cache = cacheRepository.getCache(binding.cacheName());
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debugf("Invalidating all entries from cache [%s]", cache.getName());
             }
@@ -7,8 +7,6 @@ import javax.interceptor.InvocationContext;
 
 import org.jboss.logging.Logger;
 
-import io.quarkus.cache.runtime.caffeine.CaffeineCache;
-
 @CacheInvalidateInterceptorBinding
 @Interceptor
 @Priority(CacheInterceptor.BASE_PRIORITY + 1)
@@ -24,7 +22,7 @@ public class CacheInvalidateInterceptor extends CacheInterceptor {
             if (key == null) {
                 key = buildCacheKey(binding.cacheName(), binding.cacheKeyParameterPositions(), context.getParameters());
             }
-            CaffeineCache cache = cacheRepository.getCache(binding.cacheName());
+            Cache cache = cacheRepository.getCache(binding.cacheName());
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debugf("Invalidating entry with key [%s] from cache [%s]", key, cache.getName());
             }
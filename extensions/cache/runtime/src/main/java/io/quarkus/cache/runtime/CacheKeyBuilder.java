@@ -1,5 +1,6 @@
 package io.quarkus.cache.runtime;
 
+import java.io.Serializable;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
@@ -29,17 +30,81 @@ public class CacheKeyBuilder {
     public static Object build(List<Object> keyElements) {
         if (keyElements == null || keyElements.isEmpty()) {
             throw new IllegalArgumentException("At least one key element is required to build a cache key");
-        } else if (keyElements.size() == 1) {
-            if (keyElements.get(0) == null) {
-                throw new NullPointerException(NULL_KEYS_NOT_SUPPORTED_MSG);
+        }
+        return build(keyElements.toArray(), null);
+    }
+
+    /**
+     * Builds a cache key from the method parameters values found at the given positions, or from all of the method parameters
+     * values if no positions are given. The method parameters values array must contain at least one element.
+     * <p>
+     * This method is called on each intercepted invocation, so it does not allocate any intermediate collection: a cache key
+     * with one element is the element itself and a composite cache key is a single object with a precomputed hash code.
+     * 
+     * @param methodParameterValues method parameters values
+     * @param keyParameterPositions positions of the method parameters which are part of the key, may be {@code null} or empty
+     * @return cache key
+     */
+    public static Object build(Object[] methodParameterValues, short[] keyParameterPositions) {
+        if (keyParameterPositions == null || keyParameterPositions.length == 0) {
+            switch (methodParameterValues.length) {
+                case 0:
+                    throw new IllegalArgumentException("At least one key element is required to build a cache key");
+                case 1:
+                    return buildSimple(methodParameterValues[0]);
+                case 2:
+                    return new CompositeCacheKey2(methodParameterValues[0], methodParameterValues[1]);
+                case 3:
+                    return new CompositeCacheKey3(methodParameterValues[0], methodParameterValues[1],
+                            methodParameterValues[2]);
+                default:
+                    // The array is copied since it could be modified by another interceptor after the key is built.
+                    return new CompositeCacheKey(methodParameterValues.clone());
             }
-            return keyElements.get(0);
-        } else {
-            return new CompositeCacheKey(keyElements);
         }
+        switch (keyParameterPositions.length) {
+            case 1:
+                return buildSimple(methodParameterValues[keyParameterPositions[0]]);
+            case 2:
+                return new CompositeCacheKey2(methodParameterValues[keyParameterPositions[0]],
+                        methodParameterValues[keyParameterPositions[1]]);
+            case 3:
+                return new CompositeCacheKey3(methodParameterValues[keyParameterPositions[0]],
+                        methodParameterValues[keyParameterPositions[1]], methodParameterValues[keyParameterPositions[2]]);
+            default:
+                Object[] keyElements = new Object[keyParameterPositions.length];
+                for (int i = 0; i < keyParameterPositions.length; i++) {
+                    keyElements[i] = methodParameterValues[keyParameterPositions[i]];
+                }
+                return new CompositeCacheKey(keyElements);
+        }
+    }
+
+    private static Object buildSimple(Object keyElement) {
+        if (keyElement == null) {
+            throw new NullPointerException(NULL_KEYS_NOT_SUPPORTED_MSG);
+        }
+        return keyElement;
+    }
+
+    /*
+     * Same algorithm as Arrays#deepHashCode for a single element, arrays elements are only expected in rare cases so the
+     * temporary array allocation is acceptable there.
+     */
+    private static int hash(Object keyElement) {
+        if (keyElement == null) {
+            return 0;
+        }
+        if (keyElement.getClass().isArray()) {
+            return Arrays.deepHashCode(new Object[] { keyElement }) - 31;
+        }
+        return keyElement.hashCode();
     }
 
-    private static class DefaultCacheKey {
+    // The cache keys may be stored in a remote cache so they have to be serializable.
+    private static class DefaultCacheKey implements Serializable {
+
+        private static final long serialVersionUID = 1L;
 
         private final String cacheName;
 
@@ -65,17 +130,90 @@ public class CacheKeyBuilder {
         }
     }
 
-    private static class CompositeCacheKey {
+    private static class CompositeCacheKey2 implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Object keyElement1;
+        private final Object keyElement2;
+        private final int hashCode;
+
+        public CompositeCacheKey2(Object keyElement1, Object keyElement2) {
+            this.keyElement1 = keyElement1;
+            this.keyElement2 = keyElement2;
+            this.hashCode = 31 * (31 + hash(keyElement1)) + hash(keyElement2);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (CompositeCacheKey2.class.isInstance(obj)) {
+                final CompositeCacheKey2 other = (CompositeCacheKey2) obj;
+                return hashCode == other.hashCode && Objects.deepEquals(keyElement1, other.keyElement1)
+                        && Objects.deepEquals(keyElement2, other.keyElement2);
+            }
+            return false;
+        }
+    }
+
+    private static class CompositeCacheKey3 implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Object keyElement1;
+        private final Object keyElement2;
+        private final Object keyElement3;
+        private final int hashCode;
+
+        public CompositeCacheKey3(Object keyElement1, Object keyElement2, Object keyElement3) {
+            this.keyElement1 = keyElement1;
+            this.keyElement2 = keyElement2;
+            this.keyElement3 = keyElement3;
+            this.hashCode = 31 * (31 * (31 + hash(keyElement1)) + hash(keyElement2)) + hash(keyElement3);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (CompositeCacheKey3.class.isInstance(obj)) {
+                final CompositeCacheKey3 other = (CompositeCacheKey3) obj;
+                return hashCode == other.hashCode && Objects.deepEquals(keyElement1, other.keyElement1)
+                        && Objects.deepEquals(keyElement2, other.keyElement2)
+                        && Objects.deepEquals(keyElement3, other.keyElement3);
+            }
+            return false;
+        }
+    }
+
+    private static class CompositeCacheKey implements Serializable {
+
+        private static final long serialVersionUID = 1L;
 
         private final Object[] keyElements;
+        private final int hashCode;
 
-        public CompositeCacheKey(List<Object> keyElements) {
-            this.keyElements = keyElements.toArray(new Object[0]);
+        public CompositeCacheKey(Object[] keyElements) {
+            this.keyElements = keyElements;
+            this.hashCode = Arrays.deepHashCode(keyElements);
         }
 
         @Override
         public int hashCode() {
-            return Arrays.deepHashCode(keyElements);
+            return hashCode;
         }
 
         @Override
@@ -85,7 +223,7 @@ public class CacheKeyBuilder {
             }
             if (CompositeCacheKey.class.isInstance(obj)) {
                 final CompositeCacheKey other = (CompositeCacheKey) obj;
-                return Arrays.deepEquals(keyElements, other.keyElements);
+                return hashCode == other.hashCode && Arrays.deepEquals(keyElements, other.keyElements);
             }
             return false;
         }
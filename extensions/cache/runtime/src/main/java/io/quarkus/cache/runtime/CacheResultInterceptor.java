@@ -1,5 +1,7 @@
 package io.quarkus.cache.runtime;
 
+import java.util.concurrent.CompletionStage;
+
 import javax.annotation.Priority;
 import javax.interceptor.AroundInvoke;
 import javax.interceptor.Interceptor;
@@ -7,8 +9,6 @@ import javax.interceptor.InvocationContext;
 
 import org.jboss.logging.Logger;
 
-import io.quarkus.cache.runtime.caffeine.CaffeineCache;
-
 @CacheResultInterceptorBinding
 @Interceptor
 @Priority(CacheInterceptor.BASE_PRIORITY + 2)
@@ -20,10 +20,16 @@ public class CacheResultInterceptor extends CacheInterceptor {
     public Object intercept(InvocationContext context) throws Exception {
         CacheResultInterceptorBinding binding = getInterceptorBinding(context, CacheResultInterceptorBinding.class);
         Object key = buildCacheKey(binding.cacheName(), binding.cacheKeyParameterPositions(), context.getParameters());
-        CaffeineCache cache = cacheRepository.getCache(binding.cacheName());
+        Cache cache = cacheRepository.getCache(binding.cacheName());
         if (LOGGER.isDebugEnabled()) {
             LOGGER.debugf("Loading entry with key [%s] from cache [%s]", key, cache.getName());
         }
+        if (binding.completionStageReturnType()) {
+            // The lock timeout is irrelevant here since the value computation is never awaited.
+            return cache.getAsync(key, () -> (CompletionStage<?>) context.proceed());
+        } else if (binding.uniReturnType()) {
+            return UniCacheResult.get(cache, key, context);
+        }
         return cache.get(key, () -> context.proceed(), binding.lockTimeout());
     }
 }
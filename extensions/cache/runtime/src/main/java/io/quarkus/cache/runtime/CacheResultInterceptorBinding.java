@@ -21,4 +21,16 @@ public @interface CacheResultInterceptorBinding {
 
     @Nonbinding
     long lockTimeout() default 0;
+
+    /**
+     * Whether the intercepted method returns a {@link java.util.concurrent.CompletionStage}. This is detected at build time.
+     */
+    @Nonbinding
+    boolean completionStageReturnType() default false;
+
+    /**
+     * Whether the intercepted method returns a Mutiny {@code Uni}. This is detected at build time.
+     */
+    @Nonbinding
+    boolean uniReturnType() default false;
 }
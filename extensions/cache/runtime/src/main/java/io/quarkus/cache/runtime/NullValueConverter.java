@@ -1,13 +1,23 @@
 package io.quarkus.cache.runtime;
 
+import java.io.Serializable;
+
 /**
  * This class is used to allow the storage of {@code null} values in the Quarkus cache while it is forbidden by the underlying
  * caching provider.
  */
 public class NullValueConverter {
 
-    private static final class NullValue {
+    private static final class NullValue implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
         public static Object INSTANCE = new NullValue();
+
+        // The value may be stored in a remote cache so the deserialized instance has to be replaced with the singleton.
+        private Object readResolve() {
+            return INSTANCE;
+        }
     }
 
     public static Object toCacheValue(Object value) {
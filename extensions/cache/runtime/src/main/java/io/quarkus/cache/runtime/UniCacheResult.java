@@ -0,0 +1,22 @@
+package io.quarkus.cache.runtime;
+
+import javax.interceptor.InvocationContext;
+
+import io.smallrye.mutiny.Uni;
+
+/**
+ * This class is kept separate from {@link CacheResultInterceptor} so that Mutiny is only loaded when a method annotated with
+ * {@link io.quarkus.cache.CacheResult CacheResult} actually returns a {@link Uni}.
+ */
+class UniCacheResult {
+
+    static Uni<Object> get(Cache cache, Object key, InvocationContext context) {
+        /*
+         * The cache lookup is deferred until the returned Uni is subscribed to. On cache miss, the cached method is invoked and
+         * the item emitted by the Uni it returns is stored in the cache. Concurrent subscribers share the same in-flight
+         * computation.
+         */
+        return Uni.createFrom().completionStage(
+                () -> cache.getAsync(key, () -> ((Uni<?>) context.proceed()).subscribeAsCompletionStage()));
+    }
+}
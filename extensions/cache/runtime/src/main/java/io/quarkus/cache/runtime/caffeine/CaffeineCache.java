@@ -3,18 +3,33 @@ package io.quarkus.cache.runtime.caffeine;
 import static io.quarkus.cache.runtime.NullValueConverter.fromCacheValue;
 import static io.quarkus.cache.runtime.NullValueConverter.toCacheValue;
 
+import java.lang.reflect.InvocationTargetException;
 import java.time.Duration;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Supplier;
 
+import org.jboss.logging.Logger;
+
 import com.github.benmanes.caffeine.cache.AsyncCache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.quarkus.cache.CacheWeigher;
+import io.quarkus.cache.runtime.Cache;
+import io.quarkus.cache.runtime.caffeine.metrics.MetricsStatsCounter;
+
+public class CaffeineCache implements Cache {
 
-public class CaffeineCache {
+    private static final Logger LOGGER = Logger.getLogger(CaffeineCache.class);
 
     private AsyncCache<Object, Object> cache;
 
@@ -24,10 +39,30 @@ public class CaffeineCache {
 
     private Long maximumSize;
 
+    private Long maximumWeight;
+
+    private CacheWeigher weigher;
+
     private Duration expireAfterWrite;
 
     private Duration expireAfterAccess;
 
+    private Duration refreshAfterWrite;
+
+    private Duration staleWhileRevalidate;
+
+    /*
+     * Age in nanoseconds after which an entry is reloaded in the background while its current value is still returned. A
+     * negative value means that the entries are never refreshed and that the cached values are not wrapped.
+     */
+    private long refreshNanos = -1L;
+
+    private Executor refreshExecutor;
+
+    private boolean statsEnabled;
+
+    private final LongAdder lockTimeoutCount = new LongAdder();
+
     public CaffeineCache(CaffeineCacheInfo cacheInfo, Executor executor) {
         this.name = cacheInfo.name;
         Caffeine<Object, Object> builder = Caffeine.newBuilder();
@@ -42,20 +77,54 @@ public class CaffeineCache {
             this.maximumSize = cacheInfo.maximumSize;
             builder.maximumSize(cacheInfo.maximumSize);
         }
+        if (cacheInfo.maximumWeight != null) {
+            this.maximumWeight = cacheInfo.maximumWeight;
+            this.weigher = cacheInfo.weigher == null ? new DefaultCacheWeigher() : newWeigher(cacheInfo.weigher);
+            CacheWeigher entryWeigher = weigher;
+            // The stored values may be wrapped so the weigher is given the value returned by the cached method.
+            builder.maximumWeight(cacheInfo.maximumWeight).weigher((key, value) -> entryWeigher.weigh(key,
+                    fromCacheValue(value instanceof TimestampedValue ? ((TimestampedValue) value).value : value)));
+        }
         if (cacheInfo.expireAfterWrite != null) {
             this.expireAfterWrite = cacheInfo.expireAfterWrite;
-            builder.expireAfterWrite(cacheInfo.expireAfterWrite);
+            if (cacheInfo.staleWhileRevalidate != null) {
+                // The entries are kept longer than expireAfterWrite so that their stale value can be served while reloading.
+                this.staleWhileRevalidate = cacheInfo.staleWhileRevalidate;
+                builder.expireAfterWrite(cacheInfo.expireAfterWrite.plus(cacheInfo.staleWhileRevalidate));
+                refreshNanos = cacheInfo.expireAfterWrite.toNanos();
+            } else {
+                builder.expireAfterWrite(cacheInfo.expireAfterWrite);
+            }
         }
         if (cacheInfo.expireAfterAccess != null) {
             this.expireAfterAccess = cacheInfo.expireAfterAccess;
             builder.expireAfterAccess(cacheInfo.expireAfterAccess);
         }
+        if (cacheInfo.refreshAfterWrite != null) {
+            this.refreshAfterWrite = cacheInfo.refreshAfterWrite;
+            long nanos = cacheInfo.refreshAfterWrite.toNanos();
+            refreshNanos = refreshNanos < 0L ? nanos : Math.min(refreshNanos, nanos);
+        }
+        if (refreshNanos >= 0L) {
+            refreshExecutor = executor == null ? ForkJoinPool.commonPool() : executor;
+        }
+        if (cacheInfo.statsEnabled) {
+            this.statsEnabled = true;
+            if (cacheInfo.metricsEnabled) {
+                // The metrics stats counter also feeds the load time percentiles of the cache timer metric.
+                builder.recordStats(() -> new MetricsStatsCounter(cacheInfo.name));
+            } else {
+                builder.recordStats();
+            }
+        }
         cache = builder.buildAsync();
     }
 
+    @Override
     public Object get(Object key, Callable<Object> valueLoader, long lockTimeout) throws Exception {
         if (lockTimeout <= 0) {
-            return fromCacheValue(cache.synchronous().get(key, k -> new MappingSupplier(valueLoader).get()));
+            Object value = cache.synchronous().get(key, k -> timestamp(new MappingSupplier(valueLoader).get()));
+            return fromCacheValue(refreshIfNeeded(key, value, valueLoader));
         }
 
         // The lock timeout logic starts here.
@@ -69,39 +138,196 @@ public class CaffeineCache {
 
         CompletableFuture<Object> future = cache.get(key, (k, executor) -> {
             isCurrentThreadComputation[0] = true;
-            return CompletableFuture.supplyAsync(new MappingSupplier(valueLoader), executor);
+            MappingSupplier mappingSupplier = new MappingSupplier(valueLoader);
+            return CompletableFuture.supplyAsync(() -> timestamp(mappingSupplier.get()), executor);
         });
 
         if (isCurrentThreadComputation[0]) {
             // The value is missing and its computation was started from the current thread.
             // We'll wait for the result no matter how long it takes.
-            return fromCacheValue(future.get());
+            return fromCacheValue(refreshIfNeeded(key, future.get(), valueLoader));
         } else {
             // The value is either already present in the cache or missing and its computation was started from another thread.
             // We want to retrieve it from the cache within the lock timeout delay.
             try {
-                return fromCacheValue(future.get(lockTimeout, TimeUnit.MILLISECONDS));
+                return fromCacheValue(refreshIfNeeded(key, future.get(lockTimeout, TimeUnit.MILLISECONDS), valueLoader));
             } catch (TimeoutException e) {
                 // Timeout triggered! We don't want to wait any longer for the value computation and we'll simply invoke the
                 // cached method and return its result without caching it.
-                // TODO: Add statistics here to monitor the timeout.
+                if (statsEnabled) {
+                    lockTimeoutCount.increment();
+                }
                 return valueLoader.call();
             }
         }
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * Concurrent callers share the same in-flight future. If the entry has to be refreshed, the asynchronous value loader is
+     * called again and the current value is returned without waiting for the new one.
+     */
+    @Override
+    public CompletableFuture<Object> getAsync(Object key, Callable<CompletionStage<?>> asyncValueLoader) {
+        return cache.get(key, (k, executor) -> {
+            CompletionStage<?> stage;
+            try {
+                stage = asyncValueLoader.call();
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+            if (stage == null) {
+                return CompletableFuture.completedFuture(timestamp(toCacheValue(null)));
+            }
+            // A null value would be considered as a failed computation by Caffeine so it has to be converted first.
+            return stage.<Object> thenApply(value -> timestamp(toCacheValue(value))).toCompletableFuture();
+        }).thenApply(value -> fromCacheValue(refreshIfNeededAsync(key, value, asyncValueLoader)));
+    }
+
+    private Object timestamp(Object cacheValue) {
+        return refreshNanos < 0L ? cacheValue : new TimestampedValue(cacheValue, System.nanoTime());
+    }
+
+    /*
+     * Returns the unwrapped value of a cache entry after starting its background reload if the entry is older than the refresh
+     * delay. Only one reload can be started for a given cached value.
+     */
+    private Object refreshIfNeeded(Object key, Object storedValue, Callable<Object> valueLoader) {
+        if (!(storedValue instanceof TimestampedValue)) {
+            return storedValue;
+        }
+        TimestampedValue timestampedValue = (TimestampedValue) storedValue;
+        if (timestampedValue.shouldRefresh(refreshNanos)) {
+            try {
+                refreshExecutor.execute(() -> {
+                    try {
+                        replace(key, timestampedValue, toCacheValue(valueLoader.call()));
+                    } catch (Throwable t) {
+                        refreshFailed(key, timestampedValue, t);
+                    }
+                });
+            } catch (RuntimeException e) {
+                // The executor rejected the task.
+                refreshFailed(key, timestampedValue, e);
+            }
+        }
+        return timestampedValue.value;
+    }
+
+    private Object refreshIfNeededAsync(Object key, Object storedValue, Callable<CompletionStage<?>> asyncValueLoader) {
+        if (!(storedValue instanceof TimestampedValue)) {
+            return storedValue;
+        }
+        TimestampedValue timestampedValue = (TimestampedValue) storedValue;
+        if (timestampedValue.shouldRefresh(refreshNanos)) {
+            try {
+                CompletionStage<?> stage = asyncValueLoader.call();
+                if (stage == null) {
+                    replace(key, timestampedValue, toCacheValue(null));
+                } else {
+                    stage.whenComplete((value, failure) -> {
+                        if (failure == null) {
+                            replace(key, timestampedValue, toCacheValue(value));
+                        } else {
+                            refreshFailed(key, timestampedValue, failure);
+                        }
+                    });
+                }
+            } catch (Throwable t) {
+                refreshFailed(key, timestampedValue, t);
+            }
+        }
+        return timestampedValue.value;
+    }
+
+    private void replace(Object key, TimestampedValue staleValue, Object cacheValue) {
+        CompletableFuture<Object> current = cache.getIfPresent(key);
+        /*
+         * The new value is only stored if the stale value is still the current one. If the entry was invalidated or replaced
+         * while the value was reloading, the reloaded value is discarded.
+         */
+        if (current != null && current.getNow(null) == staleValue) {
+            cache.asMap().replace(key, current, CompletableFuture.completedFuture(timestamp(cacheValue)));
+        }
+    }
+
+    private void refreshFailed(Object key, TimestampedValue staleValue, Throwable failure) {
+        // Logged as a warning since a reload failing every time would otherwise go unnoticed while the stale value is served.
+        LOGGER.warnf(failure, "Refresh of key [%s] failed in cache [%s], the current value is kept", key, name);
+        // The stale value is kept and the next read will try again to refresh it.
+        staleValue.refreshing.set(false);
+    }
+
+    @Override
     public void invalidate(Object key) {
         cache.synchronous().invalidate(key);
     }
 
+    @Override
     public void invalidateAll() {
         cache.synchronous().invalidateAll();
     }
 
+    @Override
     public String getName() {
         return name;
     }
 
+    public boolean isStatsEnabled() {
+        return statsEnabled;
+    }
+
+    /**
+     * Returns a snapshot of the statistics recorded by this cache. All values are zero unless the statistics recording was
+     * enabled with the {@code stats-enabled} configuration property.
+     * 
+     * @return cache statistics snapshot
+     */
+    public CacheStats getStats() {
+        return cache.synchronous().stats();
+    }
+
+    /**
+     * Returns the number of times a value computation was not awaited because the {@code lockTimeout} delay was exceeded,
+     * leading to an invocation of the cached method without caching its result.
+     * 
+     * @return lock timeouts count
+     */
+    public long getLockTimeoutCount() {
+        return lockTimeoutCount.sum();
+    }
+
+    public long getEstimatedSize() {
+        return cache.synchronous().estimatedSize();
+    }
+
+    /**
+     * Returns the total weight of the entries of this cache, or zero if the cache is not bounded with the
+     * {@code maximum-weight} configuration property.
+     * 
+     * @return weighted size
+     */
+    public long getWeightedSize() {
+        return cache.synchronous().policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L);
+    }
+
+    private static CacheWeigher newWeigher(String className) {
+        try {
+            Class<?> weigherClass = Class.forName(className, true, Thread.currentThread().getContextClassLoader());
+            if (!CacheWeigher.class.isAssignableFrom(weigherClass)) {
+                throw new IllegalStateException("Not a cache weigher: " + className);
+            }
+            return (CacheWeigher) weigherClass.getDeclaredConstructor().newInstance();
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException("Unable to create the cache weigher " + className, e.getCause());
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to create the cache weigher " + className, e);
+        }
+    }
+
     // For testing purposes only.
     public Integer getInitialCapacity() {
         return initialCapacity;
@@ -112,6 +338,16 @@ public class CaffeineCache {
         return maximumSize;
     }
 
+    // For testing purposes only.
+    public Long getMaximumWeight() {
+        return maximumWeight;
+    }
+
+    // For testing purposes only.
+    public CacheWeigher getWeigher() {
+        return weigher;
+    }
+
     // For testing purposes only.
     public Duration getExpireAfterWrite() {
         return expireAfterWrite;
@@ -122,6 +358,34 @@ public class CaffeineCache {
         return expireAfterAccess;
     }
 
+    // For testing purposes only.
+    public Duration getRefreshAfterWrite() {
+        return refreshAfterWrite;
+    }
+
+    // For testing purposes only.
+    public Duration getStaleWhileRevalidate() {
+        return staleWhileRevalidate;
+    }
+
+    private static class TimestampedValue {
+
+        private final Object value;
+
+        private final long writeTime;
+
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        public TimestampedValue(Object value, long writeTime) {
+            this.value = value;
+            this.writeTime = writeTime;
+        }
+
+        public boolean shouldRefresh(long refreshNanos) {
+            return System.nanoTime() - writeTime >= refreshNanos && refreshing.compareAndSet(false, true);
+        }
+    }
+
     private static class MappingSupplier implements Supplier<Object> {
 
         private final Callable<?> valueLoader;
@@ -8,6 +8,7 @@ import org.eclipse.microprofile.context.ManagedExecutor;
 import org.jboss.logging.Logger;
 
 import io.quarkus.arc.runtime.BeanContainer;
+import io.quarkus.cache.runtime.Cache;
 import io.quarkus.cache.runtime.CacheRepository;
 import io.quarkus.runtime.annotations.Recorder;
 
@@ -19,7 +20,7 @@ public class CaffeineCacheBuildRecorder {
     public void buildCaches(boolean managedExecutorInitialized, BeanContainer beanContainer,
             Set<CaffeineCacheInfo> cacheInfos) {
         // The number of caches is known at build time so we can use fixed initialCapacity and loadFactor for the caches map.
-        Map<String, CaffeineCache> caches = new HashMap<>(cacheInfos.size() + 1, 1.0F);
+        Map<String, Cache> caches = new HashMap<>(cacheInfos.size() + 1, 1.0F);
 
         ManagedExecutor managedExecutor = null;
         if (managedExecutorInitialized) {
@@ -29,9 +30,11 @@ public class CaffeineCacheBuildRecorder {
         for (CaffeineCacheInfo cacheInfo : cacheInfos) {
             if (LOGGER.isDebugEnabled()) {
                 LOGGER.debugf(
-                        "Building Caffeine cache [%s] with [initialCapacity=%s], [maximumSize=%s], [expireAfterWrite=%s] and [expireAfterAccess=%s]",
-                        cacheInfo.name, cacheInfo.initialCapacity, cacheInfo.maximumSize, cacheInfo.expireAfterWrite,
-                        cacheInfo.expireAfterAccess);
+                        "Building Caffeine cache [%s] with [initialCapacity=%s], [maximumSize=%s], [maximumWeight=%s], [expireAfterWrite=%s], [expireAfterAccess=%s], [refreshAfterWrite=%s], [staleWhileRevalidate=%s] and [statsEnabled=%s]",
+                        cacheInfo.name, cacheInfo.initialCapacity, cacheInfo.maximumSize, cacheInfo.maximumWeight,
+                        cacheInfo.expireAfterWrite, cacheInfo.expireAfterAccess, cacheInfo.refreshAfterWrite,
+                        cacheInfo.staleWhileRevalidate,
+                        cacheInfo.statsEnabled);
             }
             CaffeineCache cache = new CaffeineCache(cacheInfo, managedExecutor);
             caches.put(cacheInfo.name, cache);
@@ -11,10 +11,25 @@ public class CaffeineCacheInfo {
 
     public Long maximumSize;
 
+    public Long maximumWeight;
+
+    /**
+     * Name of the {@link io.quarkus.cache.CacheWeigher} implementation, {@code null} if the default weigher is used.
+     */
+    public String weigher;
+
     public Duration expireAfterWrite;
 
     public Duration expireAfterAccess;
 
+    public Duration refreshAfterWrite;
+
+    public Duration staleWhileRevalidate;
+
+    public boolean statsEnabled;
+
+    public boolean metricsEnabled;
+
     @Override
     public int hashCode() {
         return Objects.hash(name);
@@ -0,0 +1,89 @@
+package io.quarkus.cache.runtime.caffeine;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import io.quarkus.cache.CacheWeigher;
+
+/**
+ * Estimates the heap size in bytes of the cache entries, assuming a 64-bit JVM with compressed references. The estimation is
+ * reasonably accurate for strings, arrays, boxed primitives and collections of these types. Any other object is counted as a
+ * flat {@value #OBJECT_SIZE} bytes, a custom {@link CacheWeigher} should be used when caching larger objects.
+ */
+public class DefaultCacheWeigher implements CacheWeigher {
+
+    static final int ENTRY_OVERHEAD = 64;
+    static final int OBJECT_SIZE = 64;
+
+    private static final int HEADER_SIZE = 16;
+    private static final int REFERENCE_SIZE = 4;
+    private static final int COLLECTION_OVERHEAD = 48;
+    private static final int COLLECTION_ELEMENT_OVERHEAD = 16;
+    private static final int MAP_ENTRY_OVERHEAD = 32;
+    // Nested collections deeper than this are counted as flat objects, which also prevents infinite loops on cycles.
+    private static final int MAX_DEPTH = 8;
+
+    @Override
+    public int weigh(Object key, Object value) {
+        long weight = ENTRY_OVERHEAD + estimate(key, 0) + estimate(value, 0);
+        return (int) Math.min(weight, Integer.MAX_VALUE);
+    }
+
+    private static long estimate(Object object, int depth) {
+        if (object == null) {
+            return 0L;
+        }
+        if (object instanceof String) {
+            // String object plus its internal array.
+            return 24L + HEADER_SIZE + 2L * ((String) object).length();
+        }
+        if (object instanceof Number || object instanceof Boolean || object instanceof Character) {
+            return object instanceof Long || object instanceof Double ? 24L : HEADER_SIZE;
+        }
+        if (depth >= MAX_DEPTH) {
+            return OBJECT_SIZE;
+        }
+        Class<?> type = object.getClass();
+        if (type.isArray()) {
+            int length = Array.getLength(object);
+            Class<?> componentType = type.getComponentType();
+            if (componentType.isPrimitive()) {
+                return HEADER_SIZE + (long) length * primitiveSize(componentType);
+            }
+            long size = HEADER_SIZE + (long) length * REFERENCE_SIZE;
+            for (int i = 0; i < length; i++) {
+                size += estimate(Array.get(object, i), depth + 1);
+            }
+            return size;
+        }
+        if (object instanceof Collection) {
+            long size = COLLECTION_OVERHEAD;
+            for (Object element : (Collection<?>) object) {
+                size += COLLECTION_ELEMENT_OVERHEAD + estimate(element, depth + 1);
+            }
+            return size;
+        }
+        if (object instanceof Map) {
+            long size = COLLECTION_OVERHEAD;
+            for (Entry<?, ?> entry : ((Map<?, ?>) object).entrySet()) {
+                size += MAP_ENTRY_OVERHEAD + estimate(entry.getKey(), depth + 1) + estimate(entry.getValue(), depth + 1);
+            }
+            return size;
+        }
+        return OBJECT_SIZE;
+    }
+
+    private static int primitiveSize(Class<?> type) {
+        if (type == byte.class || type == boolean.class) {
+            return 1;
+        } else if (type == char.class || type == short.class) {
+            return 2;
+        } else if (type == long.class || type == double.class) {
+            return 8;
+        } else {
+            return 4;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package io.quarkus.cache.runtime.caffeine.metrics;
+
+public class CacheMetrics {
+
+    public static final String CACHE_TAG = "cache";
+
+    public static final String HITS = "cache.hits";
+    public static final String MISSES = "cache.misses";
+    public static final String EVICTIONS = "cache.evictions";
+    public static final String LOAD_FAILURES = "cache.load.failures";
+    public static final String LOCK_TIMEOUTS = "cache.lock.timeouts";
+    public static final String SIZE = "cache.size";
+    public static final String WEIGHT = "cache.weight";
+    public static final String LOAD_TIME = "cache.load.time";
+}
@@ -0,0 +1,88 @@
+package io.quarkus.cache.runtime.caffeine.metrics;
+
+import org.eclipse.microprofile.metrics.Counter;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.cache.runtime.CacheRepository;
+import io.quarkus.cache.runtime.caffeine.CaffeineCache;
+
+public class CaffeineCacheCounter implements Counter {
+
+    private String cacheName;
+    private volatile CaffeineCache cache;
+    private String metric;
+
+    public CaffeineCacheCounter() {
+
+    }
+
+    /**
+     * @param cacheName Which cache should be queried for metric
+     * @param metricName Name of the statistic that should be retrieved from the cache. This has nothing to do with the metric
+     *        name from MP Metrics point of view!
+     */
+    public CaffeineCacheCounter(String cacheName, String metricName) {
+        this.cacheName = cacheName;
+        this.metric = metricName;
+    }
+
+    public String getCacheName() {
+        return cacheName;
+    }
+
+    public void setCacheName(String cacheName) {
+        this.cacheName = cacheName;
+    }
+
+    public String getMetric() {
+        return metric;
+    }
+
+    public void setMetric(String metric) {
+        this.metric = metric;
+    }
+
+    private CaffeineCache getCache() {
+        CaffeineCache cacheLocal = cache;
+        if (cacheLocal == null) {
+            synchronized (this) {
+                cacheLocal = cache;
+                if (cacheLocal == null) {
+                    cache = cacheLocal = (CaffeineCache) Arc.container().instance(CacheRepository.class).get()
+                            .getCache(cacheName);
+                }
+            }
+        }
+        return cacheLocal;
+    }
+
+    @Override
+    public void inc() {
+    }
+
+    @Override
+    public void inc(long n) {
+    }
+
+    @Override
+    public long getCount() {
+        if ("lockTimeoutCount".equals(metric)) {
+            return getCache().getLockTimeoutCount();
+        }
+        CacheStats stats = getCache().getStats();
+        switch (metric) {
+            case "hitCount":
+                return stats.hitCount();
+            case "missCount":
+                return stats.missCount();
+            case "evictionCount":
+                return stats.evictionCount();
+            case "loadFailureCount":
+                return stats.loadFailureCount();
+            default:
+                throw new IllegalArgumentException("Unknown cache metric");
+        }
+    }
+}
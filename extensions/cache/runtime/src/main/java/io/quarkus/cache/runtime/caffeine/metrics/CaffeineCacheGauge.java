@@ -0,0 +1,70 @@
+package io.quarkus.cache.runtime.caffeine.metrics;
+
+import org.eclipse.microprofile.metrics.Gauge;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.cache.runtime.CacheRepository;
+import io.quarkus.cache.runtime.caffeine.CaffeineCache;
+
+public class CaffeineCacheGauge implements Gauge<Long> {
+
+    private String cacheName;
+    private volatile CaffeineCache cache;
+    private String metric;
+
+    public CaffeineCacheGauge() {
+
+    }
+
+    /**
+     * @param cacheName Which cache should be queried for metric
+     * @param metricName Name of the value that should be retrieved from the cache. This has nothing to do with the metric name
+     *        from MP Metrics point of view!
+     */
+    public CaffeineCacheGauge(String cacheName, String metricName) {
+        this.cacheName = cacheName;
+        this.metric = metricName;
+    }
+
+    public String getCacheName() {
+        return cacheName;
+    }
+
+    public void setCacheName(String cacheName) {
+        this.cacheName = cacheName;
+    }
+
+    public String getMetric() {
+        return metric;
+    }
+
+    public void setMetric(String metric) {
+        this.metric = metric;
+    }
+
+    private CaffeineCache getCache() {
+        CaffeineCache cacheLocal = cache;
+        if (cacheLocal == null) {
+            synchronized (this) {
+                cacheLocal = cache;
+                if (cacheLocal == null) {
+                    cache = cacheLocal = (CaffeineCache) Arc.container().instance(CacheRepository.class).get()
+                            .getCache(cacheName);
+                }
+            }
+        }
+        return cacheLocal;
+    }
+
+    @Override
+    public Long getValue() {
+        switch (metric) {
+            case "estimatedSize":
+                return getCache().getEstimatedSize();
+            case "weightedSize":
+                return getCache().getWeightedSize();
+            default:
+                throw new IllegalArgumentException("Unknown cache metric");
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package io.quarkus.cache.runtime.caffeine.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Tag;
+import org.eclipse.microprofile.metrics.Timer;
+
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+
+import io.smallrye.metrics.MetricRegistries;
+
+/**
+ * Caffeine {@link StatsCounter} which records the load times into the {@code cache.load.time} vendor timer of a cache, in
+ * addition to the usual Caffeine statistics. This class must only be used when the SmallRye Metrics extension is present.
+ */
+public class MetricsStatsCounter implements StatsCounter {
+
+    private final StatsCounter delegate = new ConcurrentStatsCounter();
+
+    private final String cacheName;
+
+    private volatile Timer loadTimer;
+
+    public MetricsStatsCounter(String cacheName) {
+        this.cacheName = cacheName;
+    }
+
+    @Override
+    public void recordHits(int count) {
+        delegate.recordHits(count);
+    }
+
+    @Override
+    public void recordMisses(int count) {
+        delegate.recordMisses(count);
+    }
+
+    @Override
+    public void recordLoadSuccess(long loadTime) {
+        delegate.recordLoadSuccess(loadTime);
+        getLoadTimer().update(loadTime, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void recordLoadFailure(long loadTime) {
+        delegate.recordLoadFailure(loadTime);
+        getLoadTimer().update(loadTime, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    @SuppressWarnings("deprecation")
+    public void recordEviction() {
+        delegate.recordEviction();
+    }
+
+    @Override
+    public void recordEviction(int weight) {
+        delegate.recordEviction(weight);
+    }
+
+    @Override
+    public void recordEviction(int weight, RemovalCause cause) {
+        delegate.recordEviction(weight, cause);
+    }
+
+    @Override
+    public CacheStats snapshot() {
+        return delegate.snapshot();
+    }
+
+    private Timer getLoadTimer() {
+        Timer timerLocal = loadTimer;
+        if (timerLocal == null) {
+            synchronized (this) {
+                timerLocal = loadTimer;
+                if (timerLocal == null) {
+                    // The timer is registered at build time by the cache extension, this call only retrieves it.
+                    loadTimer = timerLocal = MetricRegistries.get(MetricRegistry.Type.VENDOR)
+                            .timer(CacheMetrics.LOAD_TIME, new Tag(CacheMetrics.CACHE_TAG, cacheName));
+                }
+            }
+        }
+        return timerLocal;
+    }
+}
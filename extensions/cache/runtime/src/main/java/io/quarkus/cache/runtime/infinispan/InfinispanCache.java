@@ -0,0 +1,152 @@
+package io.quarkus.cache.runtime.infinispan;
+
+import static io.quarkus.cache.runtime.NullValueConverter.fromCacheValue;
+import static io.quarkus.cache.runtime.NullValueConverter.toCacheValue;
+
+import java.io.Serializable;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import org.infinispan.client.hotrod.Flag;
+import org.infinispan.client.hotrod.RemoteCache;
+
+import io.quarkus.cache.runtime.Cache;
+import io.quarkus.cache.runtime.caffeine.CaffeineCache;
+
+/**
+ * Cache backed by a remote Infinispan cache, optionally fronted by a local Caffeine near cache. The near cache entries are
+ * invalidated when the corresponding remote entries are modified or removed by any application instance.
+ */
+public class InfinispanCache implements Cache {
+
+    /*
+     * A clear operation on a remote cache does not fire any client event, so this entry is written after each clear operation
+     * to notify all of the application instances that their near cache has to be cleared. It has a dedicated type so that it
+     * cannot be mistaken for a key of the application.
+     */
+    static final class InvalidateAllMarker implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        static final Object INSTANCE = new InvalidateAllMarker();
+
+        // The marker is received in the remote cache events so the deserialized instance has to be replaced with the singleton.
+        private Object readResolve() {
+            return INSTANCE;
+        }
+    }
+
+    private final String name;
+
+    private final RemoteCache<Object, Object> remoteCache;
+
+    private final CaffeineCache nearCache;
+
+    private final Executor executor;
+
+    public InfinispanCache(String name, RemoteCache<Object, Object> remoteCache, CaffeineCache nearCache, Executor executor) {
+        this.name = name;
+        this.remoteCache = remoteCache;
+        this.nearCache = nearCache;
+        this.executor = executor == null ? ForkJoinPool.commonPool() : executor;
+        if (nearCache != null) {
+            remoteCache.addClientListener(new NearCacheInvalidationListener(nearCache));
+        }
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The lock on cache miss and its timeout are only applied locally by the near cache. Without a near cache or if several
+     * application instances load the same missing key at the same time, the value may be computed more than once but only
+     * the first computed value is stored in the remote cache and returned.
+     */
+    @Override
+    public Object get(Object key, Callable<Object> valueLoader, long lockTimeout) throws Exception {
+        if (nearCache != null) {
+            return nearCache.get(key, () -> getFromRemoteCache(key, valueLoader), lockTimeout);
+        }
+        return getFromRemoteCache(key, valueLoader);
+    }
+
+    @Override
+    public CompletableFuture<Object> getAsync(Object key, Callable<CompletionStage<?>> asyncValueLoader) {
+        if (nearCache != null) {
+            return nearCache.getAsync(key, () -> getFromRemoteCacheAsync(key, asyncValueLoader));
+        }
+        return getFromRemoteCacheAsync(key, asyncValueLoader);
+    }
+
+    @Override
+    public void invalidate(Object key) {
+        remoteCache.remove(key);
+        if (nearCache != null) {
+            // The other application instances are notified by the remote cache.
+            nearCache.invalidate(key);
+        }
+    }
+
+    @Override
+    public void invalidateAll() {
+        remoteCache.clear();
+        if (nearCache != null) {
+            remoteCache.put(InvalidateAllMarker.INSTANCE, System.currentTimeMillis());
+            nearCache.invalidateAll();
+        }
+    }
+
+    private Object getFromRemoteCache(Object key, Callable<Object> valueLoader) throws Exception {
+        Object value = remoteCache.get(key);
+        if (value == null) {
+            value = toCacheValue(valueLoader.call());
+            // If another application instance stored a value in the meantime, that value wins.
+            Object previousValue = forceReturnValue().putIfAbsent(key, value);
+            if (previousValue != null) {
+                value = previousValue;
+            }
+        }
+        return fromCacheValue(value);
+    }
+
+    private CompletableFuture<Object> getFromRemoteCacheAsync(Object key, Callable<CompletionStage<?>> asyncValueLoader) {
+        // The value loader invokes the cached method so it must not run on a Hot Rod client thread.
+        return remoteCache.getAsync(key).thenComposeAsync(value -> {
+            if (value != null) {
+                return CompletableFuture.completedFuture(value);
+            }
+            CompletionStage<?> stage;
+            try {
+                stage = asyncValueLoader.call();
+            } catch (RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+            if (stage == null) {
+                stage = CompletableFuture.completedFuture(null);
+            }
+            return stage.thenCompose(loadedValue -> {
+                Object newValue = toCacheValue(loadedValue);
+                return forceReturnValue().putIfAbsentAsync(key, newValue)
+                        .thenApply(previousValue -> previousValue != null ? previousValue : newValue);
+            });
+        }, executor).thenApply(value -> fromCacheValue(value));
+    }
+
+    /*
+     * The Hot Rod client does not return the previous value of an entry unless this flag is set. The flags only apply to the
+     * next operation invoked by the current thread, so they have to be set right before each operation.
+     */
+    private RemoteCache<Object, Object> forceReturnValue() {
+        return remoteCache.withFlags(Flag.FORCE_RETURN_VALUE);
+    }
+}
@@ -0,0 +1,64 @@
+package io.quarkus.cache.runtime.infinispan;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.microprofile.context.ManagedExecutor;
+import org.infinispan.client.hotrod.RemoteCache;
+import org.infinispan.client.hotrod.RemoteCacheManager;
+import org.jboss.logging.Logger;
+
+import io.quarkus.arc.runtime.BeanContainer;
+import io.quarkus.cache.runtime.Cache;
+import io.quarkus.cache.runtime.CacheRepository;
+import io.quarkus.cache.runtime.caffeine.CaffeineCache;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheInfo;
+import io.quarkus.runtime.annotations.Recorder;
+
+@Recorder
+public class InfinispanCacheBuildRecorder {
+
+    private static final Logger LOGGER = Logger.getLogger(InfinispanCacheBuildRecorder.class);
+
+    /**
+     * @param nearCacheInfos Caffeine configuration of the near caches, also used to know the name of each cache
+     * @param nearCacheEnabled whether or not a near cache should be created in front of each remote cache
+     * @param template name of the server template used to create the missing remote caches, may be {@code null}
+     */
+    public void buildCaches(boolean managedExecutorInitialized, BeanContainer beanContainer,
+            Set<CaffeineCacheInfo> nearCacheInfos, boolean nearCacheEnabled, String template) {
+        // The number of caches is known at build time so we can use fixed initialCapacity and loadFactor for the caches map.
+        Map<String, Cache> caches = new HashMap<>(nearCacheInfos.size() + 1, 1.0F);
+
+        ManagedExecutor managedExecutor = null;
+        if (managedExecutorInitialized) {
+            managedExecutor = beanContainer.instance(ManagedExecutor.class);
+        }
+
+        RemoteCacheManager remoteCacheManager = beanContainer.instance(RemoteCacheManager.class);
+        for (CaffeineCacheInfo cacheInfo : nearCacheInfos) {
+            RemoteCache<Object, Object> remoteCache = remoteCacheManager.getCache(cacheInfo.name);
+            if (remoteCache == null) {
+                if (template == null) {
+                    throw new IllegalStateException("Remote Infinispan cache [" + cacheInfo.name
+                            + "] not found, create it on the server or set the quarkus.cache.infinispan.template property");
+                }
+                remoteCache = remoteCacheManager.administration().getOrCreateCache(cacheInfo.name, template);
+            }
+            CaffeineCache nearCache = null;
+            if (nearCacheEnabled) {
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debugf(
+                            "Building Caffeine near cache [%s] with [initialCapacity=%s], [maximumSize=%s], [expireAfterWrite=%s] and [expireAfterAccess=%s]",
+                            cacheInfo.name, cacheInfo.initialCapacity, cacheInfo.maximumSize, cacheInfo.expireAfterWrite,
+                            cacheInfo.expireAfterAccess);
+                }
+                nearCache = new CaffeineCache(cacheInfo, managedExecutor);
+            }
+            caches.put(cacheInfo.name, new InfinispanCache(cacheInfo.name, remoteCache, nearCache, managedExecutor));
+        }
+
+        beanContainer.instance(CacheRepository.class).setCaches(caches);
+    }
+}
@@ -0,0 +1,66 @@
+package io.quarkus.cache.runtime.infinispan;
+
+import org.infinispan.client.hotrod.annotation.ClientCacheEntryCreated;
+import org.infinispan.client.hotrod.annotation.ClientCacheEntryExpired;
+import org.infinispan.client.hotrod.annotation.ClientCacheEntryModified;
+import org.infinispan.client.hotrod.annotation.ClientCacheEntryRemoved;
+import org.infinispan.client.hotrod.annotation.ClientCacheFailover;
+import org.infinispan.client.hotrod.annotation.ClientListener;
+import org.infinispan.client.hotrod.event.ClientCacheEntryCreatedEvent;
+import org.infinispan.client.hotrod.event.ClientCacheEntryExpiredEvent;
+import org.infinispan.client.hotrod.event.ClientCacheEntryModifiedEvent;
+import org.infinispan.client.hotrod.event.ClientCacheEntryRemovedEvent;
+import org.infinispan.client.hotrod.event.ClientCacheFailoverEvent;
+
+import io.quarkus.cache.runtime.caffeine.CaffeineCache;
+import io.quarkus.cache.runtime.infinispan.InfinispanCache.InvalidateAllMarker;
+
+/**
+ * Propagates the remote cache modifications made by any application instance to the local near cache.
+ */
+@ClientListener
+public class NearCacheInvalidationListener {
+
+    private final CaffeineCache nearCache;
+
+    public NearCacheInvalidationListener(CaffeineCache nearCache) {
+        this.nearCache = nearCache;
+    }
+
+    @ClientCacheEntryCreated
+    public void onEntryCreated(ClientCacheEntryCreatedEvent<Object> event) {
+        // A new entry cannot be stale in the near cache, except for the invalidate all marker.
+        if (event.getKey() == InvalidateAllMarker.INSTANCE) {
+            nearCache.invalidateAll();
+        }
+    }
+
+    @ClientCacheEntryModified
+    public void onEntryModified(ClientCacheEntryModifiedEvent<Object> event) {
+        invalidate(event.getKey());
+    }
+
+    @ClientCacheEntryRemoved
+    public void onEntryRemoved(ClientCacheEntryRemovedEvent<Object> event) {
+        invalidate(event.getKey());
+    }
+
+    @ClientCacheEntryExpired
+    public void onEntryExpired(ClientCacheEntryExpiredEvent<Object> event) {
+        invalidate(event.getKey());
+    }
+
+    @ClientCacheFailover
+    public void onFailover(ClientCacheFailoverEvent event) {
+        // Some events may have been missed during the failover.
+        nearCache.invalidateAll();
+    }
+
+    private void invalidate(Object key) {
+        if (key == InvalidateAllMarker.INSTANCE) {
+            nearCache.invalidateAll();
+        } else {
+            nearCache.invalidate(key);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package io.quarkus.cache.runtime.infinispan;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.infinispan.client.hotrod.Flag;
+import org.infinispan.client.hotrod.RemoteCache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import io.quarkus.cache.runtime.caffeine.CaffeineCache;
+import io.quarkus.cache.runtime.caffeine.CaffeineCacheInfo;
+import io.quarkus.cache.runtime.infinispan.InfinispanCache.InvalidateAllMarker;
+
+public class InfinispanCacheTest {
+
+    private static final String CACHE_NAME = "foo";
+    private static final long LOCK_TIMEOUT = 0L;
+
+    private RemoteCache<Object, Object> remoteCache;
+    // The remote cache returned by withFlags(FORCE_RETURN_VALUE), the only one returning the previous values.
+    private RemoteCache<Object, Object> forceReturnCache;
+    private AtomicInteger invocations;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        remoteCache = mock(RemoteCache.class);
+        forceReturnCache = mock(RemoteCache.class);
+        when(remoteCache.withFlags(Flag.FORCE_RETURN_VALUE)).thenReturn(forceReturnCache);
+        invocations = new AtomicInteger();
+    }
+
+    @Test
+    public void testGetStoresTheComputedValue() throws Exception {
+        InfinispanCache cache = new InfinispanCache(CACHE_NAME, remoteCache, null, Runnable::run);
+
+        assertEquals("value", cache.get("key", this::compute, LOCK_TIMEOUT));
+        assertEquals(1, invocations.get());
+        verify(forceReturnCache).putIfAbsent("key", "value");
+        verify(remoteCache, never()).putIfAbsent(any(), any());
+        verify(remoteCache, never()).addClientListener(any());
+    }
+
+    @Test
+    public void testGetReturnsTheRemoteValue() throws Exception {
+        when(remoteCache.get("key")).thenReturn("remote");
+        InfinispanCache cache = new InfinispanCache(CACHE_NAME, remoteCache, null, Runnable::run);
+
+        assertEquals("remote", cache.get("key", this::compute, LOCK_TIMEOUT));
+        assertEquals(0, invocations.get());
+        verify(forceReturnCache, never()).putIfAbsent(any(), any());
+    }
+
+    @Test
+    public void testGetReturnsTheValueStoredConcurrently() throws Exception {
+        // Another application instance stored a value between the remote get and put operations.
+        when(forceReturnCache.putIfAbsent("key", "value")).thenReturn("concurrent");
+        InfinispanCache cache = new InfinispanCache(CACHE_NAME, remoteCache, nearCache(), Runnable::run);
+
+        assertEquals("concurrent", cache.get("key", this::compute, LOCK_TIMEOUT));
+        // The near cache holds the value stored in the remote cache.
+        assertEquals("concurrent", cache.get("key", this::compute, LOCK_TIMEOUT));
+        assertEquals(1, invocations.get());
+    }
+
+    @Test
+    public void testGetAsyncReturnsTheValueStoredConcurrently() throws Exception {
+        when(remoteCache.getAsync("key")).thenReturn(CompletableFuture.completedFuture(null));
+        when(forceReturnCache.putIfAbsentAsync("key", "value")).thenReturn(CompletableFuture.completedFuture("concurrent"));
+        InfinispanCache cache = new InfinispanCache(CACHE_NAME, remoteCache, null, Runnable::run);
+
+        assertEquals("concurrent", cache.getAsync("key", () -> CompletableFuture.completedFuture(compute())).get());
+    }
+
+    @Test
+    public void testGetStoresNullValues() throws Exception {
+        InfinispanCache cache = new InfinispanCache(CACHE_NAME, remoteCache, null, Runnable::run);
+
+        assertNull(cache.get("key", () -> null, LOCK_TIMEOUT));
+        ArgumentCaptor<Object> value = ArgumentCaptor.forClass(Object.class);
+        verify(forceReturnCache).putIfAbsent(eq("key"), value.capture());
+        // The remote cache does not accept null values so a placeholder is stored instead.
+        when(remoteCache.get("key")).thenReturn(value.getValue());
+        assertNull(cache.get("key", this::compute, LOCK_TIMEOUT));
+        assertEquals(0, invocations.get());
+    }
+
+    @Test
+    public void testGetAsync() throws Exception {
+        when(remoteCache.getAsync("key")).thenReturn(CompletableFuture.completedFuture(null));
+        when(forceReturnCache.putIfAbsentAsync("key", "value")).thenReturn(CompletableFuture.completedFuture(null));
+        InfinispanCache cache = new InfinispanCache(CACHE_NAME, remoteCache, null, Runnable::run);
+
+        assertEquals("value", cache.getAsync("key", () -> CompletableFuture.completedFuture(compute())).get());
+        assertEquals(1, invocations.get());
+        verify(forceReturnCache).putIfAbsentAsync("key", "value");
+        verify(remoteCache, never()).putIfAbsentAsync(any(), any());
+    }
+
+    @Test
+    public void testNearCacheAvoidsRemoteGet() throws Exception {
+        InfinispanCache cache = new InfinispanCache(CACHE_NAME, remoteCache, nearCache(), Runnable::run);
+
+        assertEquals("value", cache.get("key", this::compute, LOCK_TIMEOUT));
+        assertEquals("value", cache.get("key", this::compute, LOCK_TIMEOUT));
+        assertEquals(1, invocations.get());
+        verify(remoteCache, times(1)).get("key");
+        verify(remoteCache).addClientListener(any(NearCacheInvalidationListener.class));
+    }
+
+    @Test
+    public void testInvalidate() throws Exception {
+        InfinispanCache cache = new InfinispanCache(CACHE_NAME, remoteCache, nearCache(), Runnable::run);
+        cache.get("key", this::compute, LOCK_TIMEOUT);
+
+        cache.invalidate("key");
+        verify(remoteCache).remove("key");
+        // The near cache entry is gone so the remote cache is queried again.
+        cache.get("key", this::compute, LOCK_TIMEOUT);
+        verify(remoteCache, times(2)).get("key");
+    }
+
+    @Test
+    public void testInvalidateAll() throws Exception {
+        InfinispanCache cache = new InfinispanCache(CACHE_NAME, remoteCache, nearCache(), Runnable::run);
+        cache.get("key", this::compute, LOCK_TIMEOUT);
+
+        cache.invalidateAll();
+        verify(remoteCache).clear();
+        // The other application instances are notified through the marker entry.
+        verify(remoteCache).put(eq(InvalidateAllMarker.INSTANCE), anyLong());
+        cache.get("key", this::compute, LOCK_TIMEOUT);
+        verify(remoteCache, times(2)).get("key");
+    }
+
+    @Test
+    public void testInvalidateAllWithoutNearCache() {
+        InfinispanCache cache = new InfinispanCache(CACHE_NAME, remoteCache, null, Runnable::run);
+
+        cache.invalidateAll();
+        verify(remoteCache).clear();
+        verify(remoteCache, never()).put(any(), any());
+    }
+
+    @Test
+    public void testRemoteEventEvictsNearCacheEntry() throws Exception {
+        InfinispanCache cache = new InfinispanCache(CACHE_NAME, remoteCache, nearCache(), Runnable::run);
+        ArgumentCaptor<Object> listener = ArgumentCaptor.forClass(Object.class);
+        verify(remoteCache).addClientListener(listener.capture());
+        assertTrue(listener.getValue() instanceof NearCacheInvalidationListener);
+        cache.get("key", this::compute, LOCK_TIMEOUT);
+
+        // Another application instance modified the remote entry.
+        ((NearCacheInvalidationListener) listener.getValue())
+                .onEntryModified(NearCacheInvalidationListenerTest.modifiedEvent("key"));
+        when(remoteCache.get("key")).thenReturn("modified");
+        assertEquals("modified", cache.get("key", this::compute, LOCK_TIMEOUT));
+    }
+
+    private Object compute() {
+        invocations.incrementAndGet();
+        return "value";
+    }
+
+    static CaffeineCache nearCache() {
+        CaffeineCacheInfo cacheInfo = new CaffeineCacheInfo();
+        cacheInfo.name = CACHE_NAME;
+        return new CaffeineCache(cacheInfo, Runnable::run);
+    }
+}
@@ -0,0 +1,116 @@
+package io.quarkus.cache.runtime.infinispan;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.infinispan.client.hotrod.event.ClientCacheEntryCreatedEvent;
+import org.infinispan.client.hotrod.event.ClientCacheEntryExpiredEvent;
+import org.infinispan.client.hotrod.event.ClientCacheEntryModifiedEvent;
+import org.infinispan.client.hotrod.event.ClientCacheEntryRemovedEvent;
+import org.infinispan.client.hotrod.event.ClientCacheFailoverEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.cache.runtime.caffeine.CaffeineCache;
+import io.quarkus.cache.runtime.infinispan.InfinispanCache.InvalidateAllMarker;
+
+public class NearCacheInvalidationListenerTest {
+
+    private CaffeineCache nearCache;
+    private NearCacheInvalidationListener listener;
+    private AtomicInteger invocations;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        nearCache = InfinispanCacheTest.nearCache();
+        listener = new NearCacheInvalidationListener(nearCache);
+        invocations = new AtomicInteger();
+        load("key1");
+        load("key2");
+        assertEquals(2, invocations.get());
+    }
+
+    @Test
+    public void testEntryCreated() throws Exception {
+        listener.onEntryCreated(createdEvent("key1"));
+        assertLoaded(0);
+    }
+
+    @Test
+    public void testEntryModified() throws Exception {
+        listener.onEntryModified(modifiedEvent("key1"));
+        assertLoaded(1);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testEntryRemoved() throws Exception {
+        ClientCacheEntryRemovedEvent<Object> event = mock(ClientCacheEntryRemovedEvent.class);
+        when(event.getKey()).thenReturn("key1");
+        listener.onEntryRemoved(event);
+        assertLoaded(1);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testEntryExpired() throws Exception {
+        ClientCacheEntryExpiredEvent<Object> event = mock(ClientCacheEntryExpiredEvent.class);
+        when(event.getKey()).thenReturn("key1");
+        listener.onEntryExpired(event);
+        assertLoaded(1);
+    }
+
+    @Test
+    public void testInvalidateAllMarker() throws Exception {
+        listener.onEntryCreated(createdEvent(InvalidateAllMarker.INSTANCE));
+        assertLoaded(2);
+        // The marker entry is modified by the next invalidate all operations.
+        listener.onEntryModified(modifiedEvent(InvalidateAllMarker.INSTANCE));
+        assertLoaded(2);
+    }
+
+    @Test
+    public void testApplicationKeyIsNotTheMarker() throws Exception {
+        // An application key cannot be mistaken for the invalidate all marker, whatever its value.
+        listener.onEntryCreated(createdEvent(InvalidateAllMarker.class.getName()));
+        listener.onEntryCreated(createdEvent("io.quarkus.cache.invalidate-all"));
+        assertLoaded(0);
+    }
+
+    @Test
+    public void testFailover() throws Exception {
+        listener.onFailover(mock(ClientCacheFailoverEvent.class));
+        assertLoaded(2);
+    }
+
+    private void load(Object key) throws Exception {
+        nearCache.get(key, () -> {
+            invocations.incrementAndGet();
+            return "value";
+        }, 0L);
+    }
+
+    private void assertLoaded(int expectedInvocations) throws Exception {
+        invocations.set(0);
+        load("key1");
+        load("key2");
+        assertEquals(expectedInvocations, invocations.get());
+    }
+
+    @SuppressWarnings("unchecked")
+    static ClientCacheEntryCreatedEvent<Object> createdEvent(Object key) {
+        ClientCacheEntryCreatedEvent<Object> event = mock(ClientCacheEntryCreatedEvent.class);
+        when(event.getKey()).thenReturn(key);
+        return event;
+    }
+
+    @SuppressWarnings("unchecked")
+    static ClientCacheEntryModifiedEvent<Object> modifiedEvent(Object key) {
+        ClientCacheEntryModifiedEvent<Object> event = mock(ClientCacheEntryModifiedEvent.class);
+        when(event.getKey()).thenReturn(key);
+        return event;
+    }
+}
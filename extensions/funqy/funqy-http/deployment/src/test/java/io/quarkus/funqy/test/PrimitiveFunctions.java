@@ -27,6 +27,15 @@ public class PrimitiveFunctions {
         return "get";
     }
 
+    @Funq
+    public String repeat(int count) {
+        StringBuilder builder = new StringBuilder(count);
+        for (int i = 0; i < count; i++) {
+            builder.append('a');
+        }
+        return builder.toString();
+    }
+
     @Funq
     public void noop() {
     }
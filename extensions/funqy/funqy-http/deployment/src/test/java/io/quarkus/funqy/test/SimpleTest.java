@@ -37,6 +37,19 @@ public class SimpleTest {
                 .then().statusCode(200).body(equalTo("4"));
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = { 10, 100_000 })
+    public void testLargeOutput(int count) {
+        // the large response does not fit in a single chunk
+        StringBuilder expected = new StringBuilder("\"");
+        for (int i = 0; i < count; i++) {
+            expected.append('a');
+        }
+        expected.append('"');
+        RestAssured.given().contentType("application/json").body(String.valueOf(count)).post("/repeat")
+                .then().statusCode(200).body(equalTo(expected.toString()));
+    }
+
     @ParameterizedTest
     @ValueSource(strings = { "/noop", "/noopAsync" })
     public void testNoop(String path) {
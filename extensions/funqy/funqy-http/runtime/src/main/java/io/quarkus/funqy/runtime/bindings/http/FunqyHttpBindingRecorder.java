@@ -3,6 +3,7 @@ package io.quarkus.funqy.runtime.bindings.http;
 import java.util.concurrent.Executor;
 import java.util.function.Supplier;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -38,7 +39,9 @@ public class FunqyHttpBindingRecorder {
                 invoker.getBindingContext().put(ObjectReader.class.getName(), reader);
             }
             if (invoker.hasOutput()) {
-                ObjectWriter writer = objectMapper.writerFor(invoker.getOutputType());
+                // the response stream is closed by the handler, which can still fail the request if the serialization fails
+                ObjectWriter writer = objectMapper.writerFor(invoker.getOutputType())
+                        .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
                 invoker.getBindingContext().put(ObjectWriter.class.getName(), writer);
             }
         }
@@ -1,5 +1,6 @@
 package io.quarkus.funqy.runtime.bindings.http;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.util.concurrent.Executor;
 import java.util.function.Consumer;
@@ -22,6 +23,7 @@ import io.quarkus.funqy.runtime.RequestContextImpl;
 import io.quarkus.security.identity.CurrentIdentityAssociation;
 import io.quarkus.security.identity.SecurityIdentity;
 import io.quarkus.vertx.http.runtime.CurrentVertxRequest;
+import io.quarkus.vertx.http.runtime.VertxResponseOutputStream;
 import io.quarkus.vertx.http.runtime.security.QuarkusHttpUser;
 import io.smallrye.mutiny.Uni;
 import io.vertx.core.Handler;
@@ -140,11 +142,16 @@ public class VertxRequestHandler implements Handler<RoutingContext> {
                             routingContext.response().setStatusCode(200);
                             routingContext.response().putHeader("Content-Type", "application/json");
                             ObjectWriter writer = (ObjectWriter) invoker.getBindingContext().get(ObjectWriter.class.getName());
+                            VertxResponseOutputStream out = new VertxResponseOutputStream(routingContext.response());
                             try {
-                                routingContext.response().end(writer.writeValueAsString(o));
+                                writer.writeValue(out, o);
+                                out.close();
                             } catch (JsonProcessingException e) {
                                 log.error("Failed to marshal", e);
-                                routingContext.fail(400);
+                                failOrClose(routingContext, out, 400);
+                            } catch (IOException e) {
+                                log.debug("Failed to write the response", e);
+                                failOrClose(routingContext, out, 500);
                             }
                         } else {
                             routingContext.response().setStatusCode(204);
@@ -161,4 +168,14 @@ public class VertxRequestHandler implements Handler<RoutingContext> {
             }
         }
     }
+
+    private static void failOrClose(RoutingContext routingContext, VertxResponseOutputStream out, int statusCode) {
+        out.discard();
+        if (routingContext.response().headWritten()) {
+            // Part of the response has already been sent
+            routingContext.response().close();
+        } else {
+            routingContext.fail(statusCode);
+        }
+    }
 }
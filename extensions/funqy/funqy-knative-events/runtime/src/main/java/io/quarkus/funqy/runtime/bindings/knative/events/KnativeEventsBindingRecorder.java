@@ -9,6 +9,7 @@ import java.util.function.Supplier;
 
 import org.jboss.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.MapperFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -62,7 +63,9 @@ public class KnativeEventsBindingRecorder {
                 invoker.getBindingContext().put(ObjectReader.class.getName(), reader);
             }
             if (invoker.hasOutput()) {
-                ObjectWriter writer = objectMapper.writerFor(invoker.getOutputType());
+                // the response stream is closed by the handler, which can still fail the request if the serialization fails
+                ObjectWriter writer = objectMapper.writerFor(invoker.getOutputType())
+                        .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
                 invoker.getBindingContext().put(ObjectWriter.class.getName(), writer);
 
                 String functionName = invoker.getName();
@@ -3,6 +3,7 @@ package io.quarkus.funqy.runtime.bindings.knative.events;
 import static io.quarkus.funqy.runtime.bindings.knative.events.KnativeEventsBindingRecorder.RESPONSE_SOURCE;
 import static io.quarkus.funqy.runtime.bindings.knative.events.KnativeEventsBindingRecorder.RESPONSE_TYPE;
 
+import java.io.IOException;
 import java.io.InputStream;
 import java.util.HashMap;
 import java.util.Map;
@@ -15,6 +16,7 @@ import javax.enterprise.inject.spi.CDI;
 
 import org.jboss.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -33,6 +35,7 @@ import io.quarkus.security.identity.CurrentIdentityAssociation;
 import io.quarkus.security.identity.IdentityProviderManager;
 import io.quarkus.security.identity.SecurityIdentity;
 import io.quarkus.vertx.http.runtime.CurrentVertxRequest;
+import io.quarkus.vertx.http.runtime.VertxResponseOutputStream;
 import io.quarkus.vertx.http.runtime.security.QuarkusHttpUser;
 import io.smallrye.mutiny.Uni;
 import io.vertx.core.Handler;
@@ -46,6 +49,7 @@ public class VertxRequestHandler implements Handler<RoutingContext> {
 
     protected final Vertx vertx;
     protected final ObjectMapper mapper;
+    protected final ObjectWriter eventWriter;
     protected final BeanContainer beanContainer;
     protected final CurrentIdentityAssociation association;
     protected final CurrentVertxRequest currentVertxRequest;
@@ -65,6 +69,7 @@ public class VertxRequestHandler implements Handler<RoutingContext> {
         this.beanContainer = beanContainer;
         this.executor = executor;
         this.mapper = mapper;
+        this.eventWriter = mapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
         this.typeTriggers = typeTriggers;
         Instance<CurrentIdentityAssociation> association = CDI.current().select(CurrentIdentityAssociation.class);
         this.association = association.isResolvable() ? association.get() : null;
@@ -187,18 +192,26 @@ public class VertxRequestHandler implements Handler<RoutingContext> {
                         response.getOutput().emitOn(executor).subscribe().with(
                                 obj -> {
                                     if (invoker.hasOutput()) {
+                                        VertxResponseOutputStream out = new VertxResponseOutputStream(httpResponse);
                                         try {
                                             httpResponse.setStatusCode(200);
                                             handler.handle();
                                             ObjectWriter writer = (ObjectWriter) invoker.getBindingContext()
                                                     .get(ObjectWriter.class.getName());
                                             httpResponse.putHeader("Content-Type", "application/json");
-                                            httpResponse.end(writer.writeValueAsString(obj));
+                                            writer.writeValue(out, obj);
+                                            out.close();
                                         } catch (JsonProcessingException jpe) {
                                             log.error("Failed to unmarshal input", jpe);
-                                            routingContext.fail(400);
+                                            failOrClose(routingContext, out, 400);
                                         } catch (Throwable e) {
-                                            routingContext.fail(e);
+                                            out.discard();
+                                            if (httpResponse.headWritten()) {
+                                                log.debug("Failed to write the response", e);
+                                                httpResponse.close();
+                                            } else {
+                                                routingContext.fail(e);
+                                            }
                                         }
                                     } else {
                                         httpResponse.setStatusCode(204);
@@ -300,11 +313,16 @@ public class VertxRequestHandler implements Handler<RoutingContext> {
                                         responseEvent.put("data", obj);
                                         ObjectWriter writer = (ObjectWriter) targetInvoker.getBindingContext()
                                                 .get(ObjectWriter.class.getName());
+                                        VertxResponseOutputStream out = new VertxResponseOutputStream(httpResponse);
                                         try {
-                                            httpResponse.end(mapper.writer().writeValueAsString(responseEvent));
+                                            eventWriter.writeValue(out, responseEvent);
+                                            out.close();
                                         } catch (JsonProcessingException e) {
                                             log.error("Failed to marshal", e);
-                                            routingContext.fail(400);
+                                            failOrClose(routingContext, out, 400);
+                                        } catch (IOException e) {
+                                            log.debug("Failed to write the response", e);
+                                            failOrClose(routingContext, out, 500);
                                         }
                                     } else {
                                         httpResponse.setStatusCode(204);
@@ -352,4 +370,14 @@ public class VertxRequestHandler implements Handler<RoutingContext> {
             }
         }
     }
+
+    private static void failOrClose(RoutingContext routingContext, VertxResponseOutputStream out, int statusCode) {
+        out.discard();
+        if (routingContext.response().headWritten()) {
+            // Part of the response has already been sent
+            routingContext.response().close();
+        } else {
+            routingContext.fail(statusCode);
+        }
+    }
 }
@@ -35,6 +35,7 @@ import io.quarkus.grpc.runtime.health.GrpcHealthEndpoint;
 import io.quarkus.grpc.runtime.health.GrpcHealthStorage;
 import io.quarkus.kubernetes.spi.KubernetesPortBuildItem;
 import io.quarkus.smallrye.health.deployment.spi.HealthBuildItem;
+import io.quarkus.vertx.core.deployment.EventLoopCountBuildItem;
 import io.quarkus.vertx.deployment.VertxBuildItem;
 
 public class GrpcServerProcessor {
@@ -82,14 +83,21 @@ public class GrpcServerProcessor {
     @Record(value = ExecutionTime.RUNTIME_INIT)
     ServiceStartBuildItem build(GrpcServerRecorder recorder, GrpcConfiguration config,
             ShutdownContextBuildItem shutdown, List<BindableServiceBuildItem> bindables,
-            VertxBuildItem vertx) {
+            VertxBuildItem vertx, EventLoopCountBuildItem eventLoopCount) {
         if (!bindables.isEmpty()) {
-            recorder.initializeGrpcServer(vertx.getVertx(), config, shutdown);
+            recorder.initializeGrpcServer(vertx.getVertx(), config, shutdown, eventLoopCount.getEventLoopCount());
             return new ServiceStartBuildItem(GRPC_SERVER);
         }
         return null;
     }
 
+    @BuildStep
+    @Record(value = ExecutionTime.RUNTIME_INIT)
+    void configureStreaming(GrpcServerRecorder recorder, GrpcConfiguration config) {
+        // the clients stream through the same runtime code, so this is applied even without a server
+        recorder.configureStreaming(config);
+    }
+
     @BuildStep
     public void configureNativeExecutable(CombinedIndexBuildItem combinedIndex,
             BuildProducer<ReflectiveClassBuildItem> reflectiveClass,
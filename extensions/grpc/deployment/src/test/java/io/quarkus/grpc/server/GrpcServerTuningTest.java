@@ -0,0 +1,103 @@
+package io.quarkus.grpc.server;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.grpc.CallOptions;
+import io.grpc.Channel;
+import io.grpc.ClientCall;
+import io.grpc.ClientInterceptor;
+import io.grpc.ForwardingClientCall;
+import io.grpc.ForwardingClientCallListener;
+import io.grpc.ManagedChannel;
+import io.grpc.ManagedChannelBuilder;
+import io.grpc.Metadata;
+import io.grpc.MethodDescriptor;
+import io.grpc.examples.helloworld.GreeterGrpc;
+import io.grpc.examples.helloworld.HelloReply;
+import io.grpc.examples.helloworld.HelloReplyOrBuilder;
+import io.grpc.examples.helloworld.HelloRequest;
+import io.grpc.examples.helloworld.HelloRequestOrBuilder;
+import io.quarkus.grpc.server.services.HelloService;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Test the server deployed on several event loops, with the tuning options set.
+ */
+public class GrpcServerTuningTest {
+
+    private static final Metadata.Key<String> GRPC_ENCODING = Metadata.Key.of("grpc-encoding",
+            Metadata.ASCII_STRING_MARSHALLER);
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(HelloService.class, GreeterGrpc.class, HelloRequest.class, HelloReply.class,
+                            HelloRequestOrBuilder.class, HelloReplyOrBuilder.class))
+            .overrideConfigKey("quarkus.vertx.event-loops-pool-size", "2")
+            .overrideConfigKey("quarkus.grpc.server.io-threads", "2")
+            .overrideConfigKey("quarkus.grpc.server.keep-alive-time", "10s")
+            .overrideConfigKey("quarkus.grpc.server.keep-alive-timeout", "5s")
+            .overrideConfigKey("quarkus.grpc.server.permit-keep-alive-time", "1s")
+            .overrideConfigKey("quarkus.grpc.server.max-concurrent-calls-per-connection", "100")
+            .overrideConfigKey("quarkus.grpc.server.flow-control-window", "1048576")
+            .overrideConfigKey("quarkus.grpc.server.compression", "gzip");
+
+    @Test
+    public void testCallsOnSeveralConnections() {
+        Set<String> encodings = ConcurrentHashMap.newKeySet();
+        List<ManagedChannel> channels = new ArrayList<>();
+        try {
+            // the connections are distributed among the server instances
+            for (int i = 0; i < 4; i++) {
+                ManagedChannel channel = ManagedChannelBuilder.forAddress("localhost", 9000)
+                        .usePlaintext()
+                        .intercept(new EncodingInterceptor(encodings))
+                        .build();
+                channels.add(channel);
+                HelloReply reply = GreeterGrpc.newBlockingStub(channel)
+                        .sayHello(HelloRequest.newBuilder().setName("neo-" + i).build());
+                assertThat(reply.getMessage()).isEqualTo("Hello neo-" + i);
+            }
+        } finally {
+            channels.forEach(ManagedChannel::shutdownNow);
+        }
+        assertThat(encodings).containsExactly("gzip");
+    }
+
+    static class EncodingInterceptor implements ClientInterceptor {
+
+        private final Set<String> encodings;
+
+        EncodingInterceptor(Set<String> encodings) {
+            this.encodings = encodings;
+        }
+
+        @Override
+        public <ReqT, RespT> ClientCall<ReqT, RespT> interceptCall(MethodDescriptor<ReqT, RespT> method,
+                CallOptions callOptions, Channel next) {
+            return new ForwardingClientCall.SimpleForwardingClientCall<ReqT, RespT>(next.newCall(method, callOptions)) {
+                @Override
+                public void start(Listener<RespT> responseListener, Metadata headers) {
+                    super.start(new ForwardingClientCallListener.SimpleForwardingClientCallListener<RespT>(
+                            responseListener) {
+                        @Override
+                        public void onHeaders(Metadata headers) {
+                            encodings.add(headers.get(GRPC_ENCODING));
+                            super.onHeaders(headers);
+                        }
+                    }, headers);
+                }
+            };
+        }
+    }
+}
@@ -4,6 +4,8 @@ import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
+import io.grpc.stub.ClientCallStreamObserver;
+import io.grpc.stub.ClientResponseObserver;
 import io.grpc.stub.StreamObserver;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
@@ -37,26 +39,7 @@ public class ClientCalls {
         return Uni.createFrom().emitter((new Consumer<UniEmitter<? super O>>() { // NOSONAR
             @Override
             public void accept(UniEmitter<? super O> emitter) {
-                StreamObserver<I> request = delegate.apply(new UniStreamObserver<>(emitter));
-                items.subscribe().with(
-                        new Consumer<I>() {
-                            @Override
-                            public void accept(I v) {
-                                request.onNext(v);
-                            }
-                        },
-                        new Consumer<Throwable>() {
-                            @Override
-                            public void accept(Throwable throwable) {
-                                request.onError(throwable);
-                            }
-                        },
-                        new Runnable() {
-                            @Override
-                            public void run() {
-                                request.onCompleted();
-                            }
-                        });
+                stream(items, delegate, new UniStreamObserver<>(emitter));
             }
         }));
     }
@@ -65,28 +48,62 @@ public class ClientCalls {
         return Multi.createFrom().emitter((new Consumer<MultiEmitter<? super O>>() { // NOSONAR
             @Override
             public void accept(MultiEmitter<? super O> emitter) {
-                StreamObserver<I> request = delegate.apply(new MultiStreamObserver<>(emitter));
-                items.subscribe().with(
-                        new Consumer<I>() {
-                            @Override
-                            public void accept(I v) {
-                                request.onNext(v);
-                            }
-                        },
-                        new Consumer<Throwable>() {
-                            @Override
-                            public void accept(Throwable throwable) {
-                                request.onError(throwable);
-                            }
-                        },
-                        new Runnable() {
-                            @Override
-                            public void run() {
-                                request.onCompleted();
-                            }
-                        });
+                stream(items, delegate, new MultiStreamObserver<>(emitter));
             }
         }));
+    }
+
+    private static <I, O> void stream(Multi<I> items, Function<StreamObserver<O>, StreamObserver<I>> delegate,
+            StreamObserver<O> response) {
+        FlowControlledResponseObserver<I, O> observer = new FlowControlledResponseObserver<>(response);
+        StreamObserver<I> request = delegate.apply(observer);
+        // the readiness is only reported if the stub called beforeStart
+        StreamObserverSubscriber<I> subscriber = new StreamObserverSubscriber<>(request, observer.started,
+                Function.identity());
+        observer.subscriber = subscriber;
+        items.subscribe().withSubscriber(subscriber);
+    }
+
+    /**
+     * Registers the on-ready handler of the request stream, which is only possible before the call starts.
+     */
+    private static final class FlowControlledResponseObserver<I, O> implements ClientResponseObserver<I, O> {
+
+        private final StreamObserver<O> delegate;
+        volatile boolean started;
+        volatile StreamObserverSubscriber<I> subscriber;
+
+        FlowControlledResponseObserver(StreamObserver<O> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void beforeStart(ClientCallStreamObserver<I> requestStream) {
+            started = true;
+            requestStream.setOnReadyHandler(new Runnable() {
+                @Override
+                public void run() {
+                    StreamObserverSubscriber<I> s = subscriber;
+                    if (s != null) {
+                        s.onReady();
+                    }
+                }
+            });
+        }
+
+        @Override
+        public void onNext(O value) {
+            delegate.onNext(value);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            delegate.onError(t);
+        }
 
+        @Override
+        public void onCompleted() {
+            delegate.onCompleted();
+        }
     }
 }
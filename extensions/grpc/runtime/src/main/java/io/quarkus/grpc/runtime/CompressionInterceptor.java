@@ -0,0 +1,29 @@
+package io.quarkus.grpc.runtime;
+
+import io.grpc.CompressorRegistry;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+
+/**
+ * Compresses the responses of all the calls with the configured compressor.
+ */
+final class CompressionInterceptor implements ServerInterceptor {
+
+    private final String compression;
+
+    CompressionInterceptor(String compression) {
+        if (CompressorRegistry.getDefaultInstance().lookupCompressor(compression) == null) {
+            throw new IllegalArgumentException("Unknown gRPC compression: " + compression);
+        }
+        this.compression = compression;
+    }
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+            ServerCallHandler<ReqT, RespT> next) {
+        call.setCompression(compression);
+        return next.startCall(call, headers);
+    }
+}
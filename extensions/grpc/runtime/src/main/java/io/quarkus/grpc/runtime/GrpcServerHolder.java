@@ -4,6 +4,11 @@ import io.vertx.grpc.VertxServer;
 
 public class GrpcServerHolder {
 
+    /**
+     * One of the server instances, they all listen on the same port.
+     */
     public static volatile VertxServer server;
 
+    static volatile String deploymentId;
+
 }
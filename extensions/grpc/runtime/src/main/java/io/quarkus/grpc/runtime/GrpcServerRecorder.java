@@ -14,6 +14,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import javax.enterprise.inject.Instance;
 
@@ -23,6 +24,7 @@ import grpc.health.v1.HealthOuterClass;
 import io.grpc.BindableService;
 import io.grpc.ServerInterceptor;
 import io.grpc.ServerServiceDefinition;
+import io.grpc.netty.NettyServerBuilder;
 import io.quarkus.arc.Arc;
 import io.quarkus.grpc.runtime.config.GrpcConfiguration;
 import io.quarkus.grpc.runtime.config.GrpcServerConfiguration;
@@ -33,8 +35,12 @@ import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.runtime.configuration.ProfileManager;
+import io.vertx.core.AbstractVerticle;
 import io.vertx.core.AsyncResult;
+import io.vertx.core.DeploymentOptions;
 import io.vertx.core.Handler;
+import io.vertx.core.Promise;
+import io.vertx.core.Verticle;
 import io.vertx.core.Vertx;
 import io.vertx.core.http.HttpServerOptions;
 import io.vertx.grpc.VertxServer;
@@ -44,9 +50,20 @@ import io.vertx.grpc.VertxServerBuilder;
 public class GrpcServerRecorder {
     private static final Logger LOGGER = Logger.getLogger(GrpcServerRecorder.class.getName());
 
+    /**
+     * Applies the streaming configuration shared by the gRPC services and clients.
+     */
+    public void configureStreaming(GrpcConfiguration cfg) {
+        if (cfg.streamPrefetch < 1) {
+            throw new IllegalArgumentException(
+                    "quarkus.grpc.stream-prefetch must be greater than 0, was " + cfg.streamPrefetch);
+        }
+        StreamObserverSubscriber.prefetch = cfg.streamPrefetch;
+    }
+
     public void initializeGrpcServer(RuntimeValue<Vertx> vertxSupplier,
             GrpcConfiguration cfg,
-            ShutdownContext shutdown) {
+            ShutdownContext shutdown, Supplier<Integer> eventLoops) {
         GrpcContainer grpcContainer = Arc.container().instance(GrpcContainer.class).get();
         if (grpcContainer == null) {
             throw new IllegalStateException("gRPC not initialized, GrpcContainer not found");
@@ -59,35 +76,8 @@ public class GrpcServerRecorder {
 
         GrpcServerConfiguration configuration = cfg.server;
 
-        // TODO Support scalability model (using a verticle and instance number)
-
         synchronized (GrpcServerHolder.class) {
             if (GrpcServerHolder.server == null) {
-                VertxServerBuilder builder = VertxServerBuilder
-                        .forAddress(vertx, configuration.host, configuration.port);
-
-                AtomicBoolean usePlainText = new AtomicBoolean();
-                builder.useSsl(new Handler<HttpServerOptions>() { // NOSONAR
-                    @Override
-                    public void handle(HttpServerOptions options) {
-                        try {
-                            usePlainText.set(applySslOptions(configuration, options));
-                        } catch (IOException e) {
-                            throw new UncheckedIOException(e);
-                        }
-                    }
-                });
-
-                if (configuration.maxInboundMessageSize.isPresent()) {
-                    builder.maxInboundMessageSize(configuration.maxInboundMessageSize.getAsInt());
-                }
-                Optional<Duration> handshakeTimeout = configuration.handshakeTimeout;
-                if (handshakeTimeout.isPresent()) {
-                    builder.handshakeTimeout(handshakeTimeout.get().toMillis(), TimeUnit.MILLISECONDS);
-                }
-
-                applyTransportSecurityConfig(configuration, builder);
-
                 if (grpcContainer.getServices().isUnsatisfied()) {
                     LOGGER.warn(
                             "Unable to find bean exposing the `BindableService` interface - not starting the gRPC server");
@@ -97,27 +87,40 @@ public class GrpcServerRecorder {
                 boolean reflectionServiceEnabled = configuration.enableReflectionService
                         || ProfileManager.getLaunchMode() == LaunchMode.DEVELOPMENT;
                 List<ServerServiceDefinition> definitions = gatherServices(grpcContainer.getServices());
-                for (ServerServiceDefinition definition : definitions) {
-                    builder.addService(definition);
-                }
-
                 if (reflectionServiceEnabled) {
                     LOGGER.info("Registering gRPC reflection service");
-                    builder.addService(new ReflectionService(definitions));
+                    definitions.add(new ReflectionService(definitions).bindService());
                 }
-
-                for (ServerInterceptor serverInterceptor : grpcContainer.getSortedInterceptors()) {
-                    builder.intercept(serverInterceptor);
+                List<ServerInterceptor> interceptors = new ArrayList<>(grpcContainer.getSortedInterceptors());
+                if (configuration.compression.isPresent()) {
+                    interceptors.add(new CompressionInterceptor(configuration.compression.get()));
                 }
 
-                LOGGER.debugf("Starting gRPC Server on %s:%d  [SSL enabled: %s]...",
-                        configuration.host, configuration.port, !usePlainText.get());
+                int eventLoopCount = eventLoops.get();
+                int instances = configuration.ioThreads.isPresent()
+                        ? Math.min(configuration.ioThreads.getAsInt(), eventLoopCount)
+                        : eventLoopCount;
+
+                LOGGER.debugf("Starting gRPC Server on %s:%d with %d instances...",
+                        configuration.host, configuration.port, instances);
 
+                // every instance is bound to its own event loop, the connections are distributed among them
+                AtomicBoolean usePlainText = new AtomicBoolean();
                 CountDownLatch started = new CountDownLatch(1);
-                VertxServer server = builder.build();
-                GrpcServerHolder.server = server.start(new Handler<AsyncResult<Void>>() { // NOSONAR
+                vertx.deployVerticle(new Supplier<Verticle>() { // NOSONAR
+                    @Override
+                    public Verticle get() {
+                        return new GrpcServerVerticle(configuration, definitions, interceptors, usePlainText);
+                    }
+                }, new DeploymentOptions().setInstances(instances), new Handler<AsyncResult<String>>() { // NOSONAR
                     @Override
-                    public void handle(AsyncResult<Void> ar) {
+                    public void handle(AsyncResult<String> ar) {
+                        if (ar.succeeded()) {
+                            GrpcServerHolder.deploymentId = ar.result();
+                        } else {
+                            // the instances started successfully have been undeployed
+                            GrpcServerHolder.server = null;
+                        }
                         onServerStarted(ar, configuration, configuration.plainText, grpcContainer, started);
                     }
                 });
@@ -127,7 +130,7 @@ public class GrpcServerRecorder {
                     shutdown.addLastShutdownTask(new Runnable() { // NOSONAR
                         @Override
                         public void run() {
-                            onShutdown();
+                            onShutdown(vertx);
                         }
                     });
                 } catch (InterruptedException e) {
@@ -138,31 +141,39 @@ public class GrpcServerRecorder {
         }
     }
 
-    private void onShutdown() {
-        if (GrpcServerHolder.server != null) {
+    private void onShutdown(Vertx vertx) {
+        String deploymentId = GrpcServerHolder.deploymentId;
+        if (deploymentId != null) {
             LOGGER.info("Stopping gRPC server");
-            GrpcServerHolder.server.shutdown(new Handler<AsyncResult<Void>>() { // NOSONAR
+            CountDownLatch stopped = new CountDownLatch(1);
+            vertx.undeploy(deploymentId, new Handler<AsyncResult<Void>>() { // NOSONAR
                 @Override
                 public void handle(AsyncResult<Void> ar) {
                     if (ar.failed()) {
                         LOGGER.errorf(ar.cause(), "Unable to stop the gRPC server gracefully");
                     }
+                    stopped.countDown();
                 }
             });
 
             try {
-                GrpcServerHolder.server.awaitTermination(10, TimeUnit.SECONDS);
-                LOGGER.debug("gRPC Server stopped");
+                if (stopped.await(10, TimeUnit.SECONDS)) {
+                    LOGGER.debug("gRPC Server stopped");
+                } else {
+                    LOGGER.error("Unable to stop the gRPC server gracefully");
+                }
             } catch (InterruptedException e) {
                 Thread.currentThread().interrupt();
                 LOGGER.error("Unable to stop the gRPC server gracefully");
             }
 
-            GrpcServerHolder.server = null; // NOSONAR - this assignment is required for the hot reload.
+            // NOSONAR - these assignments are required for the hot reload.
+            GrpcServerHolder.deploymentId = null;
+            GrpcServerHolder.server = null;
         }
     }
 
-    private void onServerStarted(AsyncResult<Void> ar, GrpcServerConfiguration configuration,
+    private void onServerStarted(AsyncResult<?> ar, GrpcServerConfiguration configuration,
             boolean usePlainText, GrpcContainer grpcContainer, CountDownLatch started) {
         try {
             if (ar.succeeded()) {
@@ -194,7 +205,61 @@ public class GrpcServerRecorder {
 
     }
 
-    private void applyTransportSecurityConfig(GrpcServerConfiguration configuration, VertxServerBuilder builder) {
+    private static VertxServer buildServer(Vertx vertx, GrpcServerConfiguration configuration,
+            List<ServerServiceDefinition> definitions, List<ServerInterceptor> interceptors, AtomicBoolean usePlainText) {
+        VertxServerBuilder builder = VertxServerBuilder
+                .forAddress(vertx, configuration.host, configuration.port);
+
+        builder.useSsl(new Handler<HttpServerOptions>() { // NOSONAR
+            @Override
+            public void handle(HttpServerOptions options) {
+                try {
+                    usePlainText.set(applySslOptions(configuration, options));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        });
+
+        if (configuration.maxInboundMessageSize.isPresent()) {
+            builder.maxInboundMessageSize(configuration.maxInboundMessageSize.getAsInt());
+        }
+        Optional<Duration> handshakeTimeout = configuration.handshakeTimeout;
+        if (handshakeTimeout.isPresent()) {
+            builder.handshakeTimeout(handshakeTimeout.get().toMillis(), TimeUnit.MILLISECONDS);
+        }
+        applyNettyConfig(configuration, builder.nettyBuilder());
+        applyTransportSecurityConfig(configuration, builder);
+
+        for (ServerServiceDefinition definition : definitions) {
+            builder.addService(definition);
+        }
+        for (ServerInterceptor serverInterceptor : interceptors) {
+            builder.intercept(serverInterceptor);
+        }
+        return builder.build();
+    }
+
+    private static void applyNettyConfig(GrpcServerConfiguration configuration, NettyServerBuilder builder) {
+        if (configuration.keepAliveTime.isPresent()) {
+            builder.keepAliveTime(configuration.keepAliveTime.get().toNanos(), TimeUnit.NANOSECONDS);
+        }
+        if (configuration.keepAliveTimeout.isPresent()) {
+            builder.keepAliveTimeout(configuration.keepAliveTimeout.get().toNanos(), TimeUnit.NANOSECONDS);
+        }
+        if (configuration.permitKeepAliveTime.isPresent()) {
+            builder.permitKeepAliveTime(configuration.permitKeepAliveTime.get().toNanos(), TimeUnit.NANOSECONDS);
+        }
+        builder.permitKeepAliveWithoutCalls(configuration.permitKeepAliveWithoutCalls);
+        if (configuration.maxConcurrentCallsPerConnection.isPresent()) {
+            builder.maxConcurrentCallsPerConnection(configuration.maxConcurrentCallsPerConnection.getAsInt());
+        }
+        if (configuration.flowControlWindow.isPresent()) {
+            builder.flowControlWindow(configuration.flowControlWindow.getAsInt());
+        }
+    }
+
+    private static void applyTransportSecurityConfig(GrpcServerConfiguration configuration, VertxServerBuilder builder) {
         if (configuration.transportSecurity != null) {
             File cert = configuration.transportSecurity.certificate
                     .map(new Function<String, File>() { // NOSONAR
@@ -237,4 +302,44 @@ public class GrpcServerRecorder {
         });
         return definitions;
     }
+
+    /**
+     * A gRPC server instance bound to the event loop of the verticle. The instances deployed with the same host and port
+     * share the listening socket.
+     */
+    private static class GrpcServerVerticle extends AbstractVerticle {
+
+        private final GrpcServerConfiguration configuration;
+        private final List<ServerServiceDefinition> definitions;
+        private final List<ServerInterceptor> interceptors;
+        private final AtomicBoolean usePlainText;
+        private VertxServer server;
+
+        GrpcServerVerticle(GrpcServerConfiguration configuration, List<ServerServiceDefinition> definitions,
+                List<ServerInterceptor> interceptors, AtomicBoolean usePlainText) {
+            this.configuration = configuration;
+            this.definitions = definitions;
+            this.interceptors = interceptors;
+            this.usePlainText = usePlainText;
+        }
+
+        @Override
+        public void start(Promise<Void> startPromise) {
+            server = buildServer(vertx, configuration, definitions, interceptors, usePlainText);
+            server.start(new Handler<AsyncResult<Void>>() { // NOSONAR
+                @Override
+                public void handle(AsyncResult<Void> ar) {
+                    if (ar.succeeded() && GrpcServerHolder.server == null) {
+                        GrpcServerHolder.server = server;
+                    }
+                    startPromise.handle(ar);
+                }
+            });
+        }
+
+        @Override
+        public void stop(Promise<Void> stopPromise) {
+            server.shutdown(stopPromise);
+        }
+    }
 }
@@ -6,6 +6,7 @@ import java.util.function.Function;
 import io.grpc.Status;
 import io.grpc.StatusException;
 import io.grpc.StatusRuntimeException;
+import io.grpc.stub.ServerCallStreamObserver;
 import io.grpc.stub.StreamObserver;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
@@ -40,26 +41,8 @@ public class ServerCalls {
 
     public static <I, O> void oneToMany(I request, StreamObserver<O> response, Function<I, Multi<O>> implementation) {
         try {
-            implementation.apply(request)
-                    .subscribe().with(
-                            new Consumer<O>() {
-                                @Override
-                                public void accept(O v) {
-                                    response.onNext(v);
-                                }
-                            },
-                            new Consumer<Throwable>() {
-                                @Override
-                                public void accept(Throwable throwable) {
-                                    response.onError(throwable);
-                                }
-                            },
-                            new Runnable() {
-                                @Override
-                                public void run() {
-                                    response.onCompleted();
-                                }
-                            });
+            StreamObserverSubscriber<O> subscriber = subscriber(response, Function.identity());
+            implementation.apply(request).subscribe().withSubscriber(subscriber);
         } catch (Throwable throwable) {
             response.onError(toStatusFailure(throwable));
         }
@@ -97,26 +80,8 @@ public class ServerCalls {
         try {
             UnicastProcessor<I> input = UnicastProcessor.create();
             StreamObserver<I> pump = getStreamObserverFeedingProcessor(input);
-            Multi<O> uni = implementation.apply(input);
-            uni.subscribe().with(
-                    new Consumer<O>() {
-                        @Override
-                        public void accept(O v) {
-                            response.onNext(v);
-                        }
-                    },
-                    new Consumer<Throwable>() {
-                        @Override
-                        public void accept(Throwable failure) {
-                            response.onError(toStatusFailure(failure));
-                        }
-                    },
-                    new Runnable() {
-                        @Override
-                        public void run() {
-                            response.onCompleted();
-                        }
-                    });
+            StreamObserverSubscriber<O> subscriber = subscriber(response, ServerCalls::toStatusFailure);
+            implementation.apply(input).subscribe().withSubscriber(subscriber);
             return pump;
         } catch (Throwable throwable) {
             response.onError(toStatusFailure(throwable));
@@ -124,6 +89,22 @@ public class ServerCalls {
         }
     }
 
+    /**
+     * Creates the subscriber forwarding the items of a {@code Multi} to the response. The handlers must be set before the
+     * method invoked by gRPC returns.
+     */
+    private static <O> StreamObserverSubscriber<O> subscriber(StreamObserver<O> response,
+            Function<Throwable, Throwable> errorMapper) {
+        if (response instanceof ServerCallStreamObserver) {
+            ServerCallStreamObserver<O> call = (ServerCallStreamObserver<O>) response;
+            StreamObserverSubscriber<O> subscriber = new StreamObserverSubscriber<>(response, true, errorMapper);
+            call.setOnReadyHandler(subscriber::onReady);
+            call.setOnCancelHandler(subscriber::cancel);
+            return subscriber;
+        }
+        return new StreamObserverSubscriber<>(response, false, errorMapper);
+    }
+
     private static <I> StreamObserver<I> getStreamObserverFeedingProcessor(UnicastProcessor<I> input) {
         return new StreamObserver<I>() {
             @Override
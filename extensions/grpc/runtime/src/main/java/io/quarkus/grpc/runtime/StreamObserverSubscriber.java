@@ -0,0 +1,134 @@
+package io.quarkus.grpc.runtime;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import io.grpc.stub.CallStreamObserver;
+import io.grpc.stub.StreamObserver;
+
+/**
+ * Forwards the items of a {@code Multi} to a gRPC {@link StreamObserver}, honouring the gRPC flow control.
+ * <p>
+ * When the observer is a {@link CallStreamObserver}, the items are requested from the {@code Multi} only when the
+ * transport is ready, in batches, so that at most {@code prefetch} items are in flight. The requests are replenished once
+ * three quarters of the window have been sent. Otherwise, all the items are requested at once.
+ * <p>
+ * {@link #onReady()} must be registered as the on-ready handler of the call, and {@link #cancel()} as the on-cancel
+ * handler if the call supports it.
+ *
+ * @param <T> the type of the items
+ */
+final class StreamObserverSubscriber<T> implements Subscriber<T> {
+
+    /**
+     * The number of items requested from a {@code Multi} at once, set from the configuration at runtime init.
+     */
+    static volatile int prefetch = 16;
+
+    private final StreamObserver<T> observer;
+    private final CallStreamObserver<T> flowControl;
+    private final Function<Throwable, Throwable> errorMapper;
+    private final int window;
+    private final int limit;
+
+    private final AtomicReference<Subscription> subscription = new AtomicReference<>();
+    private final AtomicInteger outstanding = new AtomicInteger();
+    private volatile boolean cancelled;
+
+    /**
+     * @param observer the observer receiving the items
+     * @param flowControlled whether the readiness of the observer is reported to {@link #onReady()}
+     * @param errorMapper the function applied to the failure before it is passed to the observer
+     */
+    StreamObserverSubscriber(StreamObserver<T> observer, boolean flowControlled,
+            Function<Throwable, Throwable> errorMapper) {
+        this.observer = observer;
+        this.flowControl = flowControlled && observer instanceof CallStreamObserver ? (CallStreamObserver<T>) observer
+                : null;
+        this.errorMapper = errorMapper;
+        this.window = Math.max(1, prefetch);
+        this.limit = window - (window >> 2);
+    }
+
+    @Override
+    public void onSubscribe(Subscription s) {
+        if (!subscription.compareAndSet(null, s)) {
+            s.cancel();
+            return;
+        }
+        if (cancelled) {
+            s.cancel();
+        } else if (flowControl == null) {
+            s.request(Long.MAX_VALUE);
+        } else {
+            requestMore();
+        }
+    }
+
+    @Override
+    public void onNext(T item) {
+        if (cancelled) {
+            return;
+        }
+        observer.onNext(item);
+        if (flowControl != null) {
+            outstanding.decrementAndGet();
+            requestMore();
+        }
+    }
+
+    @Override
+    public void onError(Throwable failure) {
+        if (!cancelled) {
+            observer.onError(errorMapper.apply(failure));
+        }
+    }
+
+    @Override
+    public void onComplete() {
+        if (!cancelled) {
+            observer.onCompleted();
+        }
+    }
+
+    /**
+     * Called when the transport becomes ready to accept more items.
+     */
+    void onReady() {
+        requestMore();
+    }
+
+    /**
+     * Called when the call is cancelled, the pending and future items are dropped.
+     */
+    void cancel() {
+        cancelled = true;
+        Subscription s = subscription.get();
+        if (s != null) {
+            s.cancel();
+        }
+    }
+
+    private void requestMore() {
+        Subscription s = subscription.get();
+        if (s == null || cancelled || flowControl == null || !flowControl.isReady()) {
+            return;
+        }
+        for (;;) {
+            int current = outstanding.get();
+            int missing = window - current;
+            if (missing < limit) {
+                // enough items are still in flight
+                return;
+            }
+            if (outstanding.compareAndSet(current, window)) {
+                s.request(missing);
+                return;
+            }
+        }
+    }
+}
@@ -24,4 +24,12 @@ public class GrpcConfiguration {
     @ConfigDocSection
     public GrpcServerConfiguration server;
 
+    /**
+     * The number of items requested at once from a {@code Multi} streamed by a gRPC service or a gRPC client.
+     * The items are only requested when the transport is ready to send them, so this is the maximum number of items
+     * waiting to be sent on a stream.
+     */
+    @ConfigItem(defaultValue = "16")
+    public int streamPrefetch;
+
 }
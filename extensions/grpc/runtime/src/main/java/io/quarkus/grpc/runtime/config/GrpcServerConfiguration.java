@@ -34,6 +34,57 @@ public class GrpcServerConfiguration {
      */
     public @ConfigItem OptionalInt maxInboundMessageSize;
 
+    /**
+     * The number of event loops the gRPC server runs on, each of them with its own server instance sharing the port.
+     * By default, all the Vert.x event loops are used. If this is set to a higher value than the number of event loops,
+     * it is capped at the number of event loops.
+     */
+    @ConfigItem
+    public OptionalInt ioThreads;
+
+    /**
+     * The duration after which a keep alive ping is sent to a client without activity.
+     */
+    @ConfigItem
+    public Optional<Duration> keepAliveTime;
+
+    /**
+     * The duration to wait for the acknowledgement of a keep alive ping before closing the connection.
+     */
+    @ConfigItem
+    public Optional<Duration> keepAliveTimeout;
+
+    /**
+     * The most aggressive keep alive interval allowed to the clients. The connections of the clients sending pings more
+     * often are closed.
+     */
+    @ConfigItem
+    public Optional<Duration> permitKeepAliveTime;
+
+    /**
+     * Whether the clients are allowed to send keep alive pings when there is no outstanding call.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean permitKeepAliveWithoutCalls;
+
+    /**
+     * The maximum number of concurrent calls per connection. Unlimited by default.
+     */
+    @ConfigItem
+    public OptionalInt maxConcurrentCallsPerConnection;
+
+    /**
+     * The initial HTTP/2 flow control window of the connections and streams, in bytes.
+     */
+    @ConfigItem
+    public OptionalInt flowControlWindow;
+
+    /**
+     * The compression of the responses, e.g. {@code gzip}. By default, the responses are not compressed.
+     */
+    @ConfigItem
+    public Optional<String> compression;
+
     /**
      * The SSL/TLS config.
      */
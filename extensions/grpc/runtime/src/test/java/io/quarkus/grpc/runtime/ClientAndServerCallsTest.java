@@ -5,13 +5,17 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.jupiter.api.Test;
 
 import io.grpc.Status;
 import io.grpc.StatusException;
+import io.grpc.stub.ServerCallStreamObserver;
 import io.smallrye.mutiny.Multi;
 import io.smallrye.mutiny.Uni;
 
@@ -109,6 +113,130 @@ public class ClientAndServerCallsTest {
                 });
     }
 
+    @Test
+    public void testOneToManyHonoursReadiness() {
+        List<Long> requests = new CopyOnWriteArrayList<>();
+        Multi<Integer> items = Multi.createFrom().range(0, 100).on().request(requests::add);
+        FakeServerCallStreamObserver<Integer> response = new FakeServerCallStreamObserver<>();
+        response.ready = false;
+
+        ServerCalls.oneToMany("ignored", response, s -> items);
+        assertThat(requests).isEmpty();
+        assertThat(response.items).isEmpty();
+
+        response.setReady(true);
+        assertThat(response.items).hasSize(100);
+        assertThat(response.completed).isTrue();
+        assertThat(requests).allSatisfy(n -> assertThat(n).isLessThanOrEqualTo(StreamObserverSubscriber.prefetch));
+    }
+
+    @Test
+    public void testOneToManyStopsWhenNotReady() {
+        FakeServerCallStreamObserver<Integer> response = new FakeServerCallStreamObserver<Integer>() {
+            @Override
+            public void onNext(Integer value) {
+                super.onNext(value);
+                if (items.size() == 20) {
+                    // the transport buffer is full
+                    ready = false;
+                }
+            }
+        };
+
+        ServerCalls.oneToMany("ignored", response, s -> Multi.createFrom().range(0, 100));
+        // the items requested before the transport became unready are still delivered
+        assertThat(response.items).hasSizeLessThan(20 + StreamObserverSubscriber.prefetch);
+        assertThat(response.completed).isFalse();
+
+        response.setReady(true);
+        assertThat(response.completed).isTrue();
+        assertThat(response.items).hasSize(100);
+    }
+
+    @Test
+    public void testOneToManyCancellation() {
+        AtomicBoolean cancelled = new AtomicBoolean();
+        FakeServerCallStreamObserver<Integer> response = new FakeServerCallStreamObserver<>();
+        response.ready = false;
+
+        ServerCalls.oneToMany("ignored", response,
+                s -> Multi.createFrom().range(0, 100).on().cancellation(() -> cancelled.set(true)));
+        response.cancel();
+        assertThat(cancelled).isTrue();
+        response.setReady(true);
+        assertThat(response.items).isEmpty();
+    }
+
+    static class FakeServerCallStreamObserver<T> extends ServerCallStreamObserver<T> {
+
+        final List<T> items = new ArrayList<>();
+        volatile boolean ready = true;
+        volatile boolean completed;
+        private Runnable onReadyHandler;
+        private Runnable onCancelHandler;
+
+        void setReady(boolean ready) {
+            this.ready = ready;
+            if (ready) {
+                onReadyHandler.run();
+            }
+        }
+
+        void cancel() {
+            onCancelHandler.run();
+        }
+
+        @Override
+        public boolean isReady() {
+            return ready;
+        }
+
+        @Override
+        public void setOnReadyHandler(Runnable onReadyHandler) {
+            this.onReadyHandler = onReadyHandler;
+        }
+
+        @Override
+        public void setOnCancelHandler(Runnable onCancelHandler) {
+            this.onCancelHandler = onCancelHandler;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return false;
+        }
+
+        @Override
+        public void setCompression(String compression) {
+        }
+
+        @Override
+        public void disableAutoInboundFlowControl() {
+        }
+
+        @Override
+        public void request(int count) {
+        }
+
+        @Override
+        public void setMessageCompression(boolean enable) {
+        }
+
+        @Override
+        public void onNext(T value) {
+            items.add(value);
+        }
+
+        @Override
+        public void onError(Throwable t) {
+        }
+
+        @Override
+        public void onCompleted() {
+            completed = true;
+        }
+    }
+
     static class FakeService {
 
         Uni<String> oneToOne(String s) {
@@ -755,15 +755,49 @@ public class QuteProcessor {
         } else {
             variants = Collections.emptyMap();
         }
+        Map<String, String> aliases = collectTemplateAliases(
+                templatePaths.stream().map(TemplatePathBuildItem::getPath).collect(Collectors.toSet()), config.suffixes);
 
         syntheticBeans.produce(SyntheticBeanBuildItem.configure(QuteContext.class)
                 .supplier(recorder.createContext(config, generatedValueResolvers.stream()
                         .map(GeneratedValueResolverBuildItem::getClassName).collect(Collectors.toList()), templates,
-                        tags, variants))
+                        tags, variants, aliases))
                 .done());
         ;
     }
 
+    /**
+     * Templates are usually looked up without the suffix, e.g. {@code @Inject Template items} and
+     * {@code engine.getTemplate("items")} locate the {@code items.html} file. The lookup is resolved during the build so that
+     * the templates can be registered under these ids at startup.
+     * 
+     * @param paths
+     * @param suffixes
+     * @return the map of ids without suffix to template paths
+     */
+    static Map<String, String> collectTemplateAliases(Set<String> paths, List<String> suffixes) {
+        Map<String, String> aliases = new HashMap<>();
+        for (String path : paths) {
+            for (String suffix : suffixes) {
+                if (!path.endsWith("." + suffix)) {
+                    continue;
+                }
+                String id = path.substring(0, path.length() - suffix.length() - 1);
+                if (paths.contains(id) || aliases.containsKey(id)) {
+                    continue;
+                }
+                // The first suffix wins, see EngineProducer#locate()
+                for (String candidate : suffixes) {
+                    if (paths.contains(id + "." + candidate)) {
+                        aliases.put(id, id + "." + candidate);
+                        break;
+                    }
+                }
+            }
+        }
+        return aliases;
+    }
+
     private Type resolveType(AnnotationTarget member, Match match, IndexView index) {
         Type matchType;
         if (member.kind() == Kind.FIELD) {
@@ -0,0 +1,44 @@
+package io.quarkus.qute.deployment.init;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.Template;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class EagerInitTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addAsResource(new StringAsset("{name}!"), "templates/tags/hello.txt")
+                    .addAsResource(new StringAsset("{#hello name=name /}"), "templates/foo.html")
+                    .addAsResource(new StringAsset("{name}"), "templates/foo.txt")
+                    .addAsResource(new StringAsset("{name}"), "templates/bar.qute.txt"));
+
+    @Inject
+    Engine engine;
+
+    @Inject
+    Template foo;
+
+    @Test
+    public void testTemplatesRegisteredAtStartup() {
+        // The first suffix wins: qute.html,qute.txt,html,txt
+        assertSame(engine.getTemplate("foo.html"), engine.getTemplate("foo"));
+        assertSame(engine.getTemplate("bar.qute.txt"), engine.getTemplate("bar"));
+        assertSame(engine.getTemplate("bar.qute.txt"), engine.getTemplate("bar.qute"));
+        assertSame(engine.getTemplate("tags/hello.txt"), engine.getTemplate("tags/hello"));
+        assertEquals("OK!", foo.data("name", "OK").render());
+    }
+
+}
@@ -0,0 +1,39 @@
+package io.quarkus.qute.deployment.init;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.Template;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class LazyInitTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addAsResource(new StringAsset("{name}"), "templates/foo.html"))
+            .overrideConfigKey("quarkus.qute.eager-init", "false");
+
+    @Inject
+    Engine engine;
+
+    @Inject
+    Template foo;
+
+    @Test
+    public void testTemplatesParsedOnFirstUse() {
+        assertEquals("OK", foo.data("name", "OK").render());
+        // Each id is parsed separately
+        assertNotSame(engine.getTemplate("foo.html"), engine.getTemplate("foo"));
+    }
+
+}
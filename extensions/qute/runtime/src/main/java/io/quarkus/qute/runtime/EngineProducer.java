@@ -6,6 +6,8 @@ import java.io.Reader;
 import java.net.URL;
 import java.nio.charset.Charset;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
 
 import javax.enterprise.context.ApplicationScoped;
@@ -23,6 +25,7 @@ import io.quarkus.qute.EngineBuilder;
 import io.quarkus.qute.NamespaceResolver;
 import io.quarkus.qute.ReflectionValueResolver;
 import io.quarkus.qute.Results.Result;
+import io.quarkus.qute.Template;
 import io.quarkus.qute.TemplateLocator.TemplateLocation;
 import io.quarkus.qute.UserTagSectionHelper;
 import io.quarkus.qute.ValueResolver;
@@ -46,12 +49,14 @@ public class EngineProducer {
     private final List<String> suffixes;
     private final String basePath;
     private final String tagPath;
+    private final Map<String, String> aliases;
 
     public EngineProducer(QuteContext context, Event<EngineBuilder> event) {
         this.suffixes = context.getConfig().suffixes;
         this.basePath = "templates/";
         this.tagPath = basePath + TAGS;
         this.tags = context.getTags();
+        this.aliases = context.getTemplateAliases();
 
         LOGGER.debugf("Initializing Qute [templates: %s, tags: %s, resolvers: %s", context.getTemplatePaths(), tags,
                 context.getResolverClasses());
@@ -100,11 +105,27 @@ public class EngineProducer {
         }
         // Add locator
         builder.addLocator(this::locate);
+        builder.useInlineCaches(context.getConfig().inlineCaches);
         engine = builder.build();
 
-        // Load discovered templates
-        for (String path : context.getTemplatePaths()) {
-            engine.getTemplate(path);
+        if (context.getConfig().eagerInit) {
+            // Load discovered templates and tags
+            long start = System.currentTimeMillis();
+            for (String path : context.getTemplatePaths()) {
+                engine.getTemplate(path);
+            }
+            for (String tag : tags) {
+                engine.getTemplate(TAGS + tag);
+            }
+            // Register the templates under the ids resolved during the build, e.g. items -> items.html
+            for (Entry<String, String> alias : aliases.entrySet()) {
+                Template template = engine.getTemplate(alias.getValue());
+                if (template != null) {
+                    engine.putTemplate(alias.getKey(), template);
+                }
+            }
+            LOGGER.debugf("Loaded %s templates in %s ms", context.getTemplatePaths().size() + tags.size(),
+                    System.currentTimeMillis() - start);
         }
     }
 
@@ -141,7 +162,8 @@ public class EngineProducer {
      */
     private Optional<TemplateLocation> locate(String path) {
         URL resource = null;
-        String templatePath = basePath + path;
+        // The id without suffix was resolved during the build
+        String templatePath = basePath + aliases.getOrDefault(path, path);
         LOGGER.debugf("Locate template for %s", templatePath);
         resource = locatePath(templatePath);
         if (resource == null) {
@@ -11,6 +11,17 @@ import io.quarkus.qute.Variant;
 
 class HtmlEscaper implements ResultMapper {
 
+    // The replacements indexed by the character, null if the character is not escaped
+    private static final char[][] REPLACEMENTS = new char['>' + 1][];
+
+    static {
+        REPLACEMENTS['"'] = "&quot;".toCharArray();
+        REPLACEMENTS['\''] = "&#39;".toCharArray();
+        REPLACEMENTS['&'] = "&amp;".toCharArray();
+        REPLACEMENTS['<'] = "&lt;".toCharArray();
+        REPLACEMENTS['>'] = "&gt;".toCharArray();
+    }
+
     @Override
     public boolean appliesTo(Origin origin, Object result) {
         if (result instanceof RawString) {
@@ -25,18 +36,20 @@ class HtmlEscaper implements ResultMapper {
 
     @Override
     public String map(Object result, Expression expression) {
-        return escape(result.toString());
+        if (result instanceof RawString) {
+            return ((RawString) result).getValue();
+        }
+        // Do not copy a string builder etc. if it needs escaping
+        return escape(result instanceof CharSequence ? (CharSequence) result : result.toString());
     }
 
     String escape(CharSequence value) {
-        if (Objects.requireNonNull(value).length() == 0) {
-            return value.toString();
-        }
-        for (int i = 0; i < value.length(); i++) {
-            String replacement = replacementFor(value.charAt(i));
-            if (replacement != null) {
+        int length = Objects.requireNonNull(value).length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < REPLACEMENTS.length && REPLACEMENTS[c] != null) {
                 // In most cases we will not need to escape the value at all
-                return doEscape(value, i, new StringBuilder(value.subSequence(0, i)).append(replacement));
+                return doEscape(value, i, length);
             }
         }
         return value.toString();
@@ -48,35 +61,31 @@ class HtmlEscaper implements ResultMapper {
                 : false;
     }
 
-    private String doEscape(CharSequence value, int index, StringBuilder builder) {
-        int length = value.length();
-        while (++index < length) {
-            char c = value.charAt(index);
-            String replacement = replacementFor(c);
+    private String doEscape(CharSequence value, int index, int length) {
+        // Compute the length of the escaped value first so that the result is written to an array of the exact size
+        int escapedLength = length;
+        for (int i = index; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < REPLACEMENTS.length && REPLACEMENTS[c] != null) {
+                escapedLength += REPLACEMENTS[c].length - 1;
+            }
+        }
+        char[] escaped = new char[escapedLength];
+        for (int i = 0; i < index; i++) {
+            escaped[i] = value.charAt(i);
+        }
+        int position = index;
+        for (int i = index; i < length; i++) {
+            char c = value.charAt(i);
+            char[] replacement = c < REPLACEMENTS.length ? REPLACEMENTS[c] : null;
             if (replacement != null) {
-                builder.append(replacement);
+                System.arraycopy(replacement, 0, escaped, position, replacement.length);
+                position += replacement.length;
             } else {
-                builder.append(c);
+                escaped[position++] = c;
             }
         }
-        return builder.toString();
-    }
-
-    private String replacementFor(char c) {
-        switch (c) {
-            case '"':
-                return "&quot;";
-            case '\'':
-                return "&#39;";
-            case '&':
-                return "&amp;";
-            case '<':
-                return "&lt;";
-            case '>':
-                return "&gt;";
-            default:
-                return null;
-        }
+        return new String(escaped);
     }
 
 }
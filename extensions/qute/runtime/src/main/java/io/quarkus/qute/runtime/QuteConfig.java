@@ -19,4 +19,23 @@ public class QuteConfig {
     @ConfigItem(defaultValue = "qute.html,qute.txt,html,txt")
     public List<String> suffixes;
 
+    /**
+     * If set to true, the first value resolver that applies to a part of an expression is cached for the class of the base
+     * object and the resolvers that do not apply are skipped next time the part is evaluated.
+     */
+    @ConfigItem(defaultValue = "true")
+    public boolean inlineCaches;
+
+    /**
+     * If set to true, all templates found in `src/main/resources/templates` are parsed at startup, including user tags.
+     * Each template is also registered under the id without suffix, so that e.g. `@Inject Template items` does not parse
+     * `items.html` again on first use.
+     * 
+     * If set to false, the templates are parsed lazily on first use.
+     * 
+     * @asciidoclet
+     */
+    @ConfigItem(defaultValue = "true")
+    public boolean eagerInit;
+
 }
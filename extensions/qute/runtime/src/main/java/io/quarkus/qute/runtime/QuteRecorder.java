@@ -10,7 +10,8 @@ import io.quarkus.runtime.annotations.Recorder;
 public class QuteRecorder {
 
     public Supplier<Object> createContext(QuteConfig config, List<String> resolverClasses,
-            List<String> templatePaths, List<String> tags, Map<String, List<String>> variants) {
+            List<String> templatePaths, List<String> tags, Map<String, List<String>> variants,
+            Map<String, String> templateAliases) {
         return new Supplier<Object>() {
 
             @Override
@@ -41,6 +42,11 @@ public class QuteRecorder {
                     public Map<String, List<String>> getVariants() {
                         return variants;
                     }
+
+                    @Override
+                    public Map<String, String> getTemplateAliases() {
+                        return templateAliases;
+                    }
                 };
             }
         };
@@ -57,6 +63,12 @@ public class QuteRecorder {
         List<String> getTags();
 
         Map<String, List<String>> getVariants();
+
+        /**
+         * 
+         * @return the map of template ids without suffix to template paths, e.g. {@code items -> items.html}
+         */
+        Map<String, String> getTemplateAliases();
     }
 
 }
@@ -156,6 +156,11 @@ public class TemplateProducer {
             return template().instance().data(data()).consume(consumer);
         }
 
+        @Override
+        public CompletionStage<Void> stream(Consumer<String> consumer) {
+            return template().instance().data(data()).stream(consumer);
+        }
+
         private Template template() {
             Variant selected = (Variant) getAttribute(TemplateInstance.SELECTED_VARIANT);
             String id;
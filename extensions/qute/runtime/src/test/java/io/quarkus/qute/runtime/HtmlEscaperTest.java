@@ -56,6 +56,18 @@ public class HtmlEscaperTest {
         assertEquals("Čolek", html.escape("Čolek"));
         assertEquals("&lt;strong&gt;Čolek&lt;/strong&gt;", html.escape("<strong>Čolek</strong>"));
         assertEquals("&lt;a&gt;&amp;link&quot;&#39;&lt;/a&gt;", html.escape("<a>&link\"'</a>"));
+        assertEquals("", html.escape(""));
+        assertEquals("&amp;", html.escape("&"));
+        assertEquals("a &amp; b ~ c", html.escape("a & b ~ c"));
+        assertEquals("&lt;&lt;&gt;&gt;", html.escape(new StringBuilder("<<>>")));
+    }
+
+    @Test
+    public void testMap() {
+        HtmlEscaper html = new HtmlEscaper();
+        assertEquals("&lt;br&gt;", html.map(new StringBuilder("<br>"), null));
+        assertEquals("<br>", html.map(new RawString("<br>"), null));
+        assertEquals("10", html.map(10, null));
     }
 
 }
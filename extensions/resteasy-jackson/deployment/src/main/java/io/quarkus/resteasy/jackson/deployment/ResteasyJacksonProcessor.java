@@ -6,6 +6,8 @@ import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.CapabilityBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.resteasy.common.spi.ResteasyJaxrsProviderBuildItem;
+import io.quarkus.resteasy.jackson.runtime.StreamingJackson2Provider;
 
 public class ResteasyJacksonProcessor {
 
@@ -19,4 +21,9 @@ public class ResteasyJacksonProcessor {
         capability.produce(new CapabilityBuildItem(Capability.RESTEASY_JSON));
         capability.produce(new CapabilityBuildItem(Capability.REST_JACKSON));
     }
+
+    @BuildStep
+    void registerProviders(BuildProducer<ResteasyJaxrsProviderBuildItem> providers) {
+        providers.produce(new ResteasyJaxrsProviderBuildItem(StreamingJackson2Provider.class.getName()));
+    }
 }
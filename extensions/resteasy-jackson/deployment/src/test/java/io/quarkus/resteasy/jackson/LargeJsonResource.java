@@ -0,0 +1,56 @@
+package io.quarkus.resteasy.jackson;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import javax.inject.Inject;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.ext.Providers;
+
+import io.quarkus.vertx.http.runtime.CurrentVertxRequest;
+
+@Path("/large")
+@Produces(MediaType.APPLICATION_JSON)
+public class LargeJsonResource {
+
+    @Inject
+    CurrentVertxRequest currentVertxRequest;
+
+    @GET
+    @Path("/{size}")
+    public List<String> items(@PathParam("size") int size) {
+        return createItems(size);
+    }
+
+    @GET
+    @Path("/{size}/io-thread")
+    public CompletionStage<List<String>> itemsOnIoThread(@PathParam("size") int size) {
+        // the entity is written on the thread completing the response, once the resource method has returned
+        CompletableFuture<List<String>> ret = new CompletableFuture<>();
+        currentVertxRequest.getCurrent().vertx().setTimer(100, id -> ret.complete(createItems(size)));
+        return ret;
+    }
+
+    @GET
+    @Path("/writer")
+    @Produces(MediaType.TEXT_PLAIN)
+    public String writer(@Context Providers providers) {
+        return providers.getMessageBodyWriter(List.class, List.class, null, MediaType.APPLICATION_JSON_TYPE).getClass()
+                .getName();
+    }
+
+    private static List<String> createItems(int size) {
+        List<String> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            items.add("item-" + i);
+        }
+        return items;
+    }
+}
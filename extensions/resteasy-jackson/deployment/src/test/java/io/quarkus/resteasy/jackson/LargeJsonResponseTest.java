@@ -0,0 +1,58 @@
+package io.quarkus.resteasy.jackson;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import io.quarkus.resteasy.jackson.runtime.StreamingJackson2Provider;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+/**
+ * Verify that the JSON entities are streamed to the response.
+ */
+public class LargeJsonResponseTest {
+
+    // much larger than a single buffer
+    private static final int LARGE_SIZE = 100_000;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(LargeJsonResource.class));
+
+    @Test
+    public void testStreamingWriterIsUsed() {
+        RestAssured.get("/large/writer").then()
+                .statusCode(200)
+                .body(is(StreamingJackson2Provider.class.getName()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "", "/io-thread" })
+    public void testLargeResponse(String path) {
+        RestAssured.get("/large/" + LARGE_SIZE + path).then()
+                .statusCode(200)
+                .header("Transfer-Encoding", "chunked")
+                .body("size()", is(LARGE_SIZE))
+                .body("[0]", is("item-0"))
+                .body("[" + (LARGE_SIZE - 1) + "]", is("item-" + (LARGE_SIZE - 1)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "", "/io-thread" })
+    public void testSmallResponse(String path) {
+        // a response fitting in a single buffer is not chunked
+        RestAssured.get("/large/2" + path).then()
+                .statusCode(200)
+                .header("Transfer-Encoding", nullValue())
+                .header("Content-Length", "19")
+                .body(is("[\"item-0\",\"item-1\"]"));
+    }
+}
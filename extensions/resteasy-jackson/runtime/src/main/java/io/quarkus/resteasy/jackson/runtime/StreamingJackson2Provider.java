@@ -0,0 +1,49 @@
+package io.quarkus.resteasy.jackson.runtime;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.concurrent.CompletionStage;
+
+import javax.annotation.Priority;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.Priorities;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.Provider;
+
+import org.jboss.resteasy.plugins.providers.ProviderHelper;
+import org.jboss.resteasy.plugins.providers.jackson.ResteasyJackson2Provider;
+import org.jboss.resteasy.spi.AsyncOutputStream;
+
+import io.quarkus.resteasy.runtime.standalone.VertxEntityOutputStream;
+
+/**
+ * A {@link ResteasyJackson2Provider} which does not buffer the whole JSON document in a {@code byte[]} when the entity is
+ * written asynchronously.
+ * <p>
+ * When the response is written by the standalone Vert.x integration, the generator output is written to its pooled buffers,
+ * see {@link VertxEntityOutputStream}.
+ */
+@Provider
+@Consumes({ "application/json", "application/*+json", "text/json" })
+@Produces({ "application/json", "application/*+json", "text/json" })
+// takes precedence over the provider it extends, which has the default priority
+@Priority(Priorities.USER - 1)
+public class StreamingJackson2Provider extends ResteasyJackson2Provider {
+
+    @Override
+    public CompletionStage<Void> asyncWriteTo(Object t, Class<?> type, Type genericType, Annotation[] annotations,
+            MediaType mediaType, MultivaluedMap<String, Object> httpHeaders, AsyncOutputStream entityStream) {
+        VertxEntityOutputStream out = VertxEntityOutputStream.of(entityStream);
+        if (out == null) {
+            return super.asyncWriteTo(t, type, genericType, annotations, mediaType, httpHeaders, entityStream);
+        }
+        try {
+            writeTo(t, type, genericType, annotations, mediaType, httpHeaders, out);
+        } catch (Throwable e) {
+            return ProviderHelper.completedException(e);
+        }
+        return out.written();
+    }
+}
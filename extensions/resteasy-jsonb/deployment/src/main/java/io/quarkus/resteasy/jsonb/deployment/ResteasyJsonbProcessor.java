@@ -11,6 +11,8 @@ import io.quarkus.deployment.builditem.CapabilityBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.jsonb.spi.JsonbDeserializerBuildItem;
 import io.quarkus.jsonb.spi.JsonbSerializerBuildItem;
+import io.quarkus.resteasy.common.spi.ResteasyJaxrsProviderBuildItem;
+import io.quarkus.resteasy.jsonb.runtime.StreamingJsonBindingProvider;
 import io.quarkus.resteasy.jsonb.vertx.VertxJson;
 
 public class ResteasyJsonbProcessor {
@@ -34,6 +36,11 @@ public class ResteasyJsonbProcessor {
         capability.produce(new CapabilityBuildItem(Capability.REST_JSONB));
     }
 
+    @BuildStep
+    void registerProviders(BuildProducer<ResteasyJaxrsProviderBuildItem> providers) {
+        providers.produce(new ResteasyJaxrsProviderBuildItem(StreamingJsonBindingProvider.class.getName()));
+    }
+
     @BuildStep
     public void registerVertxJsonSupport(
             BuildProducer<JsonbSerializerBuildItem> serializers,
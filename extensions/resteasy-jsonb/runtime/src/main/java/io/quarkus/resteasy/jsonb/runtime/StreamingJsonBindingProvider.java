@@ -0,0 +1,74 @@
+package io.quarkus.resteasy.jsonb.runtime;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import javax.annotation.Priority;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.ProcessingException;
+import javax.ws.rs.Produces;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.Provider;
+
+import org.apache.commons.io.output.CloseShieldOutputStream;
+import org.jboss.resteasy.plugins.providers.jsonb.JsonBindingProvider;
+import org.jboss.resteasy.plugins.providers.jsonb.i18n.Messages;
+import org.jboss.resteasy.spi.AsyncOutputStream;
+
+import io.quarkus.resteasy.runtime.standalone.VertxEntityOutputStream;
+
+/**
+ * A {@link JsonBindingProvider} which serializes the entities straight to the entity stream, instead of creating a
+ * {@code String} and a {@code byte[]} holding the whole JSON document.
+ * <p>
+ * When the response is written by the standalone Vert.x integration, the JSON is written to its pooled buffers, see
+ * {@link VertxEntityOutputStream}.
+ */
+@Provider
+@Produces({ "application/json", "application/*+json", "text/json" })
+@Consumes({ "application/json", "application/*+json", "text/json" })
+// takes precedence over the provider it extends, which has a priority of 4900
+@Priority(4899)
+public class StreamingJsonBindingProvider extends JsonBindingProvider {
+
+    @Override
+    public void writeTo(Object t, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType,
+            MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream)
+            throws IOException, WebApplicationException {
+        // the writer is closed once the entity has been serialized, but the entity stream must stay open
+        serialize(t, type, mediaType, new CloseShieldOutputStream(entityStream));
+        entityStream.flush();
+    }
+
+    @Override
+    public CompletionStage<Void> asyncWriteTo(Object t, Class<?> type, Type genericType, Annotation[] annotations,
+            MediaType mediaType, MultivaluedMap<String, Object> httpHeaders, AsyncOutputStream entityStream) {
+        VertxEntityOutputStream out = VertxEntityOutputStream.of(entityStream);
+        if (out == null) {
+            return super.asyncWriteTo(t, type, genericType, annotations, mediaType, httpHeaders, entityStream);
+        }
+        try {
+            serialize(t, type, mediaType, out);
+        } catch (ProcessingException e) {
+            CompletableFuture<Void> ret = new CompletableFuture<>();
+            ret.completeExceptionally(e);
+            return ret;
+        }
+        return out.written();
+    }
+
+    private void serialize(Object t, Class<?> type, MediaType mediaType, OutputStream out) {
+        try {
+            getJsonb(type).toJson(t, new OutputStreamWriter(out, getCharset(mediaType)));
+        } catch (Throwable e) {
+            throw new ProcessingException(Messages.MESSAGES.jsonBSerializationError(e.toString()), e);
+        }
+    }
+}
@@ -3,11 +3,17 @@ package io.quarkus.resteasy.qute.deployment;
 import org.jboss.jandex.DotName;
 
 import io.quarkus.deployment.Feature;
+import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
+import io.quarkus.deployment.annotations.ExecutionTime;
+import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveHierarchyIgnoreWarningBuildItem;
 import io.quarkus.qute.TemplateInstance;
 import io.quarkus.resteasy.common.spi.ResteasyJaxrsProviderBuildItem;
+import io.quarkus.resteasy.qute.runtime.ResteasyQuteConfig;
+import io.quarkus.resteasy.qute.runtime.ResteasyQuteRecorder;
+import io.quarkus.resteasy.qute.runtime.TemplateInstanceWriter;
 import io.quarkus.resteasy.qute.runtime.TemplateResponseFilter;
 
 public class ResteasyQuteProcessor {
@@ -18,8 +24,15 @@ public class ResteasyQuteProcessor {
     }
 
     @BuildStep
-    ResteasyJaxrsProviderBuildItem registerProviders() {
-        return new ResteasyJaxrsProviderBuildItem(TemplateResponseFilter.class.getName());
+    void registerProviders(BuildProducer<ResteasyJaxrsProviderBuildItem> providers) {
+        providers.produce(new ResteasyJaxrsProviderBuildItem(TemplateResponseFilter.class.getName()));
+        providers.produce(new ResteasyJaxrsProviderBuildItem(TemplateInstanceWriter.class.getName()));
+    }
+
+    @BuildStep
+    @Record(ExecutionTime.RUNTIME_INIT)
+    void configureStreaming(ResteasyQuteRecorder recorder, ResteasyQuteConfig config) {
+        recorder.configureStreaming(config);
     }
 
     @BuildStep
@@ -0,0 +1,66 @@
+package io.quarkus.qute.resteasy.deployment;
+
+import static io.restassured.RestAssured.when;
+
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.inject.Inject;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.MediaType;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.qute.Template;
+import io.quarkus.qute.TemplateInstance;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class StreamingTemplateTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(HelloResource.class, RowsResource.class)
+                    .addAsResource(new StringAsset("Hello {name}!"), "templates/hello.txt")
+                    .addAsResource(new StringAsset("<table>{#for i in total}<tr><td>{i}</td></tr>{/for}</table>"),
+                            "templates/rows.html"))
+            .overrideConfigKey("quarkus.resteasy-qute.streaming", "true");
+
+    @Test
+    public void testStreaming() {
+        when().get("/hello?name=Joe").then().body(Matchers.is("Hello Joe!"));
+
+        String rows = IntStream.rangeClosed(1, 5000).mapToObj(i -> "<tr><td>" + i + "</td></tr>")
+                .collect(Collectors.joining());
+        when().get("/rows?total=5000").then()
+                .statusCode(200)
+                .contentType(Matchers.startsWith(MediaType.TEXT_HTML))
+                // the response is written before the whole template is rendered
+                .header("Transfer-Encoding", "chunked")
+                .header("Content-Length", Matchers.nullValue())
+                .body(Matchers.is("<table>" + rows + "</table>"));
+    }
+
+    @Path("rows")
+    public static class RowsResource {
+
+        @Inject
+        Template rows;
+
+        @GET
+        @Produces(MediaType.TEXT_HTML)
+        public TemplateInstance get(@QueryParam("total") int total) {
+            return rows.data("total", total);
+        }
+
+    }
+
+}
@@ -0,0 +1,21 @@
+package io.quarkus.resteasy.qute.runtime;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+@ConfigRoot(name = "resteasy-qute", phase = ConfigPhase.RUN_TIME)
+public class ResteasyQuteConfig {
+
+    /**
+     * If set to true, the templates returned from resource methods are written to the HTTP response while they are
+     * rendered, instead of being rendered fully first. This lowers the time to first byte and the memory used to render
+     * large pages.
+     * 
+     * A failure that occurs once the first chunk is written cannot be turned into an error response anymore, the
+     * connection is closed instead.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean streaming;
+
+}
@@ -0,0 +1,12 @@
+package io.quarkus.resteasy.qute.runtime;
+
+import io.quarkus.runtime.annotations.Recorder;
+
+@Recorder
+public class ResteasyQuteRecorder {
+
+    public void configureStreaming(ResteasyQuteConfig config) {
+        TemplateResponseFilter.streaming = config.streaming;
+    }
+
+}
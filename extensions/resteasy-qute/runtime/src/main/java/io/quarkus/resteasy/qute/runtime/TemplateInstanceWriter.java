@@ -0,0 +1,130 @@
+package io.quarkus.resteasy.qute.runtime;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.Provider;
+
+import org.jboss.resteasy.spi.AsyncMessageBodyWriter;
+import org.jboss.resteasy.spi.AsyncOutputStream;
+
+import io.quarkus.qute.FlowControlledConsumer;
+import io.quarkus.qute.TemplateInstance;
+import io.quarkus.runtime.ExecutorRecorder;
+
+/**
+ * Streams a {@link TemplateInstance} to the HTTP response while it is rendered.
+ * <p>
+ * The template instance is only left as the response entity if streaming is enabled, see {@link TemplateResponseFilter}.
+ * When the response can be written asynchronously, the rendering of loops is paused until the chunks written so far are
+ * flushed to the connection.
+ */
+@Provider
+public class TemplateInstanceWriter implements AsyncMessageBodyWriter<TemplateInstance> {
+
+    @Override
+    public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+        return TemplateInstance.class.isAssignableFrom(type);
+    }
+
+    @Override
+    public void writeTo(TemplateInstance instance, Class<?> type, Type genericType, Annotation[] annotations,
+            MediaType mediaType, MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream)
+            throws IOException, WebApplicationException {
+        Charset charset = getCharset(mediaType);
+        // Blocking write, the chunks are written as they come
+        CompletionStage<Void> result = instance.stream(chunk -> {
+            try {
+                entityStream.write(chunk.getBytes(charset));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        try {
+            Object timeoutAttr = instance.getAttribute(TemplateInstance.TIMEOUT);
+            long timeout = timeoutAttr != null ? Long.parseLong(timeoutAttr.toString()) : 10000;
+            result.toCompletableFuture().get(timeout, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        } catch (TimeoutException e) {
+            throw new IOException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) e.getCause()).getCause();
+            }
+            throw new IOException(e.getCause());
+        }
+        entityStream.flush();
+    }
+
+    @Override
+    public CompletionStage<Void> asyncWriteTo(TemplateInstance instance, Class<?> type, Type genericType,
+            Annotation[] annotations, MediaType mediaType, MultivaluedMap<String, Object> httpHeaders,
+            AsyncOutputStream entityStream) {
+        ResponseConsumer consumer = new ResponseConsumer(entityStream, getCharset(mediaType), ExecutorRecorder.getCurrent());
+        // Complete once the last chunk is written
+        return instance.stream(consumer).thenCompose(v -> consumer.whenReady());
+    }
+
+    private static Charset getCharset(MediaType mediaType) {
+        if (mediaType != null) {
+            String charset = mediaType.getParameters().get(MediaType.CHARSET_PARAMETER);
+            if (charset != null) {
+                return Charset.forName(charset);
+            }
+        }
+        return StandardCharsets.UTF_8;
+    }
+
+    static class ResponseConsumer implements FlowControlledConsumer {
+
+        private static final Runnable NOOP = () -> {
+        };
+
+        private final AsyncOutputStream stream;
+        private final Charset charset;
+        private final Executor executor;
+        // Completed once the last chunk is written to the connection
+        private volatile CompletionStage<Void> lastWrite;
+
+        ResponseConsumer(AsyncOutputStream stream, Charset charset, Executor executor) {
+            this.stream = stream;
+            this.charset = charset;
+            this.executor = executor;
+            this.lastWrite = CompletableFuture.completedFuture(null);
+        }
+
+        @Override
+        public void accept(String chunk) {
+            // The chunks are buffered by the stream, the returned stage is only pending if a buffer is being flushed
+            lastWrite = stream.asyncWrite(chunk.getBytes(charset));
+        }
+
+        @Override
+        public CompletionStage<Void> whenReady() {
+            CompletableFuture<Void> write = lastWrite.toCompletableFuture();
+            if (write.isDone()) {
+                return write;
+            }
+            // The write is completed on the IO thread, the rendering is resumed on a worker thread
+            return write.thenRunAsync(NOOP, executor);
+        }
+
+    }
+
+}
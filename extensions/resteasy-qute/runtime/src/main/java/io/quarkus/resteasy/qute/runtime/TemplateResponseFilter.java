@@ -18,13 +18,17 @@ import io.quarkus.qute.Variant;
 @Provider
 public class TemplateResponseFilter implements ContainerResponseFilter {
 
+    /**
+     * If set to true, the template instance is left as the response entity and written by {@link TemplateInstanceWriter}.
+     */
+    static volatile boolean streaming;
+
     @Override
     public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext)
             throws IOException {
         Object entity = responseContext.getEntity();
         if (entity instanceof TemplateInstance) {
             SuspendableContainerResponseContext ctx = (SuspendableContainerResponseContext) responseContext;
-            ctx.suspend();
 
             MediaType mediaType;
             TemplateInstance instance = (TemplateInstance) entity;
@@ -49,6 +53,15 @@ public class TemplateResponseFilter implements ContainerResponseFilter {
                 mediaType = null;
             }
 
+            if (streaming) {
+                // The template is rendered while written to the response
+                if (mediaType != null) {
+                    ctx.setEntity(instance, null, mediaType);
+                }
+                return;
+            }
+
+            ctx.suspend();
             try {
                 instance.renderAsync()
                         .whenComplete((r, t) -> {
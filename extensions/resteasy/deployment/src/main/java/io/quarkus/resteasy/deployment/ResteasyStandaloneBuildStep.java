@@ -10,11 +10,20 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.function.Consumer;
 
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget.Kind;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.IndexView;
+
 import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.builder.item.SimpleBuildItem;
 import io.quarkus.deployment.ApplicationArchive;
@@ -25,12 +34,19 @@ import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.ApplicationArchivesBuildItem;
+import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.ExecutorBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
+import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
+import io.quarkus.resteasy.NonBlocking;
+import io.quarkus.resteasy.common.deployment.ResteasyDotNames;
 import io.quarkus.resteasy.common.deployment.ResteasyInjectionReadyBuildItem;
+import io.quarkus.resteasy.runtime.ResteasyVertxConfig;
 import io.quarkus.resteasy.runtime.standalone.ResteasyStandaloneRecorder;
 import io.quarkus.resteasy.server.common.deployment.ResteasyDeploymentBuildItem;
+import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.util.ClassPathUtils;
 import io.quarkus.vertx.core.deployment.CoreVertxBuildItem;
 import io.quarkus.vertx.http.deployment.DefaultRouteBuildItem;
@@ -47,6 +63,12 @@ public class ResteasyStandaloneBuildStep {
     protected static final String META_INF_RESOURCES_SLASH = "META-INF/resources/";
     protected static final String META_INF_RESOURCES = "META-INF/resources";
 
+    private static final DotName NON_BLOCKING = DotName.createSimple(NonBlocking.class.getName());
+    private static final Set<DotName> ASYNC_RETURN_TYPES = new HashSet<>(Arrays.asList(
+            DotName.createSimple(CompletionStage.class.getName()),
+            DotName.createSimple(CompletableFuture.class.getName()),
+            DotName.createSimple("io.smallrye.mutiny.Uni")));
+
     public static final class ResteasyStandaloneBuildItem extends SimpleBuildItem {
 
         final String deploymentRootPath;
@@ -69,12 +91,26 @@ public class ResteasyStandaloneBuildStep {
             ApplicationArchivesBuildItem applicationArchivesBuildItem,
             ResteasyInjectionReadyBuildItem resteasyInjectionReady,
             HttpBuildTimeConfig httpConfig,
+            ResteasyVertxConfig resteasyVertxConfig,
+            CombinedIndexBuildItem combinedIndex,
+            LaunchModeBuildItem launchMode,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources,
             BuildProducer<ResteasyStandaloneBuildItem> standalone) throws Exception {
         if (capabilities.isPresent(Capability.SERVLET)) {
             return;
         }
 
-        Set<String> knownPaths = getClasspathResources(applicationArchivesBuildItem);
+        // the resources can change in dev mode, so they are not indexed
+        StaticResourceIndexer indexer = launchMode.getLaunchMode() != LaunchMode.DEVELOPMENT
+                ? new StaticResourceIndexer(httpConfig.compression.enabled ? httpConfig.compression : null)
+                : null;
+        Set<String> knownPaths = getClasspathResources(applicationArchivesBuildItem, indexer);
+        if (indexer != null) {
+            for (Map.Entry<String, byte[]> entry : indexer.getCompressed().entrySet()) {
+                generatedResources.produce(new GeneratedResourceBuildItem(entry.getKey(), entry.getValue()));
+            }
+            recorder.setStaticResourceIndex(indexer.getIndex());
+        }
         String deploymentRootPath = null;
         // The context path + the resources path
         String rootPath = httpConfig.rootPath;
@@ -94,6 +130,9 @@ public class ResteasyStandaloneBuildStep {
                 rootPath += deploymentRootPath;
             }
             recorder.staticInit(deployment.getDeployment(), rootPath, knownPaths);
+            if (hasNonBlockingMethods(combinedIndex.getIndex(), resteasyVertxConfig.asyncMethodsOnIoThread)) {
+                recorder.setNonBlockingDispatch(resteasyVertxConfig.asyncMethodsOnIoThread);
+            }
 
         } else if (!knownPaths.isEmpty()) {
             recorder.staticInit(null, rootPath, knownPaths);
@@ -104,30 +143,56 @@ public class ResteasyStandaloneBuildStep {
         }
     }
 
+    /**
+     * Whether a resource method is annotated with {@link NonBlocking}, or returns an async type if the async methods are
+     * invoked on the IO thread. Otherwise the requests are always dispatched on a worker thread, without matching the
+     * resource method first.
+     */
+    private boolean hasNonBlockingMethods(IndexView index, boolean asyncMethodsOnIoThread) {
+        for (AnnotationInstance annotation : index.getAnnotations(NON_BLOCKING)) {
+            if (annotation.target().kind() == Kind.METHOD || annotation.target().kind() == Kind.CLASS) {
+                return true;
+            }
+        }
+        if (asyncMethodsOnIoThread) {
+            for (DotName httpMethod : ResteasyDotNames.JAXRS_METHOD_ANNOTATIONS) {
+                for (AnnotationInstance annotation : index.getAnnotations(httpMethod)) {
+                    if (annotation.target().kind() == Kind.METHOD
+                            && ASYNC_RETURN_TYPES.contains(annotation.target().asMethod().returnType().name())) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
     /**
      * Find all static file resources that are available from classpath.
      *
      * @param applicationArchivesBuildItem
+     * @param indexer the indexer of the static resources, may be {@code null}
      * @return
      * @throws Exception
      */
-    private Set<String> getClasspathResources(ApplicationArchivesBuildItem applicationArchivesBuildItem) throws Exception {
+    private Set<String> getClasspathResources(ApplicationArchivesBuildItem applicationArchivesBuildItem,
+            StaticResourceIndexer indexer) throws Exception {
         Set<String> knownPaths = new HashSet<>();
         for (ApplicationArchive i : applicationArchivesBuildItem.getAllApplicationArchives()) {
             Path resource = i.getChildPath(META_INF_RESOURCES);
             if (resource != null && Files.exists(resource)) {
-                collectKnownPaths(resource, knownPaths);
+                collectKnownPaths(resource, knownPaths, indexer);
             }
         }
 
         ClassPathUtils.consumeAsPaths(META_INF_RESOURCES, resource -> {
-            collectKnownPaths(resource, knownPaths);
+            collectKnownPaths(resource, knownPaths, indexer);
         });
 
         return knownPaths;
     }
 
-    private void collectKnownPaths(Path resource, Set<String> knownPaths) {
+    private void collectKnownPaths(Path resource, Set<String> knownPaths, StaticResourceIndexer indexer) {
         try {
             Files.walkFileTree(resource, new SimpleFileVisitor<Path>() {
                 @Override
@@ -142,7 +207,10 @@ public class ResteasyStandaloneBuildStep {
                     }
                     // Windows has a backslash
                     file = file.replace('\\', '/');
-                    knownPaths.add(file);
+                    // the first resource found on the class path wins, as with the static handler
+                    if (knownPaths.add(file) && indexer != null) {
+                        indexer.add(file, p, attrs);
+                    }
                     return FileVisitResult.CONTINUE;
                 }
             });
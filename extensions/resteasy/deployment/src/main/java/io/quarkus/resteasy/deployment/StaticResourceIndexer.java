@@ -0,0 +1,128 @@
+package io.quarkus.resteasy.deployment;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
+
+import io.quarkus.resteasy.runtime.standalone.ResteasyStandaloneRecorder;
+import io.quarkus.resteasy.runtime.standalone.StaticResource;
+import io.quarkus.vertx.http.runtime.CompressionConfig;
+import io.vertx.core.http.impl.MimeMapping;
+
+/**
+ * Builds the index of the static resources served from {@code META-INF/resources}, and gzips the compressible ones if
+ * the compression of the static resources is enabled.
+ * <p>
+ * A resource is compressible if the HTTP server would compress it on the fly, i.e. if it has one of the compressible media
+ * types and is not smaller than the minimum size.
+ */
+final class StaticResourceIndexer {
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final CompressionConfig compression;
+    private final Set<String> compressibleMediaTypes = new HashSet<>();
+    private final Map<String, StaticResource> index = new HashMap<>();
+    private final Map<String, byte[]> compressed = new HashMap<>();
+
+    /**
+     * @param compression the compression configuration, or {@code null} if the compression is disabled
+     */
+    StaticResourceIndexer(CompressionConfig compression) {
+        this.compression = compression;
+        if (compression != null) {
+            for (String mediaType : compression.mediaTypes) {
+                compressibleMediaTypes.add(mediaType.trim().toLowerCase(Locale.ROOT));
+            }
+        }
+    }
+
+    void add(String path, Path file, BasicFileAttributes attrs) throws IOException {
+        byte[] content = Files.readAllBytes(file);
+        String contentType = MimeMapping.getMimeTypeForFilename(path);
+
+        StaticResource resource = new StaticResource();
+        resource.setResourceName(ResteasyStandaloneRecorder.META_INF_RESOURCES + path);
+        resource.setSize(content.length);
+        resource.setEtag(hash(content));
+        // the HTTP dates have a one second precision
+        resource.setLastModified(attrs.lastModifiedTime().toMillis() / 1000 * 1000);
+        if (contentType == null) {
+            contentType = "application/octet-stream";
+        } else if (contentType.startsWith("text")) {
+            contentType += ";charset=UTF-8";
+        }
+        resource.setContentType(contentType);
+
+        if (compression != null && content.length >= compression.minSize.asLongValue()
+                && compressibleMediaTypes.contains(MimeMapping.getMimeTypeForFilename(path))) {
+            resource.setCompressible(true);
+        }
+        if (resource.isCompressible() && compression.staticResources) {
+            byte[] gzipped = gzip(content);
+            // not worth it if the compressed variant is not smaller
+            if (gzipped.length < content.length) {
+                String compressedName = ResteasyStandaloneRecorder.PRECOMPRESSED_RESOURCES + path + ".gz";
+                compressed.put(compressedName, gzipped);
+                resource.setCompressedResourceName(compressedName);
+                resource.setCompressedSize(gzipped.length);
+            }
+        }
+
+        index.put(path, resource);
+        if (path.equals("/index.html") || path.equals("/index.htm")) {
+            index.putIfAbsent("/", resource);
+        }
+    }
+
+    /**
+     * @return the static resources, by request path
+     */
+    Map<String, StaticResource> getIndex() {
+        return index;
+    }
+
+    /**
+     * @return the gzip variants of the compressible resources, by resource name
+     */
+    Map<String, byte[]> getCompressed() {
+        return compressed;
+    }
+
+    private byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (OutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(compression.level);
+            }
+        }) {
+            gzip.write(content);
+        }
+        return out.toByteArray();
+    }
+
+    private static String hash(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-1").digest(content);
+            char[] chars = new char[digest.length * 2];
+            for (int i = 0; i < digest.length; i++) {
+                chars[i * 2] = HEX[(digest[i] >> 4) & 0xF];
+                chars[i * 2 + 1] = HEX[digest[i] & 0xF];
+            }
+            return new String(chars);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
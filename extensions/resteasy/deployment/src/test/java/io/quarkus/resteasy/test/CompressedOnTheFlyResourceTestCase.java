@@ -0,0 +1,55 @@
+package io.quarkus.resteasy.test;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.startsWith;
+
+import java.util.Collections;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.restassured.config.DecoderConfig;
+import io.restassured.response.Response;
+
+public class CompressedOnTheFlyResourceTestCase {
+
+    private static final String INDEX = "<html><body>" + String.join("", Collections.nCopies(200, "<p>index</p>"))
+            + "</body></html>";
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(RootResource.class)
+                    .addAsManifestResource(new StringAsset(INDEX), "resources/index.html")
+                    // the gzip variant does not fit in memory
+                    .addAsResource(new StringAsset("quarkus.http.compression.enabled=true\n"
+                            + "quarkus.http.static-resources.cache-max-size=10\n"), "application.properties"));
+
+    @Test
+    public void testWeakEtag() {
+        Response response = RestAssured.given().header("Accept-Encoding", "gzip").get("/index.html");
+        response.then().statusCode(200)
+                .header("Content-Encoding", is("gzip"))
+                .header("Vary", is("accept-encoding"))
+                .header("ETag", startsWith("W/\""))
+                .body(is(INDEX));
+        String etag = response.header("ETag");
+
+        RestAssured.given().header("Accept-Encoding", "gzip").header("If-None-Match", etag).get("/index.html")
+                .then().statusCode(304)
+                .header("ETag", is(etag));
+        // the uncompressed variant is identified by the strong ETag
+        RestAssured.given()
+                .config(RestAssured.config().decoderConfig(DecoderConfig.decoderConfig().noContentDecoders()))
+                .header("Accept-Encoding", "identity").get("/index.html")
+                .then().statusCode(200)
+                .header("ETag", is(etag.substring(2)))
+                .body(is(INDEX));
+    }
+
+}
@@ -0,0 +1,64 @@
+package io.quarkus.resteasy.test;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.Collections;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.restassured.config.DecoderConfig;
+
+public class PrecompressedResourceTestCase {
+
+    private static final String INDEX = "<html><body>" + String.join("", Collections.nCopies(200, "<p>index</p>"))
+            + "</body></html>";
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(RootResource.class)
+                    .addAsManifestResource(new StringAsset(INDEX), "resources/index.html")
+                    .addAsManifestResource(new StringAsset("small"), "resources/small.html")
+                    .addAsResource(new StringAsset("quarkus.http.compression.enabled=true\n"), "application.properties"));
+
+    @Test
+    public void testCompressedVariant() {
+        RestAssured.given().header("Accept-Encoding", "gzip").get("/index.html")
+                .then().statusCode(200)
+                .header("Content-Encoding", is("gzip"))
+                .header("Vary", is("accept-encoding"))
+                .header("Content-Type", is("text/html;charset=UTF-8"))
+                .body(is(INDEX));
+        RestAssured.given().header("Accept-Encoding", "gzip").get("/")
+                .then().statusCode(200)
+                .header("Content-Encoding", is("gzip"))
+                .body(is(INDEX));
+    }
+
+    @Test
+    public void testClientNotAcceptingGzip() {
+        RestAssured.given()
+                // otherwise RestAssured sends its own Accept-Encoding header
+                .config(RestAssured.config().decoderConfig(DecoderConfig.decoderConfig().noContentDecoders()))
+                .header("Accept-Encoding", "gzip;q=0").get("/index.html")
+                .then().statusCode(200)
+                .header("Content-Encoding", nullValue())
+                .body(is(INDEX));
+    }
+
+    @Test
+    public void testSmallResource() {
+        RestAssured.given().header("Accept-Encoding", "gzip").get("/small.html")
+                .then().statusCode(200)
+                .header("Content-Encoding", is("identity"))
+                .body(is("small"));
+    }
+
+}
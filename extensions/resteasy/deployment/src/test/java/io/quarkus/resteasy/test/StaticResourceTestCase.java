@@ -0,0 +1,86 @@
+package io.quarkus.resteasy.test;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.restassured.response.Response;
+
+public class StaticResourceTestCase {
+
+    @RegisterExtension
+    static QuarkusUnitTest runner = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(RootResource.class)
+                    .addAsManifestResource(new StringAsset("0123456789"), "resources/digits.txt")
+                    .addAsResource(new StringAsset("quarkus.http.static-resources.cache-max-file-size=4\n"),
+                            "application.properties")
+                    .addAsManifestResource(new StringAsset("abc"), "resources/small.txt"));
+
+    @Test
+    public void testConditionalRequests() {
+        Response response = RestAssured.get("/digits.txt");
+        response.then().statusCode(200)
+                .header("ETag", notNullValue())
+                .header("Last-Modified", notNullValue())
+                .body(is("0123456789"));
+        String etag = response.header("ETag");
+        String lastModified = response.header("Last-Modified");
+
+        RestAssured.given().header("If-None-Match", etag).get("/digits.txt")
+                .then().statusCode(304).header("ETag", is(etag));
+        RestAssured.given().header("If-None-Match", "\"other\", W/" + etag).get("/digits.txt")
+                .then().statusCode(304);
+        RestAssured.given().header("If-None-Match", "\"other\"").get("/digits.txt")
+                .then().statusCode(200).body(is("0123456789"));
+        RestAssured.given().header("If-Modified-Since", lastModified).get("/digits.txt")
+                .then().statusCode(304);
+        RestAssured.given().header("If-Modified-Since", "Thu, 01 Jan 1970 00:00:00 GMT").get("/digits.txt")
+                .then().statusCode(200);
+    }
+
+    @Test
+    public void testRanges() {
+        // served from a file
+        RestAssured.given().header("Range", "bytes=2-4").get("/digits.txt")
+                .then().statusCode(206)
+                .header("Content-Range", is("bytes 2-4/10"))
+                .body(is("234"));
+        RestAssured.given().header("Range", "bytes=7-").get("/digits.txt")
+                .then().statusCode(206).body(is("789"));
+        RestAssured.given().header("Range", "bytes=-2").get("/digits.txt")
+                .then().statusCode(206).body(is("89"));
+        RestAssured.given().header("Range", "bytes=10-").get("/digits.txt")
+                .then().statusCode(416)
+                .header("Content-Range", is("bytes */10"));
+        RestAssured.given().header("Range", "bytes=0-1,4-5").get("/digits.txt")
+                .then().statusCode(200).body(is("0123456789"));
+        RestAssured.given().header("Range", "bytes=2-4").header("If-Range", "\"other\"").get("/digits.txt")
+                .then().statusCode(200).body(is("0123456789"));
+
+        // served from memory
+        RestAssured.given().header("Range", "bytes=1-").get("/small.txt")
+                .then().statusCode(206)
+                .header("Content-Range", is("bytes 1-2/3"))
+                .body(is("bc"));
+    }
+
+    @Test
+    public void testHead() {
+        RestAssured.head("/digits.txt")
+                .then().statusCode(200)
+                .header("Content-Length", is("10"));
+        RestAssured.get("/small.txt")
+                .then().statusCode(200)
+                .header("Content-Type", is("text/plain;charset=UTF-8"))
+                .body(is("abc"));
+    }
+
+}
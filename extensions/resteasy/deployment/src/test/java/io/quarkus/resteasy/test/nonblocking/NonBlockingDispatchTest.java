@@ -0,0 +1,66 @@
+package io.quarkus.resteasy.test.nonblocking;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class NonBlockingDispatchTest {
+
+    private static final String IO_THREAD = "vert.x-eventloop-thread";
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(NonBlockingResource.class, RequestScopedBean.class)
+                    .addAsResource(new StringAsset("quarkus.resteasy.vertx.async-methods-on-io-thread=true"),
+                            "application.properties"));
+
+    @Test
+    public void testAnnotatedMethod() {
+        RestAssured.get("/non-blocking/annotated").then().statusCode(200).body(startsWith(IO_THREAD));
+    }
+
+    @Test
+    public void testAsyncMethod() {
+        RestAssured.get("/non-blocking/async").then().statusCode(200).body(startsWith(IO_THREAD));
+    }
+
+    @Test
+    public void testBlockingMethod() {
+        RestAssured.get("/non-blocking/blocking").then().statusCode(200).body(not(startsWith(IO_THREAD)));
+    }
+
+    @Test
+    public void testBodyNotBuffered() {
+        // The body would have to be read with blocking IO
+        RestAssured.given().body("hello").post("/non-blocking/body").then().statusCode(200)
+                .body(startsWith("hello:"), not(containsString(IO_THREAD)));
+    }
+
+    @Test
+    public void testLargeResponse() {
+        // The writes cannot wait for the write queue to drain on the IO thread
+        String body = RestAssured.get("/non-blocking/large").then().statusCode(200).extract().asString();
+        assertEquals(NonBlockingResource.LARGE_SIZE, body.length());
+        body = RestAssured.get("/non-blocking/large-stream").then().statusCode(200).extract().asString();
+        assertEquals(NonBlockingResource.LARGE_SIZE, body.length());
+        body = RestAssured.get("/non-blocking/large-direct").then().statusCode(200).extract().asString();
+        assertEquals(NonBlockingResource.LARGE_SIZE, body.length());
+    }
+
+    @Test
+    public void testNotFound() {
+        RestAssured.get("/non-blocking/missing").then().statusCode(404);
+    }
+
+}
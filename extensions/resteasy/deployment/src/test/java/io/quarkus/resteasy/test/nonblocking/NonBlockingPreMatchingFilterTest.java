@@ -0,0 +1,38 @@
+package io.quarkus.resteasy.test.nonblocking;
+
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class NonBlockingPreMatchingFilterTest {
+
+    private static final String IO_THREAD = "vert.x-eventloop-thread";
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(NonBlockingResource.class, RequestScopedBean.class, ReroutingFilter.class)
+                    .addAsResource(new StringAsset("quarkus.resteasy.vertx.async-methods-on-io-thread=true"),
+                            "application.properties"));
+
+    @Test
+    public void testReroutedToBlockingMethod() {
+        // The method is matched before the filter reroutes the request, so it cannot be dispatched on the IO thread
+        RestAssured.given().header(ReroutingFilter.REROUTE_HEADER, "non-blocking/blocking").get("/non-blocking/annotated")
+                .then().statusCode(200).body(not(startsWith(IO_THREAD)));
+    }
+
+    @Test
+    public void testNonBlockingMethod() {
+        RestAssured.get("/non-blocking/annotated").then().statusCode(200).body(not(startsWith(IO_THREAD)));
+    }
+
+}
@@ -0,0 +1,87 @@
+package io.quarkus.resteasy.test.nonblocking;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import javax.inject.Inject;
+import javax.ws.rs.GET;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.StreamingOutput;
+
+import org.jboss.resteasy.spi.HttpResponse;
+
+import io.quarkus.resteasy.NonBlocking;
+
+@Path("/non-blocking")
+public class NonBlockingResource {
+
+    static final int LARGE_SIZE = 500 * 1024;
+
+    @Inject
+    RequestScopedBean requestScopedBean;
+
+    @NonBlocking
+    @GET
+    @Path("annotated")
+    public String annotated() {
+        return requestScopedBean.getThreadName();
+    }
+
+    @GET
+    @Path("async")
+    public CompletionStage<String> async() {
+        return CompletableFuture.completedFuture(requestScopedBean.getThreadName());
+    }
+
+    @GET
+    @Path("blocking")
+    public String blocking() {
+        return requestScopedBean.getThreadName();
+    }
+
+    @NonBlocking
+    @GET
+    @Path("large")
+    public String large() {
+        // larger than the write queue of the connection
+        return String.join("", Collections.nCopies(LARGE_SIZE / 10, "0123456789"));
+    }
+
+    @NonBlocking
+    @GET
+    @Path("large-stream")
+    public StreamingOutput largeStream() {
+        return output -> {
+            byte[] chunk = "0123456789".getBytes(StandardCharsets.US_ASCII);
+            for (int i = 0; i < LARGE_SIZE / chunk.length; i++) {
+                output.write(chunk);
+            }
+        };
+    }
+
+    @NonBlocking
+    @GET
+    @Path("large-direct")
+    public void largeDirect(@Context HttpResponse response) throws IOException {
+        // written on the IO thread, whereas the blocking message body writers are moved to a worker thread
+        byte[] chunk = "0123456789".getBytes(StandardCharsets.US_ASCII);
+        OutputStream output = response.getOutputStream();
+        for (int i = 0; i < LARGE_SIZE / chunk.length; i++) {
+            output.write(chunk);
+        }
+    }
+
+    @NonBlocking
+    @POST
+    @Path("body")
+    public String body(String body) {
+        return body + ":" + requestScopedBean.getThreadName();
+    }
+
+}
@@ -0,0 +1,12 @@
+package io.quarkus.resteasy.test.nonblocking;
+
+import javax.enterprise.context.RequestScoped;
+
+@RequestScoped
+public class RequestScopedBean {
+
+    public String getThreadName() {
+        return Thread.currentThread().getName();
+    }
+
+}
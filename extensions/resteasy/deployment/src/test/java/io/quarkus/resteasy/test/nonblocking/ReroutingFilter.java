@@ -0,0 +1,21 @@
+package io.quarkus.resteasy.test.nonblocking;
+
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.PreMatching;
+import javax.ws.rs.ext.Provider;
+
+@PreMatching
+@Provider
+public class ReroutingFilter implements ContainerRequestFilter {
+
+    static final String REROUTE_HEADER = "X-Reroute";
+
+    @Override
+    public void filter(ContainerRequestContext requestContext) {
+        String path = requestContext.getHeaderString(REROUTE_HEADER);
+        if (path != null) {
+            requestContext.setRequestUri(requestContext.getUriInfo().getBaseUriBuilder().path(path).build());
+        }
+    }
+}
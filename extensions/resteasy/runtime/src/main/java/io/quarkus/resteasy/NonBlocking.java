@@ -0,0 +1,21 @@
+package io.quarkus.resteasy;
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a JAX-RS resource method, or all the resource methods of a class, as non-blocking.
+ * <p>
+ * A non-blocking resource method is invoked on the Vert.x IO thread instead of a worker thread, provided the request body
+ * is either empty or already buffered. Such a method must never block, it should return a {@code CompletionStage} or a
+ * Mutiny {@code Uni} if the response is not immediately available.
+ */
+@Retention(RUNTIME)
+@Target({ METHOD, TYPE })
+public @interface NonBlocking {
+
+}
@@ -0,0 +1,21 @@
+package io.quarkus.resteasy.runtime;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+@ConfigRoot(name = "resteasy.vertx", phase = ConfigPhase.BUILD_AND_RUN_TIME_FIXED)
+public class ResteasyVertxConfig {
+
+    /**
+     * If set to true, the resource methods returning a {@code CompletionStage} or a Mutiny {@code Uni} are considered
+     * non-blocking, as if they were annotated with {@link io.quarkus.resteasy.NonBlocking}, and are invoked on the Vert.x IO
+     * thread. Such methods must not block before returning.
+     * <p>
+     * The methods are always invoked on a worker thread if the application registers a {@code @PreMatching} request filter,
+     * as such a filter may route the request to another method.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean asyncMethodsOnIoThread;
+
+}
@@ -0,0 +1,234 @@
+package io.quarkus.resteasy.runtime.standalone;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MultivaluedMap;
+
+import org.jboss.logging.Logger;
+import org.jboss.resteasy.core.AcceptHeaderByFileSuffixFilter;
+import org.jboss.resteasy.core.ResourceMethodInvoker;
+import org.jboss.resteasy.core.ResourceMethodRegistry;
+import org.jboss.resteasy.core.SynchronousDispatcher;
+import org.jboss.resteasy.core.SynchronousExecutionContext;
+import org.jboss.resteasy.core.ThreadLocalResteasyProviderFactory;
+import org.jboss.resteasy.plugins.server.BaseHttpRequest;
+import org.jboss.resteasy.specimpl.ResteasyHttpHeaders;
+import org.jboss.resteasy.specimpl.ResteasyUriInfo;
+import org.jboss.resteasy.spi.NotImplementedYetException;
+import org.jboss.resteasy.spi.ResourceInvoker;
+import org.jboss.resteasy.spi.ResteasyAsynchronousContext;
+import org.jboss.resteasy.spi.ResteasyProviderFactory;
+
+import io.quarkus.resteasy.NonBlocking;
+import io.quarkus.resteasy.runtime.SecurityContextFilter;
+import io.vertx.core.http.HttpServerRequest;
+
+/**
+ * Finds out whether a request targets a non-blocking resource method and can therefore be dispatched on the IO thread.
+ * <p>
+ * The resource method is matched against the request as received, before the pre-matching filters run. The matching result
+ * is cached by RESTEasy so the actual dispatch does not pay for it twice. As a pre-matching filter may change the method or
+ * the URI of the request, and therefore the resource method it targets, this must not be used if the application registers
+ * such a filter, see {@link #hasPreMatchingFilters(ResteasyProviderFactory)}.
+ */
+class NonBlockingMethods {
+
+    private static final Logger log = Logger.getLogger("io.quarkus.resteasy");
+
+    private static final String UNI = "io.smallrye.mutiny.Uni";
+
+    private final SynchronousDispatcher dispatcher;
+    private final ResourceMethodRegistry registry;
+    private final ResteasyProviderFactory providerFactory;
+    private final ClassLoader classLoader;
+    private final String rootPath;
+    private final boolean asyncMethodsOnIoThread;
+    private final ConcurrentMap<Method, Boolean> nonBlocking = new ConcurrentHashMap<>();
+
+    NonBlockingMethods(SynchronousDispatcher dispatcher, ResteasyProviderFactory providerFactory, ClassLoader classLoader,
+            String rootPath, boolean asyncMethodsOnIoThread) {
+        this.dispatcher = dispatcher;
+        this.registry = (ResourceMethodRegistry) dispatcher.getRegistry();
+        this.providerFactory = providerFactory;
+        this.classLoader = classLoader;
+        this.rootPath = rootPath;
+        this.asyncMethodsOnIoThread = asyncMethodsOnIoThread;
+    }
+
+    /**
+     * @return whether a pre-matching request filter other than the built-in ones is registered
+     */
+    static boolean hasPreMatchingFilters(ResteasyProviderFactory providerFactory) {
+        ContainerRequestFilter[] filters = providerFactory.getContainerRequestFilterRegistry().preMatch();
+        if (filters == null) {
+            return false;
+        }
+        for (ContainerRequestFilter filter : filters) {
+            // the security context filter does not change the request, and neither does the file suffix filter registered by
+            // RESTEasy since no suffix mapping can be configured with the standalone Vert.x integration
+            if (!(filter instanceof SecurityContextFilter) && !(filter instanceof AcceptHeaderByFileSuffixFilter)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    boolean isNonBlocking(HttpServerRequest request) {
+        ResourceInvoker invoker;
+        ClassLoader old = Thread.currentThread().getContextClassLoader();
+        boolean pushed = false;
+        try {
+            Thread.currentThread().setContextClassLoader(classLoader);
+            if (ResteasyProviderFactory.getInstance() instanceof ThreadLocalResteasyProviderFactory) {
+                ThreadLocalResteasyProviderFactory.push(providerFactory);
+                pushed = true;
+            }
+            invoker = registry.getResourceInvoker(new MatchingRequest(dispatcher,
+                    VertxUtil.extractUriInfo(request, rootPath),
+                    VertxUtil.extractHttpHeaders(request), request.rawMethod()));
+        } catch (RuntimeException e) {
+            // Not found, not acceptable... the error is reported by the regular dispatch
+            log.tracef("Unable to match %s before dispatching: %s", request.uri(), e);
+            return false;
+        } finally {
+            if (pushed) {
+                ThreadLocalResteasyProviderFactory.pop();
+            }
+            Thread.currentThread().setContextClassLoader(old);
+        }
+        if (!(invoker instanceof ResourceMethodInvoker)) {
+            // Sub-resource locators may return resources with blocking methods
+            return false;
+        }
+        ResourceMethodInvoker methodInvoker = (ResourceMethodInvoker) invoker;
+        return nonBlocking.computeIfAbsent(methodInvoker.getMethod(), m -> isNonBlocking(methodInvoker));
+    }
+
+    private boolean isNonBlocking(ResourceMethodInvoker invoker) {
+        for (Annotation annotation : invoker.getMethodAnnotations()) {
+            if (annotation.annotationType() == NonBlocking.class) {
+                return true;
+            }
+        }
+        Method method = invoker.getMethod();
+        if (method.isAnnotationPresent(NonBlocking.class) || invoker.getResourceClass().isAnnotationPresent(NonBlocking.class)
+                || method.getDeclaringClass().isAnnotationPresent(NonBlocking.class)) {
+            return true;
+        }
+        if (asyncMethodsOnIoThread) {
+            Class<?> returnType = method.getReturnType();
+            return CompletionStage.class.isAssignableFrom(returnType) || returnType.getName().equals(UNI);
+        }
+        return false;
+    }
+
+    /**
+     * A request without a body, used to match the resource method before the actual request is created.
+     */
+    static final class MatchingRequest extends BaseHttpRequest {
+
+        private final ResteasyHttpHeaders httpHeaders;
+        private String httpMethod;
+        private final Map<String, Object> attributes = new HashMap<>();
+        // the body is never read while matching
+        private InputStream inputStream = new ByteArrayInputStream(new byte[0]);
+        private final ResteasyAsynchronousContext asyncContext;
+
+        MatchingRequest(SynchronousDispatcher dispatcher, ResteasyUriInfo uri, ResteasyHttpHeaders httpHeaders,
+                String httpMethod) {
+            super(uri);
+            this.httpHeaders = httpHeaders;
+            this.httpMethod = httpMethod;
+            this.asyncContext = new SynchronousExecutionContext(dispatcher, this, null);
+        }
+
+        @Override
+        public HttpHeaders getHttpHeaders() {
+            return httpHeaders;
+        }
+
+        @Override
+        public MultivaluedMap<String, String> getMutableHeaders() {
+            return httpHeaders.getMutableHeaders();
+        }
+
+        @Override
+        public InputStream getInputStream() {
+            return inputStream;
+        }
+
+        @Override
+        public void setInputStream(InputStream stream) {
+            this.inputStream = stream;
+        }
+
+        @Override
+        public String getHttpMethod() {
+            return httpMethod;
+        }
+
+        @Override
+        public void setHttpMethod(String method) {
+            this.httpMethod = method;
+        }
+
+        @Override
+        public Object getAttribute(String attribute) {
+            return attributes.get(attribute);
+        }
+
+        @Override
+        public void setAttribute(String name, Object value) {
+            attributes.put(name, value);
+        }
+
+        @Override
+        public void removeAttribute(String name) {
+            attributes.remove(name);
+        }
+
+        @Override
+        public Enumeration<String> getAttributeNames() {
+            return Collections.enumeration(attributes.keySet());
+        }
+
+        @Override
+        public ResteasyAsynchronousContext getAsyncContext() {
+            return asyncContext;
+        }
+
+        @Override
+        public void forward(String path) {
+            // same as the actual request
+            throw new NotImplementedYetException();
+        }
+
+        @Override
+        public boolean wasForwarded() {
+            return false;
+        }
+
+        @Override
+        public String getRemoteAddress() {
+            return null;
+        }
+
+        @Override
+        public String getRemoteHost() {
+            return null;
+        }
+    }
+
+}
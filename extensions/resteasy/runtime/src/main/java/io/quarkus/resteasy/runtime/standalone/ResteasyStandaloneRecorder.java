@@ -3,6 +3,7 @@ package io.quarkus.resteasy.runtime.standalone;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Executor;
 import java.util.function.Consumer;
@@ -31,6 +32,11 @@ public class ResteasyStandaloneRecorder {
 
     public static final String META_INF_RESOURCES = "META-INF/resources";
 
+    /**
+     * The location of the gzip variants of the static resources, generated at build time.
+     */
+    public static final String PRECOMPRESSED_RESOURCES = "META-INF/precompressed-resources";
+
     /**
      * TODO: configuration
      */
@@ -78,7 +84,10 @@ public class ResteasyStandaloneRecorder {
 
     private static ResteasyDeployment deployment;
     private static Set<String> knownPaths;
+    private static Map<String, StaticResource> staticResourceIndex;
     private static String contextPath;
+    private static boolean nonBlockingDispatch;
+    private static boolean asyncMethodsOnIoThread;
 
     public void staticInit(ResteasyDeployment dep, String path, Set<String> known) {
         if (dep != null) {
@@ -89,6 +98,15 @@ public class ResteasyStandaloneRecorder {
         contextPath = path;
     }
 
+    public void setStaticResourceIndex(Map<String, StaticResource> index) {
+        staticResourceIndex = index;
+    }
+
+    public void setNonBlockingDispatch(boolean asyncMethods) {
+        nonBlockingDispatch = true;
+        asyncMethodsOnIoThread = asyncMethods;
+    }
+
     public Consumer<Route> start(Supplier<Vertx> vertx,
             ShutdownContext shutdown,
             BeanContainer beanContainer,
@@ -131,7 +149,13 @@ public class ResteasyStandaloneRecorder {
                 });
             }
         }
-        if (!knownPaths.isEmpty()) {
+        if (staticResourceIndex != null) {
+            if (!staticResourceIndex.isEmpty()) {
+                handlers.add(new StaticResourceHandler(staticResourceIndex,
+                        httpConfiguration.staticResources.cacheMaxFileSize.asLongValue(),
+                        httpConfiguration.staticResources.cacheMaxSize.asLongValue(), useDirect));
+            }
+        } else if (!knownPaths.isEmpty()) {
             ThreadLocalHandler staticHandler = new ThreadLocalHandler(new Supplier<Handler<RoutingContext>>() {
                 @Override
                 public Handler<RoutingContext> get() {
@@ -168,7 +192,7 @@ public class ResteasyStandaloneRecorder {
             BeanContainer beanContainer, Executor executor, HttpConfiguration readTimeout) {
         if (deployment != null) {
             return new VertxRequestHandler(vertx.get(), beanContainer, deployment, contextPath, ALLOCATOR, executor,
-                    readTimeout.readTimeout.toMillis());
+                    readTimeout.readTimeout.toMillis(), nonBlockingDispatch, asyncMethodsOnIoThread);
         }
         return null;
     }
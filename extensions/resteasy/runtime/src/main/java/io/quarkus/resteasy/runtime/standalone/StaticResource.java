@@ -0,0 +1,95 @@
+package io.quarkus.resteasy.runtime.standalone;
+
+/**
+ * A static resource from {@code META-INF/resources}, indexed at build time.
+ */
+public class StaticResource {
+
+    private String resourceName;
+    private long size;
+    private String etag;
+    private long lastModified;
+    private String contentType;
+    private String compressedResourceName;
+    private long compressedSize;
+    private boolean compressible;
+
+    /**
+     * @return the name of the class path resource
+     */
+    public String getResourceName() {
+        return resourceName;
+    }
+
+    public void setResourceName(String resourceName) {
+        this.resourceName = resourceName;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public void setSize(long size) {
+        this.size = size;
+    }
+
+    /**
+     * @return the hash of the content
+     */
+    public String getEtag() {
+        return etag;
+    }
+
+    public void setEtag(String etag) {
+        this.etag = etag;
+    }
+
+    /**
+     * @return the last modification time, in milliseconds, truncated to seconds
+     */
+    public long getLastModified() {
+        return lastModified;
+    }
+
+    public void setLastModified(long lastModified) {
+        this.lastModified = lastModified;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+
+    /**
+     * @return the name of the class path resource holding the gzip variant, or {@code null} if there is none
+     */
+    public String getCompressedResourceName() {
+        return compressedResourceName;
+    }
+
+    public void setCompressedResourceName(String compressedResourceName) {
+        this.compressedResourceName = compressedResourceName;
+    }
+
+    public long getCompressedSize() {
+        return compressedSize;
+    }
+
+    public void setCompressedSize(long compressedSize) {
+        this.compressedSize = compressedSize;
+    }
+
+    /**
+     * @return {@code true} if the HTTP server compresses the resource on the fly when it is sent without its gzip variant
+     */
+    public boolean isCompressible() {
+        return compressible;
+    }
+
+    public void setCompressible(boolean compressible) {
+        this.compressible = compressible;
+    }
+}
@@ -0,0 +1,310 @@
+package io.quarkus.resteasy.runtime.standalone;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Map;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.netty.handler.codec.http.HttpResponseStatus;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+import io.vertx.ext.web.impl.Utils;
+
+/**
+ * Serves the static resources from {@code META-INF/resources} using the index built at build time.
+ * <p>
+ * The conditional requests are answered from the index, without touching the resource. The small resources are kept
+ * in memory, and the larger ones are sent as files. If the client accepts gzip, the compressed variant of a resource is
+ * served if there is one. The compressed variants are generated, so they are only served if they fit in memory. Single
+ * byte ranges are supported on the uncompressed variant.
+ */
+final class StaticResourceHandler implements Handler<RoutingContext> {
+
+    private static final long[] UNSATISFIABLE = new long[0];
+
+    private final Map<String, Entry> entries = new HashMap<>();
+
+    StaticResourceHandler(Map<String, StaticResource> index, long cacheMaxFileSize, long cacheMaxSize, boolean direct) {
+        ClassLoader cl = Thread.currentThread().getContextClassLoader();
+        // the same resource may be mapped to several paths, e.g. index.html
+        Map<String, Entry> byResourceName = new HashMap<>();
+        long cacheSize = 0;
+        for (Map.Entry<String, StaticResource> i : index.entrySet()) {
+            StaticResource resource = i.getValue();
+            Entry entry = byResourceName.get(resource.getResourceName());
+            if (entry == null) {
+                Buffer compressedContent = null;
+                // the compressed variants are generated, so they may not be available as files: a variant that does not
+                // fit in memory is not served, and the server compresses the uncompressed variant on the fly instead
+                if (resource.getCompressedResourceName() != null
+                        && cacheSize + resource.getCompressedSize() <= cacheMaxSize) {
+                    compressedContent = read(cl, resource.getCompressedResourceName(), direct);
+                    cacheSize += resource.getCompressedSize();
+                }
+                Buffer content = null;
+                if (resource.getSize() <= cacheMaxFileSize && cacheSize + resource.getSize() <= cacheMaxSize) {
+                    content = read(cl, resource.getResourceName(), direct);
+                    cacheSize += resource.getSize();
+                }
+                entry = new Entry(resource, content, compressedContent);
+                byResourceName.put(resource.getResourceName(), entry);
+            }
+            entries.put(i.getKey(), entry);
+        }
+    }
+
+    @Override
+    public void handle(RoutingContext ctx) {
+        HttpServerRequest request = ctx.request();
+        HttpMethod method = request.method();
+        if (method != HttpMethod.GET && method != HttpMethod.HEAD) {
+            ctx.next();
+            return;
+        }
+        String rel = ctx.mountPoint() == null ? ctx.normalisedPath()
+                : ctx.normalisedPath().substring(ctx.mountPoint().length());
+        Entry entry = entries.get(rel);
+        if (entry == null) {
+            ctx.next();
+            return;
+        }
+
+        String range = request.getHeader(HttpHeaderNames.RANGE);
+        // the ranges are served from the uncompressed variant
+        boolean gzip = entry.resource.isCompressible() && range == null
+                && acceptsGzip(request.getHeader(HttpHeaderNames.ACCEPT_ENCODING));
+        boolean compressed = gzip && entry.compressedContent != null;
+        String etag;
+        if (compressed) {
+            etag = entry.compressedEtag;
+        } else if (gzip) {
+            // the server compresses the content on the fly, so the bytes sent are not the ones identified by the strong ETag
+            etag = entry.weakEtag;
+        } else {
+            etag = entry.etag;
+        }
+
+        HttpServerResponse response = ctx.response();
+        MultiMap headers = response.headers();
+        headers.set(HttpHeaderNames.ETAG, etag);
+        headers.set(HttpHeaderNames.LAST_MODIFIED, entry.lastModifiedHeader);
+        headers.set(HttpHeaderNames.ACCEPT_RANGES, HttpHeaderValues.BYTES);
+        if (entry.resource.isCompressible()) {
+            headers.set(HttpHeaderNames.VARY, HttpHeaderNames.ACCEPT_ENCODING);
+        }
+        if (isNotModified(request, entry, etag)) {
+            response.setStatusCode(HttpResponseStatus.NOT_MODIFIED.code()).end();
+            return;
+        }
+        headers.set(HttpHeaderNames.CONTENT_TYPE, entry.resource.getContentType());
+
+        if (compressed) {
+            headers.set(HttpHeaderNames.CONTENT_ENCODING, HttpHeaderValues.GZIP);
+            send(request, response, entry.compressedContent, null, 0, entry.compressedContent.length());
+            return;
+        }
+
+        long size = entry.resource.getSize();
+        long[] bytes = range != null && isRangeApplicable(request, entry) ? parseRange(range, size) : null;
+        if (bytes == UNSATISFIABLE) {
+            headers.set(HttpHeaderNames.CONTENT_RANGE, "bytes */" + size);
+            response.setStatusCode(HttpResponseStatus.REQUESTED_RANGE_NOT_SATISFIABLE.code()).end();
+        } else if (bytes != null) {
+            headers.set(HttpHeaderNames.CONTENT_RANGE, "bytes " + bytes[0] + "-" + bytes[1] + "/" + size);
+            // a partial content must not be compressed on the fly
+            headers.set(HttpHeaderNames.CONTENT_ENCODING, HttpHeaderValues.IDENTITY);
+            response.setStatusCode(HttpResponseStatus.PARTIAL_CONTENT.code());
+            send(request, response, entry.content, entry.resource.getResourceName(), bytes[0], bytes[1] - bytes[0] + 1);
+        } else {
+            send(request, response, entry.content, entry.resource.getResourceName(), 0, size);
+        }
+    }
+
+    private static void send(HttpServerRequest request, HttpServerResponse response, Buffer content,
+            String resourceName, long offset, long length) {
+        if (request.method() == HttpMethod.HEAD) {
+            response.putHeader(HttpHeaderNames.CONTENT_LENGTH, Long.toString(length));
+            response.end();
+        } else if (content != null) {
+            if (offset == 0 && length == content.length()) {
+                response.end(content);
+            } else {
+                response.end(content.slice((int) offset, (int) (offset + length)));
+            }
+        } else {
+            response.sendFile(resourceName, offset, length);
+        }
+    }
+
+    private static boolean isNotModified(HttpServerRequest request, Entry entry, String etag) {
+        String ifNoneMatch = request.getHeader(HttpHeaderNames.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            // the weak comparison is used for If-None-Match
+            String opaqueTag = opaqueTag(etag);
+            for (String tag : ifNoneMatch.split(",")) {
+                tag = tag.trim();
+                if (tag.equals("*") || opaqueTag(tag).equals(opaqueTag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        long ifModifiedSince = parseDate(request.getHeader(HttpHeaderNames.IF_MODIFIED_SINCE));
+        return ifModifiedSince != -1 && entry.resource.getLastModified() <= ifModifiedSince;
+    }
+
+    private static String opaqueTag(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    private static boolean isRangeApplicable(HttpServerRequest request, Entry entry) {
+        String ifRange = request.getHeader(HttpHeaderNames.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        ifRange = ifRange.trim();
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            // the strong comparison is used for If-Range
+            return ifRange.equals(entry.etag);
+        }
+        return parseDate(ifRange) == entry.resource.getLastModified();
+    }
+
+    /**
+     * @return the first and last positions of the range, {@link #UNSATISFIABLE}, or {@code null} if the range should be
+     *         ignored
+     */
+    static long[] parseRange(String range, long size) {
+        if (!range.startsWith("bytes=") || range.indexOf(',') != -1) {
+            // multiple ranges are not supported, the whole content is sent instead
+            return null;
+        }
+        String spec = range.substring(6).trim();
+        int dash = spec.indexOf('-');
+        if (dash == -1) {
+            return null;
+        }
+        try {
+            long first;
+            long last;
+            if (dash == 0) {
+                long suffix = Long.parseLong(spec.substring(1).trim());
+                if (suffix == 0) {
+                    return UNSATISFIABLE;
+                }
+                first = Math.max(0, size - suffix);
+                last = size - 1;
+            } else {
+                first = Long.parseLong(spec.substring(0, dash).trim());
+                String end = spec.substring(dash + 1).trim();
+                if (end.isEmpty()) {
+                    last = size - 1;
+                } else {
+                    last = Long.parseLong(end);
+                    if (last < first) {
+                        return null;
+                    }
+                    last = Math.min(last, size - 1);
+                }
+            }
+            if (first >= size) {
+                return UNSATISFIABLE;
+            }
+            return new long[] { first, last };
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            int paramsStart = coding.indexOf(';');
+            String name = (paramsStart == -1 ? coding : coding.substring(0, paramsStart)).trim();
+            if (name.equalsIgnoreCase("gzip") || name.equals("*")) {
+                // "gzip;q=0" explicitly refuses the coding
+                return paramsStart == -1 || !isZeroQuality(coding.substring(paramsStart + 1).trim());
+            }
+        }
+        return false;
+    }
+
+    private static boolean isZeroQuality(String param) {
+        if (!param.startsWith("q=")) {
+            return false;
+        }
+        try {
+            return Float.parseFloat(param.substring(2)) == 0;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    private static long parseDate(String date) {
+        if (date == null) {
+            return -1;
+        }
+        try {
+            return ZonedDateTime.parse(date, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant().toEpochMilli();
+        } catch (DateTimeParseException e) {
+            return -1;
+        }
+    }
+
+    private static Buffer read(ClassLoader cl, String name, boolean direct) {
+        try (InputStream in = cl.getResourceAsStream(name)) {
+            if (in == null) {
+                throw new IllegalStateException("Static resource not found: " + name);
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buf = new byte[8192];
+            int r;
+            while ((r = in.read(buf)) > 0) {
+                out.write(buf, 0, r);
+            }
+            byte[] data = out.toByteArray();
+            ByteBuf content = direct ? Unpooled.directBuffer(data.length, data.length) : Unpooled.buffer(data.length);
+            // the buffer is shared by all the responses, so it must never be released
+            return Buffer.buffer(Unpooled.unreleasableBuffer(content.writeBytes(data)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static final class Entry {
+
+        final StaticResource resource;
+        final String etag;
+        final String weakEtag;
+        final String compressedEtag;
+        final String lastModifiedHeader;
+        final Buffer content;
+        final Buffer compressedContent;
+
+        Entry(StaticResource resource, Buffer content, Buffer compressedContent) {
+            this.resource = resource;
+            this.etag = "\"" + resource.getEtag() + "\"";
+            this.weakEtag = "W/" + etag;
+            this.compressedEtag = "\"" + resource.getEtag() + "-gzip\"";
+            this.lastModifiedHeader = Utils.formatRFC1123DateTime(resource.getLastModified());
+            this.content = content;
+            this.compressedContent = compressedContent;
+        }
+    }
+}
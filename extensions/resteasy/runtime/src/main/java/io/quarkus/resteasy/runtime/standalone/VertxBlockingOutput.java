@@ -8,6 +8,7 @@ import java.util.concurrent.CompletionStage;
 import org.jboss.logging.Logger;
 
 import io.netty.buffer.ByteBuf;
+import io.quarkus.vertx.http.runtime.VertxBufferImpl;
 import io.vertx.core.AsyncResult;
 import io.vertx.core.Context;
 import io.vertx.core.Handler;
@@ -131,7 +132,7 @@ public class VertxBlockingOutput implements VertxOutput {
         };
     }
 
-    private void awaitWriteable() throws IOException {
+    protected void awaitWriteable() throws IOException {
         if (first) {
             first = false;
             return;
@@ -0,0 +1,80 @@
+package io.quarkus.resteasy.runtime.standalone;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import org.jboss.resteasy.spi.AsyncOutputStream;
+import org.jboss.resteasy.util.CommitHeaderAsyncOutputStream;
+
+import io.quarkus.runtime.BlockingOperationControl;
+
+/**
+ * The {@link OutputStream} a message body writer serializes an entity to, when the entity stream is backed by a
+ * {@link VertxOutputStream}.
+ * <p>
+ * The serialized data is copied straight into the pooled buffers of the {@link VertxOutputStream}, which are written to the
+ * response one buffer-sized chunk at a time, so that the entity is never held in memory as a whole {@code String} or
+ * {@code byte[]}. If blocking is allowed, the writes block while the response cannot accept more data. Otherwise they are
+ * queued and {@link #written()} completes once they have all been written.
+ * <p>
+ * Flushing and closing this stream do nothing, the response is completed by RESTEasy once the entity has been written. This
+ * allows a small entity to still be sent in a single buffer, with a {@code Content-Length}.
+ */
+public final class VertxEntityOutputStream extends OutputStream {
+
+    private final AsyncOutputStream entityStream;
+    private final boolean blocking;
+    private CompletionStage<Void> written = CompletableFuture.completedFuture(null);
+
+    private VertxEntityOutputStream(AsyncOutputStream entityStream, boolean blocking) {
+        this.entityStream = entityStream;
+        this.blocking = blocking;
+    }
+
+    /**
+     * @return a stream writing to the given entity stream, or {@code null} if it is not backed by a {@link VertxOutputStream}
+     */
+    public static VertxEntityOutputStream of(AsyncOutputStream entityStream) {
+        AsyncOutputStream stream = entityStream;
+        while (stream instanceof CommitHeaderAsyncOutputStream) {
+            stream = ((CommitHeaderAsyncOutputStream) stream).getDelegate();
+        }
+        if (!(stream instanceof VertxOutputStream)) {
+            return null;
+        }
+        return new VertxEntityOutputStream(entityStream, BlockingOperationControl.isBlockingAllowed());
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[] { (byte) b }, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (blocking) {
+            entityStream.write(b, off, len);
+        } else {
+            // the data is copied into the pooled buffers before this returns, so the array can be reused by the caller
+            written = entityStream.asyncWrite(b, off, len);
+        }
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    @Override
+    public void close() {
+    }
+
+    /**
+     * @return a stage which completes once all the data written to this stream has been written to the response, or queued
+     *         in the last pooled buffer which is sent when the response is completed
+     */
+    public CompletionStage<Void> written() {
+        return written;
+    }
+}
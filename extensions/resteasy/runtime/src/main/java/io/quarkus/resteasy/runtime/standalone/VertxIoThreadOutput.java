@@ -0,0 +1,89 @@
+package io.quarkus.resteasy.runtime.standalone;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import io.netty.buffer.ByteBuf;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpConnection;
+import io.vertx.core.http.HttpServerRequest;
+
+/**
+ * The output of the requests dispatched on the IO thread, where waiting for the write queue to drain would block the event
+ * loop.
+ * <p>
+ * The blocking writes made on the IO thread are queued by the connection whatever the size of the write queue, and the
+ * non-blocking writes complete once the write queue has drained. The writes made on a worker thread, e.g. by a blocking
+ * message body writer, still wait for the write queue to drain.
+ */
+public class VertxIoThreadOutput extends VertxBlockingOutput {
+
+    private CompletableFuture<Void> drain;
+
+    public VertxIoThreadOutput(HttpServerRequest request) {
+        super(request);
+        // these handlers serve both the blocking and the non-blocking writes
+        drainHandlerRegistered = true;
+        request.response().drainHandler(new Handler<Void>() {
+            @Override
+            public void handle(Void event) {
+                resume(null);
+            }
+        });
+        request.response().closeHandler(new Handler<Void>() {
+            @Override
+            public void handle(Void event) {
+                resume(new IOException("Connection has been closed"));
+            }
+        });
+    }
+
+    @Override
+    protected void awaitWriteable() throws IOException {
+        if (!Context.isOnEventLoopThread()) {
+            super.awaitWriteable();
+            return;
+        }
+        first = false;
+        if (throwable != null) {
+            throw new IOException(throwable);
+        }
+        if (request.response().closed()) {
+            throw new IOException("Connection has been closed");
+        }
+    }
+
+    @Override
+    public CompletionStage<Void> writeNonBlocking(ByteBuf data, boolean last) {
+        CompletionStage<Void> ret = super.writeNonBlocking(data, last);
+        if (last || !Context.isOnEventLoopThread() || !request.response().writeQueueFull()) {
+            return ret;
+        }
+        // the handlers run on the IO thread as well, so the queue cannot drain before the future is registered
+        if (drain == null) {
+            drain = new CompletableFuture<>();
+        }
+        CompletableFuture<Void> drained = drain;
+        return ret.thenCompose(v -> drained);
+    }
+
+    private void resume(Throwable failure) {
+        if (drain != null) {
+            CompletableFuture<Void> drained = drain;
+            drain = null;
+            if (failure == null) {
+                drained.complete(null);
+            } else {
+                drained.completeExceptionally(failure);
+            }
+        }
+        if (waitingForDrain) {
+            HttpConnection connection = request.connection();
+            synchronized (connection) {
+                connection.notifyAll();
+            }
+        }
+    }
+}
@@ -20,6 +20,12 @@ public class VertxOutputStream extends AsyncOutputStream {
 
     private boolean closed;
 
+    /**
+     * The last write queued by the non blocking methods. The buffers are written one after the other, so that the callers do
+     * not have to wait for a write to complete before queuing the next one.
+     */
+    private CompletionStage<Void> lastWrite = CompletableFuture.completedFuture(null);
+
     /**
      * Construct a new instance. No write timeout is configured.
      *
@@ -142,13 +148,18 @@ public class VertxOutputStream extends AsyncOutputStream {
         if (pooledBuffer != null) {
             ByteBuf sentBuffer = pooledBuffer;
             pooledBuffer = null;
-            CompletionStage<Void> ret = response.writeNonBlocking(sentBuffer, isLast);
-            return ret.whenComplete((v, t) -> {
-                if (t != null)
-                    sentBuffer.release();
-            });
+            return asyncWriteBuffer(sentBuffer, isLast);
         }
-        return CompletableFuture.completedFuture(null);
+        return lastWrite;
+    }
+
+    private CompletionStage<Void> asyncWriteBuffer(ByteBuf buffer, boolean isLast) {
+        lastWrite = lastWrite.thenCompose(v -> response.writeNonBlocking(buffer, isLast))
+                .whenComplete((v, t) -> {
+                    if (t != null && buffer.refCnt() > 0)
+                        buffer.release();
+                });
+        return lastWrite;
     }
 
     @Override
@@ -165,7 +176,6 @@ public class VertxOutputStream extends AsyncOutputStream {
         int rem = len;
         int idx = off;
         ByteBuf buffer = pooledBuffer;
-        CompletionStage<Void> ret = CompletableFuture.completedFuture(null);
         if (buffer == null) {
             pooledBuffer = buffer = allocator.allocateBuffer();
         }
@@ -177,14 +187,10 @@ public class VertxOutputStream extends AsyncOutputStream {
             if (!buffer.isWritable()) {
                 ByteBuf tmpBuf = buffer;
                 this.pooledBuffer = buffer = allocator.allocateBuffer();
-                ret = ret.thenCompose(v -> response.writeNonBlocking(tmpBuf, false)
-                        .whenComplete((v2, t) -> {
-                            if (t != null)
-                                tmpBuf.release();
-                        }));
+                asyncWriteBuffer(tmpBuf, false);
             }
         }
-        return ret.thenCompose(v -> asyncUpdateWritten(len));
+        return asyncUpdateWritten(len);
     }
 
     CompletionStage<Void> asyncUpdateWritten(final long len) {
@@ -194,6 +200,6 @@ public class VertxOutputStream extends AsyncOutputStream {
                 closed = true;
             });
         }
-        return CompletableFuture.completedFuture(null);
+        return lastWrite;
     }
 }
@@ -1,6 +1,5 @@
 package io.quarkus.resteasy.runtime.standalone;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.concurrent.Executor;
@@ -17,6 +16,7 @@ import org.jboss.resteasy.specimpl.ResteasyUriInfo;
 import org.jboss.resteasy.spi.Failure;
 import org.jboss.resteasy.spi.ResteasyDeployment;
 
+import io.netty.buffer.ByteBufInputStream;
 import io.quarkus.arc.ManagedContext;
 import io.quarkus.arc.runtime.BeanContainer;
 import io.quarkus.runtime.BlockingOperationControl;
@@ -27,6 +27,7 @@ import io.quarkus.vertx.http.runtime.security.QuarkusHttpUser;
 import io.vertx.core.Context;
 import io.vertx.core.Handler;
 import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.ext.web.RoutingContext;
@@ -46,12 +47,23 @@ public class VertxRequestHandler implements Handler<RoutingContext> {
     protected final CurrentVertxRequest currentVertxRequest;
     protected final Executor executor;
     protected final long readTimeout;
+    // Null if there is no non-blocking resource method
+    protected final NonBlockingMethods nonBlockingMethods;
 
     public VertxRequestHandler(Vertx vertx,
             BeanContainer beanContainer,
             ResteasyDeployment deployment,
             String rootPath,
             BufferAllocator allocator, Executor executor, long readTimeout) {
+        this(vertx, beanContainer, deployment, rootPath, allocator, executor, readTimeout, false, false);
+    }
+
+    public VertxRequestHandler(Vertx vertx,
+            BeanContainer beanContainer,
+            ResteasyDeployment deployment,
+            String rootPath,
+            BufferAllocator allocator, Executor executor, long readTimeout,
+            boolean nonBlockingDispatch, boolean asyncMethodsOnIoThread) {
         this.vertx = vertx;
         this.beanContainer = beanContainer;
         this.dispatcher = new RequestDispatcher((SynchronousDispatcher) deployment.getDispatcher(),
@@ -63,6 +75,14 @@ public class VertxRequestHandler implements Handler<RoutingContext> {
         Instance<CurrentIdentityAssociation> association = CDI.current().select(CurrentIdentityAssociation.class);
         this.association = association.isResolvable() ? association.get() : null;
         currentVertxRequest = CDI.current().select(CurrentVertxRequest.class).get();
+        if (nonBlockingDispatch && NonBlockingMethods.hasPreMatchingFilters(dispatcher.getProviderFactory())) {
+            log.debug("Non-blocking resource methods are invoked on a worker thread as a pre-matching filter is registered");
+            nonBlockingDispatch = false;
+        }
+        this.nonBlockingMethods = nonBlockingDispatch
+                ? new NonBlockingMethods(dispatcher.getDispatcher(), dispatcher.getProviderFactory(),
+                        Thread.currentThread().getContextClassLoader(), rootPath, asyncMethodsOnIoThread)
+                : null;
     }
 
     @Override
@@ -72,7 +92,8 @@ public class VertxRequestHandler implements Handler<RoutingContext> {
         InputStream is;
         try {
             if (request.getBody() != null) {
-                is = new ByteArrayInputStream(request.getBody().getBytes());
+                // read the buffered body directly from its ByteBuf instead of copying it into a byte array
+                is = new ByteBufInputStream(request.getBody().getByteBuf());
             } else {
                 is = new VertxInputStream(request, readTimeout);
             }
@@ -86,6 +107,12 @@ public class VertxRequestHandler implements Handler<RoutingContext> {
             } catch (Throwable e) {
                 request.fail(e);
             }
+        } else if (canDispatchOnIoThread(request)) {
+            try {
+                dispatch(request, is, new VertxIoThreadOutput(request.request()));
+            } catch (Throwable e) {
+                request.fail(e);
+            }
         } else {
             executor.execute(new Runnable() {
                 @Override
@@ -101,6 +128,29 @@ public class VertxRequestHandler implements Handler<RoutingContext> {
 
     }
 
+    /**
+     * A request targeting a non-blocking resource method is dispatched on the IO thread, saving the hop to a worker thread,
+     * unless its body still has to be read.
+     */
+    private boolean canDispatchOnIoThread(RoutingContext routingContext) {
+        if (nonBlockingMethods == null) {
+            return false;
+        }
+        HttpServerRequest request = routingContext.request();
+        if (routingContext.getBody() == null && hasBody(request)) {
+            return false;
+        }
+        return nonBlockingMethods.isNonBlocking(request);
+    }
+
+    private static boolean hasBody(HttpServerRequest request) {
+        String contentLength = request.getHeader(HttpHeaders.CONTENT_LENGTH);
+        if (contentLength != null) {
+            return !contentLength.equals("0");
+        }
+        return request.getHeader(HttpHeaders.TRANSFER_ENCODING) != null;
+    }
+
     private void dispatch(RoutingContext routingContext, InputStream is, VertxOutput output) {
         ManagedContext requestContext = beanContainer.requestContext();
         requestContext.activate();
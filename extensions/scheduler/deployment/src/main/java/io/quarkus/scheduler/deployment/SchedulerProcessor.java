@@ -2,6 +2,7 @@ package io.quarkus.scheduler.deployment;
 
 import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 
+import java.lang.reflect.Modifier;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -12,7 +13,12 @@ import java.util.Map;
 
 import javax.inject.Singleton;
 
+import org.eclipse.microprofile.metrics.Metadata;
+import org.eclipse.microprofile.metrics.MetricType;
+import org.eclipse.microprofile.metrics.MetricUnits;
+import org.eclipse.microprofile.metrics.Tag;
 import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget;
 import org.jboss.jandex.AnnotationValue;
 import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
@@ -69,8 +75,10 @@ import io.quarkus.scheduler.runtime.ScheduledInvoker;
 import io.quarkus.scheduler.runtime.ScheduledMethodMetadata;
 import io.quarkus.scheduler.runtime.SchedulerConfig;
 import io.quarkus.scheduler.runtime.SchedulerContext;
+import io.quarkus.scheduler.runtime.SchedulerMetrics;
 import io.quarkus.scheduler.runtime.SchedulerRecorder;
 import io.quarkus.scheduler.runtime.SimpleScheduler;
+import io.quarkus.smallrye.metrics.deployment.spi.MetricBuildItem;
 
 /**
  * @author Martin Kouba
@@ -215,7 +223,7 @@ public class SchedulerProcessor {
             SchedulerRecorder recorder,
             List<ScheduledBusinessMethodItem> scheduledMethods,
             BuildProducer<GeneratedClassBuildItem> generatedClass, BuildProducer<ReflectiveClassBuildItem> reflectiveClass,
-            AnnotationProxyBuildItem annotationProxy, ExecutorBuildItem executor) {
+            AnnotationProxyBuildItem annotationProxy, ExecutorBuildItem executor, Capabilities capabilities) {
 
         List<ScheduledMethodMetadata> scheduledMetadata = new ArrayList<>();
         ClassOutput classOutput = new GeneratedClassGizmoAdaptor(generatedClass, true);
@@ -236,29 +244,92 @@ public class SchedulerProcessor {
         }
 
         syntheticBeans.produce(SyntheticBeanBuildItem.configure(SchedulerContext.class).setRuntimeInit()
-                .supplier(recorder.createContext(config, executor.getExecutorProxy(), scheduledMetadata))
+                .supplier(recorder.createContext(config, executor.getExecutorProxy(), scheduledMetadata,
+                        config.metricsEnabled && capabilities.isPresent(Capability.METRICS)))
                 .done());
 
         return new FeatureBuildItem(Feature.SCHEDULER);
     }
 
-    private String generateInvoker(BeanInfo bean, MethodInfo method, ClassOutput classOutput) {
+    @BuildStep
+    void registerMetrics(SchedulerConfig config, BeanArchiveIndexBuildItem beanArchives,
+            BuildProducer<MetricBuildItem> metrics) {
+        Metadata executionTimeMetadata = Metadata.builder()
+                .withName(SchedulerMetrics.EXECUTION_TIME)
+                .withDescription("Time spent executing the scheduled method.")
+                .withType(MetricType.TIMER)
+                .withUnit(MetricUnits.NANOSECONDS)
+                .build();
+        Metadata lagMetadata = Metadata.builder()
+                .withName(SchedulerMetrics.LAG)
+                .withDescription("Time elapsed between the scheduled fire time and the start of the execution.")
+                .withType(MetricType.TIMER)
+                .withUnit(MetricUnits.NANOSECONDS)
+                .build();
+        Metadata skippedMetadata = Metadata.builder()
+                .withName(SchedulerMetrics.SKIPPED)
+                .withDescription(
+                        "Number of times the trigger fired but the execution was skipped because of the concurrent execution policy.")
+                .withType(MetricType.COUNTER)
+                .build();
 
+        String configRootName = "scheduler";
+        IndexView index = beanArchives.getIndex();
+        // the scheduled methods are collected from the index because the beans are not registered yet
+        for (DotName annotationName : Arrays.asList(SCHEDULED_NAME, SCHEDULES_NAME)) {
+            for (AnnotationInstance annotation : index.getAnnotations(annotationName)) {
+                if (annotation.target().kind() != AnnotationTarget.Kind.METHOD) {
+                    continue;
+                }
+                MethodInfo method = annotation.target().asMethod();
+                AnnotationInstance[] schedules = annotationName.equals(SCHEDULED_NAME) ? new AnnotationInstance[] { annotation }
+                        : annotation.value().asNestedArray();
+                // a scheduled method is also invoked on the beans that inherit it
+                List<ClassInfo> beanClasses = new ArrayList<>(index.getAllKnownSubclasses(method.declaringClass().name()));
+                beanClasses.add(method.declaringClass());
+                for (ClassInfo beanClass : beanClasses) {
+                    if (Modifier.isAbstract(beanClass.flags())) {
+                        continue;
+                    }
+                    // the trigger ids must match the ones computed by the simple scheduler at runtime
+                    String invokerClass = getInvokerName(beanClass, method).replace('/', '.');
+                    int nameSequence = 0;
+                    for (AnnotationInstance scheduled : schedules) {
+                        nameSequence++;
+                        AnnotationValue identityValue = scheduled.value("identity");
+                        Tag tag = new Tag(SchedulerMetrics.TRIGGER_TAG, SimpleScheduler.triggerId(invokerClass,
+                                identityValue != null ? identityValue.asString() : "", nameSequence));
+                        metrics.produce(
+                                new MetricBuildItem(executionTimeMetadata, config.metricsEnabled, configRootName, tag));
+                        metrics.produce(new MetricBuildItem(lagMetadata, config.metricsEnabled, configRootName, tag));
+                        metrics.produce(new MetricBuildItem(skippedMetadata, config.metricsEnabled, configRootName, tag));
+                    }
+                }
+            }
+        }
+    }
+
+    private String getInvokerName(ClassInfo implClazz, MethodInfo method) {
         String baseName;
-        if (bean.getImplClazz().enclosingClass() != null) {
-            baseName = DotNames.simpleName(bean.getImplClazz().enclosingClass()) + "_"
-                    + DotNames.simpleName(bean.getImplClazz().name());
+        if (implClazz.enclosingClass() != null) {
+            baseName = DotNames.simpleName(implClazz.enclosingClass()) + "_"
+                    + DotNames.simpleName(implClazz.name());
         } else {
-            baseName = DotNames.simpleName(bean.getImplClazz().name());
+            baseName = DotNames.simpleName(implClazz.name());
         }
         StringBuilder sigBuilder = new StringBuilder();
         sigBuilder.append(method.name()).append("_").append(method.returnType().name().toString());
         for (Type i : method.parameters()) {
             sigBuilder.append(i.name().toString());
         }
-        String targetPackage = DotNames.packageName(bean.getImplClazz().name());
-        String generatedName = targetPackage.replace('.', '/') + "/" + baseName + INVOKER_SUFFIX + "_" + method.name() + "_"
+        String targetPackage = DotNames.packageName(implClazz.name());
+        return targetPackage.replace('.', '/') + "/" + baseName + INVOKER_SUFFIX + "_" + method.name() + "_"
                 + HashUtil.sha1(sigBuilder.toString());
+    }
+
+    private String generateInvoker(BeanInfo bean, MethodInfo method, ClassOutput classOutput) {
+
+        String generatedName = getInvokerName(bean.getImplClazz(), method);
 
         ClassCreator invokerCreator = ClassCreator.builder().classOutput(classOutput).className(generatedName)
                 .interfaces(ScheduledInvoker.class)
@@ -0,0 +1,84 @@
+package io.quarkus.scheduler.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ClusteredSchedulerTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Jobs.class)
+                    .addAsResource(new StringAsset("quarkus.datasource.db-kind=h2\n"
+                            + "quarkus.datasource.jdbc.url=jdbc:h2:mem:scheduler;DB_CLOSE_DELAY=-1\n"
+                            + "quarkus.scheduler.cluster.enabled=true\n"
+                            + "quarkus.scheduler.cluster.lease-duration=3S"),
+                            "application.properties"));
+
+    @Inject
+    AgroalDataSource dataSource;
+
+    @Test
+    public void testLease() throws InterruptedException, SQLException {
+        // The lease is free, this instance acquires it and fires the trigger
+        assertTrue(Jobs.LATCH.await(5, TimeUnit.SECONDS));
+        assertEquals(1, countLeases());
+
+        // Simulate another application instance holding the lease
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection
+                        .prepareStatement("UPDATE QUARKUS_SCHEDULER_LEASE SET OWNER = 'other', EXPIRES_AT = ?")) {
+            statement.setLong(1, System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1));
+            assertEquals(1, statement.executeUpdate());
+        }
+        // Wait for the local validity of the lease to expire
+        Thread.sleep(3000);
+        int count = Jobs.COUNTER.get();
+        Thread.sleep(1500);
+        assertEquals(count, Jobs.COUNTER.get());
+    }
+
+    private int countLeases() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection
+                        .prepareStatement("SELECT COUNT(*) FROM QUARKUS_SCHEDULER_LEASE WHERE NAME = 'quarkus-scheduler'");
+                ResultSet resultSet = statement.executeQuery()) {
+            resultSet.next();
+            return resultSet.getInt(1);
+        }
+    }
+
+    static class Jobs {
+
+        static final CountDownLatch LATCH = new CountDownLatch(3);
+        static final AtomicInteger COUNTER = new AtomicInteger();
+
+        @Scheduled(every = "0.2s")
+        void checkEveryTwoHundredMillis() {
+            COUNTER.incrementAndGet();
+            LATCH.countDown();
+        }
+
+    }
+
+}
@@ -0,0 +1,79 @@
+package io.quarkus.scheduler.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.Scheduled.ConcurrentExecution;
+import io.quarkus.test.QuarkusUnitTest;
+
+public class ConcurrentExecutionTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Jobs.class));
+
+    @Test
+    public void testConcurrentExecution() throws InterruptedException {
+        assertTrue(Jobs.SKIP_LATCH.await(5, TimeUnit.SECONDS));
+        assertTrue(Jobs.QUEUE_ONE_LATCH.await(5, TimeUnit.SECONDS));
+        assertTrue(Jobs.PROCEED_LATCH.await(5, TimeUnit.SECONDS));
+        // The trigger fires every 100 ms but the execution takes 300 ms
+        assertEquals(1, Jobs.SKIP_MAX_RUNNING.get());
+        assertEquals(1, Jobs.QUEUE_ONE_MAX_RUNNING.get());
+        assertTrue(Jobs.PROCEED_MAX_RUNNING.get() > 1);
+    }
+
+    static class Jobs {
+
+        static final CountDownLatch SKIP_LATCH = new CountDownLatch(2);
+        static final CountDownLatch QUEUE_ONE_LATCH = new CountDownLatch(2);
+        static final CountDownLatch PROCEED_LATCH = new CountDownLatch(2);
+
+        static final AtomicInteger SKIP_RUNNING = new AtomicInteger();
+        static final AtomicInteger SKIP_MAX_RUNNING = new AtomicInteger();
+        static final AtomicInteger QUEUE_ONE_RUNNING = new AtomicInteger();
+        static final AtomicInteger QUEUE_ONE_MAX_RUNNING = new AtomicInteger();
+        static final AtomicInteger PROCEED_RUNNING = new AtomicInteger();
+        static final AtomicInteger PROCEED_MAX_RUNNING = new AtomicInteger();
+
+        @Scheduled(every = "0.1s", concurrentExecution = ConcurrentExecution.SKIP)
+        void skip() throws InterruptedException {
+            execute(SKIP_RUNNING, SKIP_MAX_RUNNING, SKIP_LATCH);
+        }
+
+        @Scheduled(every = "0.1s", concurrentExecution = ConcurrentExecution.QUEUE_ONE)
+        void queueOne() throws InterruptedException {
+            execute(QUEUE_ONE_RUNNING, QUEUE_ONE_MAX_RUNNING, QUEUE_ONE_LATCH);
+        }
+
+        @Scheduled(every = "0.1s")
+        void proceed() throws InterruptedException {
+            execute(PROCEED_RUNNING, PROCEED_MAX_RUNNING, PROCEED_LATCH);
+        }
+
+        private static void execute(AtomicInteger running, AtomicInteger maxRunning, CountDownLatch latch)
+                throws InterruptedException {
+            int current = running.incrementAndGet();
+            maxRunning.accumulateAndGet(current, Math::max);
+            try {
+                TimeUnit.MILLISECONDS.sleep(300);
+            } finally {
+                running.decrementAndGet();
+                latch.countDown();
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,72 @@
+package io.quarkus.scheduler.test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.MetricID;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.MetricUnits;
+import org.eclipse.microprofile.metrics.Tag;
+import org.eclipse.microprofile.metrics.Timer;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.Scheduled.ConcurrentExecution;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.metrics.MetricRegistries;
+
+public class TriggerMetricsTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Jobs.class)
+                    .addAsResource(new StringAsset("quarkus.scheduler.metrics.enabled=true"),
+                            "application.properties"));
+
+    @Test
+    public void testTriggerMetrics() throws InterruptedException {
+        assertTrue(Jobs.LATCH.await(5, TimeUnit.SECONDS));
+
+        MetricRegistry registry = MetricRegistries.get(MetricRegistry.Type.VENDOR);
+        Tag tag = new Tag("trigger", "metered");
+        // Registered at build time with the metadata of the extension
+        assertEquals(MetricUnits.NANOSECONDS, registry.getMetadata().get("scheduled.execution.time").getUnit().get());
+
+        Timer executionTime = registry.getTimers().get(new MetricID("scheduled.execution.time", tag));
+        assertNotNull(executionTime);
+        assertTrue(executionTime.getCount() > 0);
+        Timer lag = registry.getTimers().get(new MetricID("scheduled.lag", tag));
+        assertNotNull(lag);
+        assertTrue(lag.getCount() > 0);
+        // The trigger fires every 100 ms but the execution takes 300 ms
+        Counter skipped = registry.getCounters().get(new MetricID("scheduled.skipped", tag));
+        assertNotNull(skipped);
+        assertTrue(skipped.getCount() > 0);
+    }
+
+    static class Jobs {
+
+        static final CountDownLatch LATCH = new CountDownLatch(2);
+
+        @Scheduled(identity = "metered", every = "0.1s", concurrentExecution = ConcurrentExecution.SKIP)
+        void metered() throws InterruptedException {
+            try {
+                TimeUnit.MILLISECONDS.sleep(300);
+            } finally {
+                LATCH.countDown();
+            }
+        }
+
+    }
+
+}
@@ -64,7 +64,8 @@ public @interface Scheduled {
      * <p>
      * The value is parsed with {@link Duration#parse(CharSequence)}. However, if an expression starts with a digit, "PT" prefix
      * is added automatically, so for example, {@code 15m} can be used instead of {@code PT15M} and is parsed as "15 minutes".
-     * Note that the absolute value of the value is always used.
+     * Note that the absolute value of the value is always used. Intervals shorter than one second, such as {@code 0.5s}, are
+     * supported.
      * <p>
      * If the value starts with "&#123;" and ends with "&#125;" the scheduler attempts to find a corresponding config property
      * and use the configured value instead: {@code &#64;Scheduled(every = "{myservice.check.every.expr}")}.
@@ -104,6 +105,41 @@ public @interface Scheduled {
      */
     String delayed() default "";
 
+    /**
+     * Specifies what should happen if the trigger fires while the previous execution of the scheduled method is still
+     * running.
+     * <p>
+     * This member is only taken into account by the simple scheduler. The Quartz scheduler always proceeds.
+     *
+     * @return the concurrent execution policy
+     */
+    ConcurrentExecution concurrentExecution() default ConcurrentExecution.PROCEED;
+
+    /**
+     * Defines the behavior of a trigger which fires while the previous execution of the scheduled method is still running.
+     *
+     * @see Scheduled#concurrentExecution()
+     */
+    enum ConcurrentExecution {
+
+        /**
+         * The method is executed again, regardless of the running executions.
+         */
+        PROCEED,
+
+        /**
+         * The execution is skipped.
+         */
+        SKIP,
+
+        /**
+         * The execution is queued and starts as soon as the running execution completes. At most one execution is queued,
+         * the subsequent ones are skipped until the queued execution starts.
+         */
+        QUEUE_ONE,
+
+    }
+
     @Retention(RUNTIME)
     @Target(METHOD)
     @interface Schedules {
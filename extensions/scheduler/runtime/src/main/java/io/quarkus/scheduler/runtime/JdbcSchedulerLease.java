@@ -0,0 +1,208 @@
+package io.quarkus.scheduler.runtime;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.logging.Logger;
+
+import io.agroal.api.AgroalDataSource;
+import io.quarkus.agroal.DataSource.DataSourceLiteral;
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InstanceHandle;
+import io.quarkus.scheduler.runtime.SchedulerRuntimeConfig.ClusterConfig;
+
+/**
+ * A {@link SchedulerLease} stored in a database table, one row per lease name.
+ * <p>
+ * A single {@code UPDATE} statement acquires a free or expired lease, or extends the lease held by this application instance.
+ * The expiration time is stored in the table, so the clocks of the application instances have to be synchronized. This
+ * instance stops considering the lease as held one third of the lease duration before the stored expiration time, which
+ * leaves a margin for the clock skew and the renewal round-trip.
+ * <p>
+ * This class is only loaded if the cluster mode is enabled, which requires the Agroal extension.
+ */
+class JdbcSchedulerLease implements SchedulerLease {
+
+    private static final Logger LOGGER = Logger.getLogger(JdbcSchedulerLease.class);
+
+    // SQL state class of the integrity constraint violations, e.g. a duplicate primary key
+    private static final String INTEGRITY_CONSTRAINT_VIOLATION = "23";
+
+    private final AgroalDataSource dataSource;
+    private final String tableName;
+    private final String leaseName;
+    private final String owner;
+    private final long leaseMillis;
+    private final long validityNanos;
+    private final int queryTimeout;
+
+    private final String updateSql;
+    private final String insertSql;
+    private final String releaseSql;
+
+    // Only accessed from the scheduler thread
+    private boolean leaseExists;
+    private volatile boolean held;
+    // System.nanoTime() based
+    private volatile long heldUntil;
+
+    JdbcSchedulerLease(ClusterConfig config) {
+        this.dataSource = getDataSource(config);
+        this.tableName = config.tableName;
+        this.leaseName = config.leaseName;
+        this.owner = UUID.randomUUID().toString();
+        this.leaseMillis = config.leaseDuration.toMillis();
+        if (leaseMillis < 3) {
+            throw new IllegalArgumentException("The scheduler lease duration is too short: " + config.leaseDuration);
+        }
+        this.validityNanos = TimeUnit.MILLISECONDS.toNanos(leaseMillis - leaseMillis / 3);
+        this.queryTimeout = (int) Math.max(1L, TimeUnit.MILLISECONDS.toSeconds(leaseMillis / 3));
+        this.updateSql = "UPDATE " + tableName
+                + " SET OWNER = ?, EXPIRES_AT = ? WHERE NAME = ? AND (OWNER = ? OR EXPIRES_AT < ?)";
+        this.insertSql = "INSERT INTO " + tableName + " (NAME, OWNER, EXPIRES_AT) VALUES (?, ?, ?)";
+        this.releaseSql = "UPDATE " + tableName + " SET EXPIRES_AT = 0 WHERE NAME = ? AND OWNER = ?";
+        createTableIfMissing();
+    }
+
+    long getRenewalPeriod() {
+        return leaseMillis / 3;
+    }
+
+    @Override
+    public boolean isHeld() {
+        return held && heldUntil - System.nanoTime() > 0;
+    }
+
+    @Override
+    public void renew() {
+        long start = System.nanoTime();
+        long now = System.currentTimeMillis();
+        boolean acquired;
+        try (Connection connection = dataSource.getConnection()) {
+            acquired = update(connection, now);
+            if (!acquired && !leaseExists) {
+                acquired = insert(connection, now);
+            }
+        } catch (SQLException | RuntimeException e) {
+            // The lease is still considered as held until its local validity expires
+            LOGGER.warnf(e, "Unable to renew the scheduler lease %s", leaseName);
+            return;
+        }
+        if (acquired) {
+            heldUntil = start + validityNanos;
+        }
+        if (acquired != held) {
+            LOGGER.infof("Scheduler lease %s %s by this application instance", leaseName, acquired ? "acquired" : "lost");
+            held = acquired;
+        }
+    }
+
+    @Override
+    public void release() {
+        if (!held) {
+            return;
+        }
+        held = false;
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement(releaseSql)) {
+            statement.setQueryTimeout(queryTimeout);
+            statement.setString(1, leaseName);
+            statement.setString(2, owner);
+            statement.executeUpdate();
+        } catch (SQLException | RuntimeException e) {
+            LOGGER.warnf(e, "Unable to release the scheduler lease %s, it will expire in %s ms", leaseName, leaseMillis);
+        }
+    }
+
+    private boolean update(Connection connection, long now) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(updateSql)) {
+            statement.setQueryTimeout(queryTimeout);
+            statement.setString(1, owner);
+            statement.setLong(2, now + leaseMillis);
+            statement.setString(3, leaseName);
+            statement.setString(4, owner);
+            statement.setLong(5, now);
+            if (statement.executeUpdate() > 0) {
+                leaseExists = true;
+                return true;
+            }
+            return false;
+        }
+    }
+
+    private boolean insert(Connection connection, long now) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(insertSql)) {
+            statement.setQueryTimeout(queryTimeout);
+            statement.setString(1, leaseName);
+            statement.setString(2, owner);
+            statement.setLong(3, now + leaseMillis);
+            statement.executeUpdate();
+            leaseExists = true;
+            return true;
+        } catch (SQLException e) {
+            if (e.getSQLState() != null && e.getSQLState().startsWith(INTEGRITY_CONSTRAINT_VIOLATION)) {
+                // Another application instance inserted the lease first
+                leaseExists = true;
+                return false;
+            }
+            throw e;
+        }
+    }
+
+    private void createTableIfMissing() {
+        try (Connection connection = dataSource.getConnection()) {
+            if (tableExists(connection)) {
+                return;
+            }
+            try (Statement statement = connection.createStatement()) {
+                statement.executeUpdate("CREATE TABLE " + tableName
+                        + " (NAME VARCHAR(255) NOT NULL PRIMARY KEY, OWNER VARCHAR(255) NOT NULL, EXPIRES_AT BIGINT NOT NULL)");
+                LOGGER.debugf("Scheduler lease table %s created", tableName);
+            } catch (SQLException e) {
+                // Another application instance may have created the table concurrently
+                if (!tableExists(connection)) {
+                    throw e;
+                }
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Unable to create the scheduler lease table " + tableName, e);
+        }
+    }
+
+    private boolean tableExists(Connection connection) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        // The case of the stored identifiers depends on the database
+        for (String name : new String[] { tableName, tableName.toUpperCase(Locale.ROOT), tableName.toLowerCase(Locale.ROOT) }) {
+            try (ResultSet tables = metaData.getTables(null, null, name, null)) {
+                if (tables.next()) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static AgroalDataSource getDataSource(ClusterConfig config) {
+        InstanceHandle<AgroalDataSource> instanceHandle;
+        if (config.datasource.isPresent()) {
+            instanceHandle = Arc.container().instance(AgroalDataSource.class,
+                    new DataSourceLiteral(config.datasource.get()));
+        } else {
+            instanceHandle = Arc.container().instance(AgroalDataSource.class);
+        }
+        if (!instanceHandle.isAvailable()) {
+            throw new IllegalStateException(String.format(
+                    "Scheduler cluster mode enabled but the '%s' datasource is missing",
+                    config.datasource.orElse("default")));
+        }
+        return instanceHandle.get();
+    }
+
+}
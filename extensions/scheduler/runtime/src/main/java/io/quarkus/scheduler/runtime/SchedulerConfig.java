@@ -18,4 +18,12 @@ public class SchedulerConfig {
     @ConfigItem(defaultValue = "quartz")
     public CronType cronType;
 
+    /**
+     * Whether or not the simple scheduler should expose the execution time, the lag between the scheduled fire time and the
+     * actual start, and the number of skipped executions of each trigger as vendor metrics tagged with the trigger id. This
+     * requires the SmallRye Metrics extension.
+     */
+    @ConfigItem(name = "metrics.enabled", defaultValue = "false")
+    public boolean metricsEnabled;
+
 }
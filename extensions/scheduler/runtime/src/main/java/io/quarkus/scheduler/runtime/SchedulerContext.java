@@ -14,6 +14,12 @@ public interface SchedulerContext {
 
     List<ScheduledMethodMetadata> getScheduledMethods();
 
+    /**
+     * 
+     * @return {@code true} if the metrics of the triggers should be registered, {@code false} otherwise
+     */
+    boolean isMetricsEnabled();
+
     @SuppressWarnings("unchecked")
     default ScheduledInvoker createInvoker(String invokerClassName) {
         try {
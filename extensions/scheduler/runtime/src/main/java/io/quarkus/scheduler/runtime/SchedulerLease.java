@@ -0,0 +1,28 @@
+package io.quarkus.scheduler.runtime;
+
+/**
+ * A lease shared by the application instances of a cluster. Only the instance holding the lease fires the triggers of the
+ * simple scheduler.
+ */
+interface SchedulerLease {
+
+    /**
+     * Must not block, it is called each time a trigger fires.
+     * 
+     * @return {@code true} if the lease is currently held by this application instance
+     */
+    boolean isHeld();
+
+    /**
+     * Tries to acquire the lease if it is free or expired, or extends it if it is already held by this application instance.
+     * Called periodically by the scheduler.
+     */
+    void renew();
+
+    /**
+     * Releases the lease if it is held by this application instance so that another instance can acquire it without waiting
+     * for the lease expiration.
+     */
+    void release();
+
+}
@@ -0,0 +1,10 @@
+package io.quarkus.scheduler.runtime;
+
+public class SchedulerMetrics {
+
+    public static final String TRIGGER_TAG = "trigger";
+
+    public static final String EXECUTION_TIME = "scheduled.execution.time";
+    public static final String LAG = "scheduled.lag";
+    public static final String SKIPPED = "scheduled.skipped";
+}
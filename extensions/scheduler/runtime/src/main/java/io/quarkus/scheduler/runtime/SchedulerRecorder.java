@@ -12,7 +12,7 @@ import io.quarkus.runtime.annotations.Recorder;
 public class SchedulerRecorder {
 
     public Supplier<Object> createContext(SchedulerConfig config, ExecutorService executorService,
-            List<ScheduledMethodMetadata> scheduledMethods) {
+            List<ScheduledMethodMetadata> scheduledMethods, boolean metricsEnabled) {
         return new Supplier<Object>() {
             @Override
             public Object get() {
@@ -32,6 +32,11 @@ public class SchedulerRecorder {
                     public List<ScheduledMethodMetadata> getScheduledMethods() {
                         return scheduledMethods;
                     }
+
+                    @Override
+                    public boolean isMetricsEnabled() {
+                        return metricsEnabled;
+                    }
                 };
             }
         };
@@ -1,5 +1,9 @@
 package io.quarkus.scheduler.runtime;
 
+import java.time.Duration;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigItem;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
@@ -13,4 +17,49 @@ public class SchedulerRuntimeConfig {
     @ConfigItem(defaultValue = "true")
     public boolean enabled;
 
-}
\ No newline at end of file
+    /**
+     * Cluster configuration of the simple scheduler.
+     */
+    @ConfigItem
+    public ClusterConfig cluster;
+
+    @ConfigGroup
+    public static class ClusterConfig {
+
+        /**
+         * If enabled, the application instances sharing the same lease elect a leader and only the leader fires the
+         * triggers, so that each trigger fires once per cluster. The lease is stored in a database table and requires the
+         * Agroal extension.
+         */
+        @ConfigItem(defaultValue = "false")
+        public boolean enabled;
+
+        /**
+         * The name of the datasource used to store the lease. If not set, the default datasource is used.
+         */
+        @ConfigItem
+        public Optional<String> datasource;
+
+        /**
+         * The name of the table which stores the leases. The table is created if it does not exist.
+         */
+        @ConfigItem(defaultValue = "QUARKUS_SCHEDULER_LEASE")
+        public String tableName;
+
+        /**
+         * The name of the lease. The application instances using the same lease name elect a single leader.
+         */
+        @ConfigItem(defaultValue = "quarkus-scheduler")
+        public String leaseName;
+
+        /**
+         * How long the leader keeps the lease without renewing it. The leader renews the lease three times per duration, a
+         * shorter duration means a faster failover but more database round-trips. The clocks of the application instances
+         * must be synchronized with a precision much finer than this duration.
+         */
+        @ConfigItem(defaultValue = "30S")
+        public Duration leaseDuration;
+
+    }
+
+}
@@ -2,16 +2,17 @@ package io.quarkus.scheduler.runtime;
 
 import java.time.Duration;
 import java.time.Instant;
-import java.time.LocalDateTime;
 import java.time.ZonedDateTime;
 import java.time.temporal.ChronoUnit;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Comparator;
 import java.util.Optional;
+import java.util.PriorityQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.annotation.PreDestroy;
 import javax.annotation.Priority;
@@ -31,8 +32,10 @@ import com.cronutils.model.definition.CronDefinitionBuilder;
 import com.cronutils.model.time.ExecutionTime;
 import com.cronutils.parser.CronParser;
 
+import io.quarkus.runtime.ShutdownEvent;
 import io.quarkus.runtime.StartupEvent;
 import io.quarkus.scheduler.Scheduled;
+import io.quarkus.scheduler.Scheduled.ConcurrentExecution;
 import io.quarkus.scheduler.ScheduledExecution;
 import io.quarkus.scheduler.Scheduler;
 import io.quarkus.scheduler.Trigger;
@@ -43,29 +46,46 @@ public class SimpleScheduler implements Scheduler {
 
     private static final Logger LOGGER = Logger.getLogger(SimpleScheduler.class);
 
-    // milliseconds
-    private static final long CHECK_PERIOD = 1000L;
-
     private final ScheduledExecutorService scheduledExecutor;
     private final ExecutorService executor;
     private volatile boolean running;
-    private final List<ScheduledTask> scheduledTasks;
+    // Ordered by next fire time, only accessed from the sequential checkTriggers() runs once the scheduler is started
+    private final PriorityQueue<ScheduledTask> scheduledTasks;
     private final boolean enabled;
+    // Null unless the cluster mode is enabled
+    private final SchedulerLease lease;
+    private final long leaseRenewalPeriod;
+    // Both the ShutdownEvent observer and the @PreDestroy callback stop the scheduler
+    private final AtomicBoolean stopped = new AtomicBoolean();
 
     public SimpleScheduler(SchedulerContext context, Config config, SchedulerRuntimeConfig schedulerRuntimeConfig) {
         this.running = true;
         this.enabled = schedulerRuntimeConfig.enabled;
-        this.scheduledTasks = new ArrayList<>();
+        this.scheduledTasks = new PriorityQueue<>(
+                Comparator.comparing((ScheduledTask task) -> task.trigger.nextFireTime));
         this.executor = context.getExecutor();
 
         if (!schedulerRuntimeConfig.enabled) {
             this.scheduledExecutor = null;
+            this.lease = null;
+            this.leaseRenewalPeriod = 0;
             LOGGER.info("Simple scheduler is disabled by config property and will not be started");
         } else if (context.getScheduledMethods().isEmpty()) {
             this.scheduledExecutor = null;
+            this.lease = null;
+            this.leaseRenewalPeriod = 0;
             LOGGER.info("No scheduled business methods found - Simple scheduler will not be started");
         } else {
-            this.scheduledExecutor = new JBossScheduledThreadPoolExecutor(1, new Runnable() {
+            if (schedulerRuntimeConfig.cluster.enabled) {
+                JdbcSchedulerLease jdbcLease = createLease(schedulerRuntimeConfig);
+                this.lease = jdbcLease;
+                this.leaseRenewalPeriod = jdbcLease.getRenewalPeriod();
+            } else {
+                this.lease = null;
+                this.leaseRenewalPeriod = 0;
+            }
+            // A dedicated thread renews the lease so that a slow database does not delay the triggers
+            this.scheduledExecutor = new JBossScheduledThreadPoolExecutor(lease != null ? 2 : 1, new Runnable() {
                 @Override
                 public void run() {
                     // noop
@@ -82,7 +102,12 @@ public class SimpleScheduler implements Scheduler {
                     nameSequence++;
                     SimpleTrigger trigger = createTrigger(method.getInvokerClassName(), parser, scheduled, nameSequence,
                             config);
-                    scheduledTasks.add(new ScheduledTask(trigger, invoker));
+                    if (trigger.nextFireTime != null) {
+                        scheduledTasks.add(new ScheduledTask(trigger, invoker, scheduled.concurrentExecution(),
+                                context.isMetricsEnabled() ? new TriggerMetrics(trigger.getId()) : null));
+                    } else {
+                        LOGGER.warnf("Trigger %s will never fire", trigger);
+                    }
                 }
             }
         }
@@ -93,16 +118,23 @@ public class SimpleScheduler implements Scheduler {
         if (scheduledExecutor == null) {
             return;
         }
-        // Try to compute the initial delay to execute the checks near to the whole second
-        // Note that this does not guarantee anything, it's just best effort
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime trunc = now.plusSeconds(1).truncatedTo(ChronoUnit.SECONDS);
-        scheduledExecutor.scheduleAtFixedRate(this::checkTriggers, ChronoUnit.MILLIS.between(now, trunc), CHECK_PERIOD,
-                TimeUnit.MILLISECONDS);
+        if (lease != null) {
+            // Try to acquire the lease before the first check so that the leader fires the triggers right away
+            scheduledExecutor.scheduleWithFixedDelay(lease::renew, 0, leaseRenewalPeriod, TimeUnit.MILLISECONDS);
+        }
+        scheduledExecutor.execute(this::checkTriggers);
+    }
+
+    // Stop firing the triggers before the executor is shut down, otherwise a queued execution could keep it busy
+    void onShutdown(@Observes ShutdownEvent event) {
+        stop();
     }
 
     @PreDestroy
     void stop() {
+        if (!stopped.compareAndSet(false, true)) {
+            return;
+        }
         try {
             if (scheduledExecutor != null) {
                 scheduledExecutor.shutdownNow();
@@ -110,33 +142,92 @@ public class SimpleScheduler implements Scheduler {
         } catch (Exception e) {
             LOGGER.warn("Unable to shutdown the scheduler executor", e);
         }
+        if (lease != null) {
+            lease.release();
+        }
     }
 
+    /**
+     * Fires all the triggers that are due and then sleeps until the next fire time. Only the due triggers are evaluated so the
+     * cost does not depend on the total number of scheduled tasks.
+     */
     void checkTriggers() {
-        if (!running) {
-            LOGGER.trace("Skip all triggers - scheduler paused");
-        }
         ZonedDateTime now = ZonedDateTime.now();
+        ScheduledTask task;
+        while ((task = scheduledTasks.peek()) != null && !task.trigger.nextFireTime.isAfter(now)) {
+            scheduledTasks.poll();
+            ZonedDateTime scheduledFireTime = task.trigger.nextFireTime;
+            if (!running) {
+                LOGGER.tracef("Skip trigger %s - scheduler paused", task.trigger);
+            } else if (lease != null && !lease.isHeld()) {
+                LOGGER.tracef("Skip trigger %s - the scheduler lease is held by another application instance", task.trigger);
+            } else {
+                execute(task, now, scheduledFireTime);
+            }
+            if (task.trigger.fired(scheduledFireTime, now)) {
+                scheduledTasks.add(task);
+            }
+        }
+        if (task != null) {
+            // Sleep until the next fire time, a wake up that comes too early simply reschedules the check
+            long delay = Math.max(0L, ChronoUnit.MICROS.between(now, task.trigger.nextFireTime));
+            try {
+                scheduledExecutor.schedule(this::checkTriggers, delay, TimeUnit.MICROSECONDS);
+            } catch (RejectedExecutionException e) {
+                // The scheduler is being stopped
+                LOGGER.debugf("Unable to schedule the next check of triggers: %s", e.getMessage());
+            }
+        }
+    }
 
-        for (ScheduledTask task : scheduledTasks) {
-            LOGGER.tracef("Evaluate trigger %s", task.trigger);
-            ZonedDateTime scheduledFireTime = task.trigger.evaluate(now);
-            if (scheduledFireTime != null) {
-                try {
-                    executor.execute(new Runnable() {
-                        @Override
-                        public void run() {
-                            try {
-                                task.invoker.invoke(new SimpleScheduledExecution(now, scheduledFireTime, task.trigger));
-                            } catch (Throwable t) {
-                                LOGGER.errorf(t, "Error occured while executing task for trigger %s", task.trigger);
-                            }
-                        }
-                    });
-                    LOGGER.debugf("Executing scheduled task for trigger %s", task.trigger);
-                } catch (RejectedExecutionException e) {
-                    LOGGER.warnf("Rejected execution of a scheduled task for trigger %s", task.trigger);
+    private static JdbcSchedulerLease createLease(SchedulerRuntimeConfig schedulerRuntimeConfig) {
+        try {
+            Class.forName("io.agroal.api.AgroalDataSource", false, Thread.currentThread().getContextClassLoader());
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException(
+                    "The scheduler cluster mode requires a datasource, add the quarkus-agroal extension and a JDBC driver");
+        }
+        return new JdbcSchedulerLease(schedulerRuntimeConfig.cluster);
+    }
+
+    private void execute(ScheduledTask task, ZonedDateTime now, ZonedDateTime scheduledFireTime) {
+        if (!task.acquire(scheduledFireTime)) {
+            return;
+        }
+        try {
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    ZonedDateTime fireTime = now;
+                    ZonedDateTime executionScheduledFireTime = scheduledFireTime;
+                    do {
+                        invoke(task, fireTime, executionScheduledFireTime);
+                        // A queued execution starts right after the previous one
+                        fireTime = ZonedDateTime.now();
+                        executionScheduledFireTime = task.queuedFireTime;
+                    } while (task.release());
                 }
+            });
+            LOGGER.debugf("Executing scheduled task for trigger %s", task.trigger);
+        } catch (RejectedExecutionException e) {
+            task.reset();
+            LOGGER.warnf("Rejected execution of a scheduled task for trigger %s", task.trigger);
+        }
+    }
+
+    private void invoke(ScheduledTask task, ZonedDateTime fireTime, ZonedDateTime scheduledFireTime) {
+        long start = 0L;
+        if (task.metrics != null) {
+            task.metrics.started(ChronoUnit.NANOS.between(scheduledFireTime, ZonedDateTime.now()));
+            start = System.nanoTime();
+        }
+        try {
+            task.invoker.invoke(new SimpleScheduledExecution(fireTime, scheduledFireTime, task.trigger));
+        } catch (Throwable t) {
+            LOGGER.errorf(t, "Error occured while executing task for trigger %s", task.trigger);
+        } finally {
+            if (task.metrics != null) {
+                task.metrics.completed(System.nanoTime() - start);
             }
         }
     }
@@ -164,11 +255,22 @@ public class SimpleScheduler implements Scheduler {
         return enabled && running;
     }
 
+    /**
+     * The id of a trigger is either the identity of the {@link Scheduled} annotation or a value derived from the invoker class.
+     * It is also used at build time to register the trigger metrics.
+     *
+     * @param invokerClass the name of the invoker class
+     * @param identity the value of {@link Scheduled#identity()}
+     * @param nameSequence the one-based index of the annotation on the scheduled method
+     * @return the trigger id
+     */
+    public static String triggerId(String invokerClass, String identity, int nameSequence) {
+        String id = identity.trim();
+        return id.isEmpty() ? nameSequence + "_" + invokerClass : id;
+    }
+
     SimpleTrigger createTrigger(String invokerClass, CronParser parser, Scheduled scheduled, int nameSequence, Config config) {
-        String id = scheduled.identity().trim();
-        if (id.isEmpty()) {
-            id = nameSequence + "_" + invokerClass;
-        }
+        String id = triggerId(invokerClass, scheduled.identity(), nameSequence);
         ZonedDateTime start = ZonedDateTime.now().truncatedTo(ChronoUnit.SECONDS);
         Long millisToAdd = null;
         if (scheduled.delay() > 0) {
@@ -221,10 +323,79 @@ public class SimpleScheduler implements Scheduler {
 
         final SimpleTrigger trigger;
         final ScheduledInvoker invoker;
-
-        public ScheduledTask(SimpleTrigger trigger, ScheduledInvoker invoker) {
+        final ConcurrentExecution concurrentExecution;
+        // May be null if metrics are disabled
+        final TriggerMetrics metrics;
+        // The number of running and queued executions, not used for ConcurrentExecution.PROCEED
+        final AtomicInteger executions;
+        volatile ZonedDateTime queuedFireTime;
+
+        public ScheduledTask(SimpleTrigger trigger, ScheduledInvoker invoker, ConcurrentExecution concurrentExecution,
+                TriggerMetrics metrics) {
             this.trigger = trigger;
             this.invoker = invoker;
+            this.concurrentExecution = concurrentExecution;
+            this.metrics = metrics;
+            this.executions = new AtomicInteger();
+        }
+
+        /**
+         * Called by the scheduler thread when the trigger fires.
+         * 
+         * @param scheduledFireTime
+         * @return {@code true} if a new execution should be started, {@code false} if the execution is skipped or queued
+         */
+        boolean acquire(ZonedDateTime scheduledFireTime) {
+            switch (concurrentExecution) {
+                case SKIP:
+                    if (executions.compareAndSet(0, 1)) {
+                        return true;
+                    }
+                    skipped();
+                    return false;
+                case QUEUE_ONE:
+                    while (true) {
+                        int current = executions.get();
+                        if (current == 0) {
+                            if (executions.compareAndSet(0, 1)) {
+                                return true;
+                            }
+                        } else if (current == 1) {
+                            // Only the scheduler thread queues executions so the fire time is visible once the count is set
+                            queuedFireTime = scheduledFireTime;
+                            if (executions.compareAndSet(1, 2)) {
+                                LOGGER.debugf("Queue execution of trigger %s - the previous execution is still running",
+                                        trigger);
+                                return false;
+                            }
+                        } else {
+                            skipped();
+                            return false;
+                        }
+                    }
+                default:
+                    return true;
+            }
+        }
+
+        /**
+         * Called by the executor thread when an execution completes.
+         * 
+         * @return {@code true} if a queued execution should be started, {@code false} otherwise
+         */
+        boolean release() {
+            return concurrentExecution != ConcurrentExecution.PROCEED && executions.decrementAndGet() > 0;
+        }
+
+        void reset() {
+            executions.set(0);
+        }
+
+        private void skipped() {
+            LOGGER.debugf("Skip execution of trigger %s - the previous execution is still running", trigger);
+            if (metrics != null) {
+                metrics.skipped();
+            }
         }
 
     }
@@ -233,6 +404,8 @@ public class SimpleScheduler implements Scheduler {
 
         private final String id;
         protected final ZonedDateTime start;
+        protected volatile ZonedDateTime nextFireTime;
+        protected volatile ZonedDateTime lastFireTime;
 
         public SimpleTrigger(String id, ZonedDateTime start) {
             this.id = id;
@@ -240,54 +413,69 @@ public class SimpleScheduler implements Scheduler {
         }
 
         /**
+         * Called by the scheduler thread once the trigger fired. The next fire time is never in the past, i.e. the fire times
+         * missed while the scheduler was busy or paused are skipped.
          * 
+         * @param scheduledFireTime
          * @param now
-         * @return the scheduled time if fired, {@code null} otherwise
+         * @return {@code true} if the trigger will fire again, {@code false} otherwise
          */
-        abstract ZonedDateTime evaluate(ZonedDateTime now);
+        boolean fired(ZonedDateTime scheduledFireTime, ZonedDateTime now) {
+            lastFireTime = scheduledFireTime;
+            nextFireTime = computeNextFireTime(scheduledFireTime, now);
+            return nextFireTime != null;
+        }
+
+        /**
+         * 
+         * @param lastFireTime
+         * @param now
+         * @return the next fire time after the given last fire time, or {@code null} if the trigger will not fire again
+         */
+        abstract ZonedDateTime computeNextFireTime(ZonedDateTime lastFireTime, ZonedDateTime now);
 
         public String getId() {
             return id;
         }
 
+        @Override
+        public Instant getNextFireTime() {
+            ZonedDateTime next = nextFireTime;
+            return next != null ? next.toInstant() : null;
+        }
+
+        @Override
+        public Instant getPreviousFireTime() {
+            ZonedDateTime last = lastFireTime;
+            return last != null ? last.toInstant() : null;
+        }
+
     }
 
     static class IntervalTrigger extends SimpleTrigger {
 
+        // milliseconds
         private final long interval;
-        private volatile ZonedDateTime lastFireTime;
 
         public IntervalTrigger(String id, ZonedDateTime start, long interval) {
             super(id, start);
+            if (interval <= 0) {
+                throw new IllegalArgumentException("The interval of trigger " + id + " must be greater than zero");
+            }
             this.interval = interval;
+            // First execution
+            this.nextFireTime = start;
         }
 
         @Override
-        ZonedDateTime evaluate(ZonedDateTime now) {
-            if (now.isBefore(start)) {
-                return null;
-            }
-            if (lastFireTime == null) {
-                // First execution
-                lastFireTime = now.truncatedTo(ChronoUnit.SECONDS);
-                return now;
-            }
-            if (ChronoUnit.MILLIS.between(lastFireTime, now) >= interval) {
-                ZonedDateTime scheduledFireTime = lastFireTime.plus(Duration.ofMillis(interval));
-                lastFireTime = now.truncatedTo(ChronoUnit.SECONDS);
-                return scheduledFireTime;
+        ZonedDateTime computeNextFireTime(ZonedDateTime lastFireTime, ZonedDateTime now) {
+            ZonedDateTime next = lastFireTime.plus(interval, ChronoUnit.MILLIS);
+            if (next.isBefore(now)) {
+                // Skip the missed executions but keep the original phase
+                long missed = ChronoUnit.MILLIS.between(next, now) / interval + 1;
+                next = next.plus(missed * interval, ChronoUnit.MILLIS);
             }
-            return null;
-        }
-
-        @Override
-        public Instant getNextFireTime() {
-            return lastFireTime.plus(Duration.ofMillis(interval)).toInstant();
-        }
-
-        @Override
-        public Instant getPreviousFireTime() {
-            return lastFireTime.toInstant();
+            return next;
         }
 
         @Override
@@ -301,9 +489,6 @@ public class SimpleScheduler implements Scheduler {
 
     static class CronTrigger extends SimpleTrigger {
 
-        // microseconds
-        private static final long DIFF_THRESHOLD = CHECK_PERIOD * 1000;
-
         private final Cron cron;
         private final ExecutionTime executionTime;
 
@@ -311,38 +496,15 @@ public class SimpleScheduler implements Scheduler {
             super(id, start);
             this.cron = cron;
             this.executionTime = ExecutionTime.forCron(cron);
+            // An execution time matching the start second should not be missed
+            this.nextFireTime = executionTime.nextExecution(start.minusNanos(1)).orElse(null);
         }
 
         @Override
-        public Instant getNextFireTime() {
-            Optional<ZonedDateTime> nextFireTime = executionTime.nextExecution(ZonedDateTime.now());
-            return nextFireTime.isPresent() ? nextFireTime.get().toInstant() : null;
-        }
-
-        @Override
-        public Instant getPreviousFireTime() {
-            Optional<ZonedDateTime> prevFireTime = executionTime.lastExecution(ZonedDateTime.now());
-            return prevFireTime.isPresent() ? prevFireTime.get().toInstant() : null;
-        }
-
-        ZonedDateTime evaluate(ZonedDateTime now) {
-            if (now.isBefore(start)) {
-                return null;
-            }
-            Optional<ZonedDateTime> lastFireTime = executionTime.lastExecution(now);
-            if (lastFireTime.isPresent()) {
-                ZonedDateTime trunc = lastFireTime.get().truncatedTo(ChronoUnit.SECONDS);
-                if (now.isBefore(trunc)) {
-                    return null;
-                }
-                // Use microseconds precision to workaround incompatibility between jdk8 and jdk9+
-                long diff = ChronoUnit.MICROS.between(trunc, now);
-                if (diff <= DIFF_THRESHOLD) {
-                    LOGGER.debugf("%s fired, diff=%s μs", this, diff);
-                    return trunc;
-                }
-            }
-            return null;
+        ZonedDateTime computeNextFireTime(ZonedDateTime lastFireTime, ZonedDateTime now) {
+            // Skip the missed executions
+            Optional<ZonedDateTime> next = executionTime.nextExecution(now.isAfter(lastFireTime) ? now : lastFireTime);
+            return next.orElse(null);
         }
 
         @Override
@@ -0,0 +1,44 @@
+package io.quarkus.scheduler.runtime;
+
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.microprofile.metrics.Counter;
+import org.eclipse.microprofile.metrics.MetricRegistry;
+import org.eclipse.microprofile.metrics.Tag;
+import org.eclipse.microprofile.metrics.Timer;
+
+import io.smallrye.metrics.MetricRegistries;
+
+/**
+ * Vendor metrics of a trigger of the simple scheduler, tagged with the trigger id. The metrics are registered at build time,
+ * this class only retrieves them from the registry.
+ * <p>
+ * This class is only loaded if the SmallRye Metrics extension is present.
+ */
+class TriggerMetrics {
+
+    private final Timer executionTime;
+    private final Timer lag;
+    private final Counter skipped;
+
+    TriggerMetrics(String triggerId) {
+        MetricRegistry registry = MetricRegistries.get(MetricRegistry.Type.VENDOR);
+        Tag tag = new Tag(SchedulerMetrics.TRIGGER_TAG, triggerId);
+        this.executionTime = registry.timer(SchedulerMetrics.EXECUTION_TIME, tag);
+        this.lag = registry.timer(SchedulerMetrics.LAG, tag);
+        this.skipped = registry.counter(SchedulerMetrics.SKIPPED, tag);
+    }
+
+    void started(long lagNanos) {
+        lag.update(Math.max(0L, lagNanos), TimeUnit.NANOSECONDS);
+    }
+
+    void completed(long executionNanos) {
+        executionTime.update(executionNanos, TimeUnit.NANOSECONDS);
+    }
+
+    void skipped() {
+        skipped.inc();
+    }
+
+}
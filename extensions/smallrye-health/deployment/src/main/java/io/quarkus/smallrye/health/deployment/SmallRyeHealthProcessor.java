@@ -13,13 +13,16 @@ import java.util.stream.Collectors;
 
 import org.eclipse.microprofile.config.ConfigProvider;
 import org.eclipse.microprofile.health.Health;
+import org.eclipse.microprofile.health.HealthCheck;
 import org.eclipse.microprofile.health.Liveness;
 import org.eclipse.microprofile.health.Readiness;
 import org.eclipse.microprofile.health.spi.HealthCheckResponseProvider;
 import org.jboss.jandex.AnnotationInstance;
 import org.jboss.jandex.AnnotationTarget.Kind;
+import org.jboss.jandex.ClassInfo;
 import org.jboss.jandex.DotName;
 import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
 
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.arc.deployment.AnnotationsTransformerBuildItem;
@@ -44,7 +47,10 @@ import io.quarkus.kubernetes.spi.KubernetesHealthReadinessPathBuildItem;
 import io.quarkus.runtime.annotations.ConfigItem;
 import io.quarkus.runtime.annotations.ConfigRoot;
 import io.quarkus.smallrye.health.deployment.spi.HealthBuildItem;
+import io.quarkus.smallrye.health.runtime.HealthCheckTimeout;
+import io.quarkus.smallrye.health.runtime.HealthCheckTimeoutInterceptor;
 import io.quarkus.smallrye.health.runtime.ShutdownReadinessListener;
+import io.quarkus.smallrye.health.runtime.SmallRyeHealthCache;
 import io.quarkus.smallrye.health.runtime.SmallRyeHealthGroupHandler;
 import io.quarkus.smallrye.health.runtime.SmallRyeHealthHandler;
 import io.quarkus.smallrye.health.runtime.SmallRyeHealthRecorder;
@@ -71,6 +77,10 @@ class SmallRyeHealthProcessor {
 
     private static final DotName HEALTH_GROUPS = DotName.createSimple(HealthGroups.class.getName());
 
+    private static final DotName HEALTH_CHECK = DotName.createSimple(HealthCheck.class.getName());
+
+    private static final DotName HEALTH_CHECK_TIMEOUT = DotName.createSimple(HealthCheckTimeout.class.getName());
+
     /**
      * The configuration for health checking.
      */
@@ -154,6 +164,10 @@ class SmallRyeHealthProcessor {
         // Make ArC discover @HealthGroup as a qualifier
         additionalBean.produce(new AdditionalBeanBuildItem(HealthGroup.class));
 
+        // The cache of the health endpoints and the timeout of the health checks
+        additionalBean.produce(AdditionalBeanBuildItem.unremovableOf(SmallRyeHealthCache.class));
+        additionalBean.produce(new AdditionalBeanBuildItem(HealthCheckTimeout.class, HealthCheckTimeoutInterceptor.class));
+
         // Discover and register the HealthCheckResponseProvider
         Set<String> providers = ServiceUtil.classNamesNamedIn(getClass().getClassLoader(),
                 "META-INF/services/" + HealthCheckResponseProvider.class.getName());
@@ -228,6 +242,31 @@ class SmallRyeHealthProcessor {
         }
     }
 
+    @BuildStep
+    AnnotationsTransformerBuildItem healthCheckTimeout(BeanArchiveIndexBuildItem beanArchiveIndex) {
+        // Bind the timeout interceptor to the call() method of the health checks
+        Set<DotName> healthChecks = beanArchiveIndex.getIndex().getAllKnownImplementors(HEALTH_CHECK).stream()
+                .map(ClassInfo::name).collect(Collectors.toSet());
+
+        return new AnnotationsTransformerBuildItem(new AnnotationsTransformer() {
+
+            @Override
+            public boolean appliesTo(Kind kind) {
+                return kind == Kind.METHOD;
+            }
+
+            @Override
+            public void transform(TransformationContext ctx) {
+                MethodInfo method = ctx.getTarget().asMethod();
+                if (method.name().equals("call") && method.parameters().isEmpty()
+                        && healthChecks.contains(method.declaringClass().name())) {
+                    ctx.transform().add(HEALTH_CHECK_TIMEOUT).done();
+                }
+            }
+
+        });
+    }
+
     @BuildStep
     ShutdownListenerBuildItem shutdownListener() {
         return new ShutdownListenerBuildItem(new ShutdownReadinessListener());
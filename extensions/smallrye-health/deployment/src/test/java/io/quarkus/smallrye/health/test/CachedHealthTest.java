@@ -0,0 +1,67 @@
+package io.quarkus.smallrye.health.test;
+
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.Readiness;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class CachedHealthTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(CountingHealthCheck.class)
+                    .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml"))
+            .overrideConfigKey("quarkus.health.cache-interval", "3s");
+
+    @Test
+    public void testCachedResult() throws InterruptedException {
+        RestAssured.when().get("/health/ready").then()
+                .statusCode(200)
+                .body("checks[0].data.count", is(1));
+        // served from the cache
+        RestAssured.when().get("/health/ready").then()
+                .statusCode(200)
+                .body("checks[0].data.count", is(1));
+        assertEquals(1, CountingHealthCheck.COUNT.get());
+
+        // the stale result is served while the checks are evaluated in the background
+        Thread.sleep(3100);
+        RestAssured.when().get("/health/ready").then()
+                .statusCode(200)
+                .body("checks[0].data.count", is(1));
+        // the refreshed result is served once the background evaluation completes
+        await().atMost(5, TimeUnit.SECONDS).untilAsserted(() -> RestAssured.when().get("/health/ready").then()
+                .statusCode(200)
+                .body("checks[0].data.count", is(2)));
+        assertEquals(2, CountingHealthCheck.COUNT.get());
+    }
+
+    @ApplicationScoped
+    @Readiness
+    static class CountingHealthCheck implements HealthCheck {
+
+        static final AtomicInteger COUNT = new AtomicInteger();
+
+        @Override
+        public HealthCheckResponse call() {
+            return HealthCheckResponse.named("counting").up().withData("count", COUNT.incrementAndGet()).build();
+        }
+    }
+}
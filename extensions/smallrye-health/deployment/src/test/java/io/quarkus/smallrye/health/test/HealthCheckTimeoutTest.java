@@ -0,0 +1,57 @@
+package io.quarkus.smallrye.health.test;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.enterprise.context.ApplicationScoped;
+
+import org.eclipse.microprofile.health.HealthCheck;
+import org.eclipse.microprofile.health.HealthCheckResponse;
+import org.eclipse.microprofile.health.Liveness;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.EmptyAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class HealthCheckTimeoutTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(SlowHealthCheck.class, BasicHealthCheck.class)
+                    .addAsManifestResource(EmptyAsset.INSTANCE, "beans.xml"))
+            .overrideConfigKey("quarkus.health.check-timeout", "0.2s");
+
+    @Test
+    public void testSlowCheckIsDown() {
+        RestAssured.when().get("/health/live").then()
+                .time(lessThan(3000L), TimeUnit.MILLISECONDS)
+                .statusCode(503)
+                .body("checks.find { it.name == 'basic' }.status", is("UP"),
+                        "checks.find { it.name == '" + SlowHealthCheck.class.getName() + "' }.status", is("DOWN"),
+                        "checks.find { it.name == '" + SlowHealthCheck.class.getName() + "' }.data.error",
+                        containsString("200 ms"));
+    }
+
+    @ApplicationScoped
+    @Liveness
+    static class SlowHealthCheck implements HealthCheck {
+
+        @Override
+        public HealthCheckResponse call() {
+            try {
+                Thread.sleep(5000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return HealthCheckResponse.named("slow").up().build();
+        }
+    }
+}
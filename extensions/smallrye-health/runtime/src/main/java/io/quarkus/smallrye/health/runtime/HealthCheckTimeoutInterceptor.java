@@ -0,0 +1,76 @@
+package io.quarkus.smallrye.health.runtime;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import javax.annotation.Priority;
+import javax.inject.Inject;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InvocationContext;
+
+import org.eclipse.microprofile.health.HealthCheckResponse;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.runtime.ExecutorRecorder;
+
+/**
+ * Reports a health check as {@code DOWN} if it does not complete within {@code quarkus.health.check-timeout}.
+ * <p>
+ * The health check runs on the Quarkus executor, in its own request context. A health check that times out is not
+ * interrupted, its result is ignored. It may still be running after the caller ended its request context, so it must not
+ * share the state of the caller's request context.
+ */
+@HealthCheckTimeout
+@Interceptor
+@Priority(Interceptor.Priority.PLATFORM_BEFORE)
+public class HealthCheckTimeoutInterceptor {
+
+    @Inject
+    SmallRyeHealthRuntimeConfig config;
+
+    @AroundInvoke
+    Object timeout(InvocationContext ctx) throws Exception {
+        Executor executor = ExecutorRecorder.getCurrent();
+        if (!config.checkTimeout.isPresent() || executor == null) {
+            return ctx.proceed();
+        }
+        long timeout = config.checkTimeout.get().toMillis();
+        ManagedContext requestContext = Arc.container().requestContext();
+        CompletableFuture<Object> result = new CompletableFuture<>();
+        executor.execute(new Runnable() {
+            @Override
+            public void run() {
+                requestContext.activate();
+                try {
+                    result.complete(ctx.proceed());
+                } catch (Throwable t) {
+                    result.completeExceptionally(t);
+                } finally {
+                    requestContext.terminate();
+                }
+            }
+        });
+        try {
+            return result.get(timeout, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            return HealthCheckResponse.named(ctx.getMethod().getDeclaringClass().getName())
+                    .down()
+                    .withData("error", "The health check did not complete within " + timeout + " ms")
+                    .build();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+}
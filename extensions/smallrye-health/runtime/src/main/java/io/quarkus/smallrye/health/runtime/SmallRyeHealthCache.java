@@ -0,0 +1,90 @@
+package io.quarkus.smallrye.health.runtime;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import javax.inject.Singleton;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.runtime.ExecutorRecorder;
+
+/**
+ * The results of the health endpoints, if {@code quarkus.health.cache-interval} is set.
+ */
+@Singleton
+public class SmallRyeHealthCache {
+
+    private static final Logger LOG = Logger.getLogger(SmallRyeHealthCache.class);
+
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the cached result of an endpoint, and starts a background evaluation if the result is older than the
+     * interval. The first request of an endpoint waits for the evaluation.
+     */
+    HealthResult get(String endpoint, long intervalNanos, Supplier<HealthResult> evaluation) {
+        Entry entry = entries.computeIfAbsent(endpoint, k -> new Entry());
+        HealthResult result = entry.result;
+        if (result == null) {
+            synchronized (entry) {
+                result = entry.result;
+                if (result == null) {
+                    result = evaluation.get();
+                    entry.result = result;
+                }
+            }
+        } else if (System.nanoTime() - result.evaluatedAt >= intervalNanos && entry.refreshing.compareAndSet(false, true)) {
+            refresh(endpoint, entry, evaluation);
+        }
+        return result;
+    }
+
+    private static void refresh(String endpoint, Entry entry, Supplier<HealthResult> evaluation) {
+        Runnable task = new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    entry.result = evaluation.get();
+                } catch (Throwable t) {
+                    LOG.errorf(t, "Unable to evaluate the health checks of %s", endpoint);
+                } finally {
+                    entry.refreshing.set(false);
+                }
+            }
+        };
+        Executor executor = ExecutorRecorder.getCurrent();
+        try {
+            if (executor != null) {
+                executor.execute(task);
+            } else {
+                task.run();
+            }
+        } catch (RejectedExecutionException e) {
+            entry.refreshing.set(false);
+        }
+    }
+
+    private static final class Entry {
+
+        volatile HealthResult result;
+        final AtomicBoolean refreshing = new AtomicBoolean();
+    }
+
+    static final class HealthResult {
+
+        final boolean down;
+        final byte[] body;
+        final long evaluatedAt;
+
+        HealthResult(boolean down, byte[] body) {
+            this.down = down;
+            this.body = body;
+            this.evaluatedAt = System.nanoTime();
+        }
+    }
+}
@@ -2,12 +2,11 @@ package io.quarkus.smallrye.health.runtime;
 
 import io.smallrye.health.SmallRyeHealth;
 import io.smallrye.health.SmallRyeHealthReporter;
-import io.vertx.ext.web.RoutingContext;
 
 public class SmallRyeHealthHandler extends SmallRyeHealthHandlerBase {
 
     @Override
-    protected SmallRyeHealth getHealth(SmallRyeHealthReporter reporter, RoutingContext ctx) {
+    protected SmallRyeHealth getHealth(SmallRyeHealthReporter reporter, String path) {
         return reporter.getHealth();
     }
 }
@@ -3,9 +3,12 @@ package io.quarkus.smallrye.health.runtime;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.util.function.Supplier;
 
 import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
 import io.quarkus.arc.ManagedContext;
+import io.quarkus.smallrye.health.runtime.SmallRyeHealthCache.HealthResult;
 import io.smallrye.health.SmallRyeHealth;
 import io.smallrye.health.SmallRyeHealthReporter;
 import io.vertx.core.Handler;
@@ -16,34 +19,61 @@ import io.vertx.ext.web.RoutingContext;
 
 abstract class SmallRyeHealthHandlerBase implements Handler<RoutingContext> {
 
-    protected abstract SmallRyeHealth getHealth(SmallRyeHealthReporter reporter, RoutingContext routingContext);
+    /**
+     * May be called after the request that triggered the evaluation ended, when a cached result is refreshed.
+     * 
+     * @param reporter
+     * @param path The normalised path of the endpoint
+     * @return the health
+     */
+    protected abstract SmallRyeHealth getHealth(SmallRyeHealthReporter reporter, String path);
 
     @Override
     public void handle(RoutingContext ctx) {
+        ArcContainer container = Arc.container();
+        SmallRyeHealthRuntimeConfig config = container.instance(SmallRyeHealthRuntimeConfig.class).get();
+        // The routing context must not be used by a background evaluation
+        String path = ctx.normalisedPath();
+        HealthResult result;
+        if (config.cacheInterval.isPresent()) {
+            result = container.instance(SmallRyeHealthCache.class).get().get(path,
+                    config.cacheInterval.get().toNanos(), new Supplier<HealthResult>() {
+                        @Override
+                        public HealthResult get() {
+                            return evaluate(path);
+                        }
+                    });
+        } else {
+            result = evaluate(path);
+        }
+        HttpServerResponse resp = ctx.response();
+        if (result.down) {
+            resp.setStatusCode(503);
+        }
+        resp.headers().set(HttpHeaders.CONTENT_TYPE, "application/json; charset=UTF-8");
+        resp.end(Buffer.buffer(result.body));
+    }
+
+    private HealthResult evaluate(String path) {
         ManagedContext requestContext = Arc.container().requestContext();
         if (requestContext.isActive()) {
-            doHandle(ctx);
+            return doEvaluate(path);
         } else {
             requestContext.activate();
             try {
-                doHandle(ctx);
+                return doEvaluate(path);
             } finally {
                 requestContext.terminate();
             }
         }
     }
 
-    private void doHandle(RoutingContext ctx) {
+    private HealthResult doEvaluate(String path) {
         SmallRyeHealthReporter reporter = Arc.container().instance(SmallRyeHealthReporter.class).get();
-        SmallRyeHealth health = getHealth(reporter, ctx);
-        HttpServerResponse resp = ctx.response();
-        if (health.isDown()) {
-            resp.setStatusCode(503);
-        }
-        resp.headers().set(HttpHeaders.CONTENT_TYPE, "application/json; charset=UTF-8");
+        SmallRyeHealth health = getHealth(reporter, path);
         try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
             reporter.reportHealth(outputStream, health);
-            resp.end(Buffer.buffer(outputStream.toByteArray()));
+            return new HealthResult(health.isDown(), outputStream.toByteArray());
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
@@ -0,0 +1,29 @@
+package io.quarkus.smallrye.health.runtime;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+@ConfigRoot(name = "health", phase = ConfigPhase.RUN_TIME)
+public class SmallRyeHealthRuntimeConfig {
+
+    /**
+     * The interval at which the health checks are evaluated again.
+     * <p>
+     * If set, the result of every health endpoint is cached and served immediately. Once the result is older than the
+     * interval, the health checks are evaluated in the background, and the previous result is served until the new one is
+     * available. By default, the health checks are evaluated on every request.
+     */
+    @ConfigItem
+    public Optional<Duration> cacheInterval;
+
+    /**
+     * The maximum duration of a single health check. A health check that does not complete in time is reported as
+     * {@code DOWN}, so that a slow dependency does not stall the health endpoints. By default, there is no timeout.
+     */
+    @ConfigItem
+    public Optional<Duration> checkTimeout;
+}
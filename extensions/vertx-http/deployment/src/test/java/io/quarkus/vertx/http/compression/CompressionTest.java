@@ -0,0 +1,80 @@
+package io.quarkus.vertx.http.compression;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.util.Collections;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.restassured.config.DecoderConfig;
+import io.vertx.ext.web.Router;
+
+public class CompressionTest {
+
+    private static final String LARGE_JSON = "[" + String.join(",", Collections.nCopies(200, "\"item\"")) + "]";
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addClasses(Routes.class)
+                    .addAsResource(new StringAsset("quarkus.http.compression.enabled=true\n"
+                            + "quarkus.http.compression.min-size=512\n"), "application.properties"));
+
+    @Test
+    public void testCompressibleResponse() {
+        RestAssured.given().header("Accept-Encoding", "gzip").get("/large-json")
+                .then().statusCode(200)
+                .header("Content-Encoding", is("gzip"))
+                .body(is(LARGE_JSON));
+    }
+
+    @Test
+    public void testSmallResponse() {
+        RestAssured.given().header("Accept-Encoding", "gzip").get("/small-json")
+                .then().statusCode(200)
+                .header("Content-Encoding", is("identity"))
+                .body(is("[]"));
+    }
+
+    @Test
+    public void testNonCompressibleMediaType() {
+        RestAssured.given().header("Accept-Encoding", "gzip").get("/large-binary")
+                .then().statusCode(200)
+                .header("Content-Encoding", is("identity"));
+    }
+
+    @Test
+    public void testClientNotAcceptingCompression() {
+        RestAssured.given()
+                // otherwise RestAssured sends its own Accept-Encoding header
+                .config(RestAssured.config().decoderConfig(DecoderConfig.decoderConfig().noContentDecoders()))
+                .header("Accept-Encoding", "identity").get("/large-json")
+                .then().statusCode(200)
+                .header("Content-Encoding", nullValue())
+                .body(is(LARGE_JSON));
+    }
+
+    @ApplicationScoped
+    static class Routes {
+
+        public void register(@Observes Router router) {
+            router.route("/large-json")
+                    .handler(rc -> rc.response().putHeader("Content-Type", "application/json").end(LARGE_JSON));
+            router.route("/small-json")
+                    .handler(rc -> rc.response().putHeader("Content-Type", "application/json").end("[]"));
+            router.route("/large-binary")
+                    .handler(rc -> rc.response().putHeader("Content-Type", "application/octet-stream").end(LARGE_JSON));
+        }
+
+    }
+}
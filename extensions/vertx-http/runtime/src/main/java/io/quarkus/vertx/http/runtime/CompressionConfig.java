@@ -0,0 +1,49 @@
+package io.quarkus.vertx.http.runtime;
+
+import java.util.List;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.configuration.MemorySize;
+
+/**
+ * Response compression related settings
+ */
+@ConfigGroup
+public class CompressionConfig {
+
+    /**
+     * If enabled, the responses are compressed with gzip or deflate, depending on the {@code Accept-Encoding} header of the
+     * request.
+     */
+    @ConfigItem
+    public boolean enabled;
+
+    /**
+     * The compression level, between 1 (fastest) and 9 (best compression).
+     */
+    @ConfigItem(defaultValue = "6")
+    public int level;
+
+    /**
+     * The responses smaller than this size are not compressed. The size of a chunked response is not known in advance so
+     * it is always compressed.
+     */
+    @ConfigItem(defaultValue = "1K")
+    public MemorySize minSize;
+
+    /**
+     * Only the responses with one of these media types are compressed.
+     */
+    @ConfigItem(defaultValue = "text/html,text/plain,text/css,text/xml,text/javascript,application/javascript,"
+            + "application/json,application/xml,image/svg+xml")
+    public List<String> mediaTypes;
+
+    /**
+     * If enabled, the compressible static resources are compressed at build time, and the compressed variants are served
+     * to the clients accepting gzip.
+     */
+    @ConfigItem(defaultValue = "true")
+    public boolean staticResources;
+
+}
@@ -0,0 +1,70 @@
+package io.quarkus.vertx.http.runtime;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Restricts the compression done by the HTTP server to the responses that are worth compressing.
+ * <p>
+ * The server compresses every response by default, so this handler marks the responses that have a media type which is
+ * not compressible, or a known length below the threshold, with the {@code identity} content encoding right before the
+ * headers are written. Responses that already carry a content encoding are left untouched.
+ */
+public class CompressionHandler implements Handler<RoutingContext> {
+
+    private final Set<String> mediaTypes;
+    private final long minSize;
+
+    public CompressionHandler(List<String> mediaTypes, long minSize) {
+        this.mediaTypes = new HashSet<>();
+        for (String mediaType : mediaTypes) {
+            this.mediaTypes.add(mediaType.trim().toLowerCase(Locale.ROOT));
+        }
+        this.minSize = minSize;
+    }
+
+    @Override
+    public void handle(RoutingContext event) {
+        event.addHeadersEndHandler(new Handler<Void>() {
+            @Override
+            public void handle(Void v) {
+                MultiMap headers = event.response().headers();
+                if (!headers.contains(HttpHeaderNames.CONTENT_ENCODING) && !isCompressible(headers)) {
+                    headers.set(HttpHeaderNames.CONTENT_ENCODING, HttpHeaderValues.IDENTITY);
+                }
+            }
+        });
+        event.next();
+    }
+
+    private boolean isCompressible(MultiMap headers) {
+        String contentType = headers.get(HttpHeaderNames.CONTENT_TYPE);
+        if (contentType == null) {
+            return false;
+        }
+        int paramsStart = contentType.indexOf(';');
+        if (paramsStart != -1) {
+            contentType = contentType.substring(0, paramsStart);
+        }
+        if (!mediaTypes.contains(contentType.trim().toLowerCase(Locale.ROOT))) {
+            return false;
+        }
+        String contentLength = headers.get(HttpHeaderNames.CONTENT_LENGTH);
+        if (contentLength != null) {
+            try {
+                return Long.parseLong(contentLength) >= minSize;
+            } catch (NumberFormatException e) {
+                return true;
+            }
+        }
+        return true;
+    }
+}
@@ -27,4 +27,10 @@ public class HttpBuildTimeConfig {
      */
     @ConfigItem(defaultValue = "/quarkus")
     public String consolePath;
+
+    /**
+     * Response compression configuration.
+     */
+    @ConfigItem
+    public CompressionConfig compression;
 }
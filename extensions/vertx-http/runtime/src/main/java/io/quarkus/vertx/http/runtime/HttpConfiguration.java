@@ -135,6 +135,11 @@ public class HttpConfiguration {
      */
     public BodyConfig body;
 
+    /**
+     * Static resources related settings
+     */
+    public StaticResourcesConfig staticResources;
+
     /**
      * The encryption key that is used to store persistent logins (e.g. for form auth). Logins are stored in a persistent
      * cookie that is encrypted with AES-256 using a key derived from a SHA-256 hash of the key that is provided here.
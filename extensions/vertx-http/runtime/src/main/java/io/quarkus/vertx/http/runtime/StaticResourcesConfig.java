@@ -0,0 +1,26 @@
+package io.quarkus.vertx.http.runtime;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.configuration.MemorySize;
+
+/**
+ * Static resources related settings
+ */
+@ConfigGroup
+public class StaticResourcesConfig {
+
+    /**
+     * The static resources from {@code META-INF/resources} that are not larger than this size are kept in memory, and
+     * served without reading the class path resource again. Set to {@code 0} to disable the in-memory cache.
+     */
+    @ConfigItem(defaultValue = "64K")
+    public MemorySize cacheMaxFileSize;
+
+    /**
+     * The maximum total size of the static resources kept in memory.
+     */
+    @ConfigItem(defaultValue = "10M")
+    public MemorySize cacheMaxSize;
+
+}
@@ -160,7 +160,7 @@ public class VertxHttpRecorder {
             rootHandler = router;
 
             //we can't really do
-            doServerStart(vertx, config, LaunchMode.DEVELOPMENT, new Supplier<Integer>() {
+            doServerStart(vertx, config, null, LaunchMode.DEVELOPMENT, new Supplier<Integer>() {
                 @Override
                 public Integer get() {
                     return ProcessorInfo.availableProcessors() * 2; //this is dev mode, so the number of IO threads not always being 100% correct does not really matter in this case
@@ -185,7 +185,7 @@ public class VertxHttpRecorder {
     }
 
     public void startServer(Supplier<Vertx> vertx, ShutdownContext shutdown,
-            HttpConfiguration httpConfiguration, LaunchMode launchMode,
+            HttpConfiguration httpConfiguration, HttpBuildTimeConfig httpBuildTimeConfig, LaunchMode launchMode,
             boolean startVirtual, boolean startSocket, Supplier<Integer> ioThreads, String websocketSubProtocols)
             throws IOException {
 
@@ -195,7 +195,8 @@ public class VertxHttpRecorder {
         if (startSocket) {
             // Start the server
             if (closeTask == null) {
-                doServerStart(vertx.get(), httpConfiguration, launchMode, ioThreads, websocketSubProtocols);
+                doServerStart(vertx.get(), httpConfiguration, httpBuildTimeConfig.compression, launchMode, ioThreads,
+                        websocketSubProtocols);
                 if (launchMode != LaunchMode.DEVELOPMENT) {
                     shutdown.addShutdownTask(closeTask);
                 }
@@ -206,7 +207,7 @@ public class VertxHttpRecorder {
     public void finalizeRouter(BeanContainer container, Consumer<Route> defaultRouteHandler,
             List<Filter> filterList, Supplier<Vertx> vertx,
             RuntimeValue<Router> runtimeValue, String rootPath, LaunchMode launchMode, boolean requireBodyHandler,
-            Handler<RoutingContext> bodyHandler, HttpConfiguration httpConfiguration,
+            Handler<RoutingContext> bodyHandler, HttpConfiguration httpConfiguration, HttpBuildTimeConfig httpBuildTimeConfig,
             GracefulShutdownFilter gracefulShutdownFilter, ShutdownConfig shutdownConfig,
             Executor executor) {
         // install the default route at the end
@@ -280,6 +281,12 @@ public class VertxHttpRecorder {
             });
         }
 
+        CompressionConfig compressionConfig = httpBuildTimeConfig.compression;
+        if (compressionConfig.enabled) {
+            router.route().order(-3).handler(new CompressionHandler(compressionConfig.mediaTypes,
+                    compressionConfig.minSize.asLongValue()));
+        }
+
         Handler<HttpServerRequest> root;
         if (rootPath.equals("/")) {
             if (hotReplacementHandler != null) {
@@ -364,12 +371,13 @@ public class VertxHttpRecorder {
         rootHandler = root;
     }
 
-    private static void doServerStart(Vertx vertx, HttpConfiguration httpConfiguration, LaunchMode launchMode,
-            Supplier<Integer> eventLoops, String websocketSubProtocols) throws IOException {
+    private static void doServerStart(Vertx vertx, HttpConfiguration httpConfiguration, CompressionConfig compressionConfig,
+            LaunchMode launchMode, Supplier<Integer> eventLoops, String websocketSubProtocols) throws IOException {
         // Http server configuration
         HttpServerOptions httpServerOptions = createHttpServerOptions(httpConfiguration, launchMode, websocketSubProtocols);
         HttpServerOptions domainSocketOptions = createDomainSocketOptions(httpConfiguration, websocketSubProtocols);
         HttpServerOptions sslConfig = createSslOptions(httpConfiguration, launchMode);
+        setCompression(compressionConfig, httpServerOptions, sslConfig, domainSocketOptions);
         if (httpConfiguration.insecureRequests != HttpConfiguration.InsecureRequests.ENABLED && sslConfig == null) {
             throw new IllegalStateException("Cannot set quarkus.http.redirect-insecure-requests without enabling SSL.");
         }
@@ -680,6 +688,18 @@ public class VertxHttpRecorder {
         return options;
     }
 
+    private static void setCompression(CompressionConfig compressionConfig, HttpServerOptions... serverOptions) {
+        if (compressionConfig == null || !compressionConfig.enabled) {
+            return;
+        }
+        for (HttpServerOptions options : serverOptions) {
+            if (options != null) {
+                options.setCompressionSupported(true);
+                options.setCompressionLevel(compressionConfig.level);
+            }
+        }
+    }
+
     private static void setIdleTimeout(HttpConfiguration httpConfiguration, HttpServerOptions options) {
         int idleTimeout = (int) httpConfiguration.idleTimeout.toMillis();
         options.setIdleTimeout(idleTimeout);
@@ -0,0 +1,190 @@
+package io.quarkus.vertx.http.runtime;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.PooledByteBufAllocator;
+import io.vertx.core.AsyncResult;
+import io.vertx.core.Context;
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerResponse;
+
+/**
+ * An {@link OutputStream} which writes to a Vert.x HTTP response in chunks.
+ * <p>
+ * The data is accumulated in a pooled buffer of the chunk size. If the whole response fits in a single chunk, it is sent with
+ * a {@code Content-Length} header when the stream is closed. Otherwise the response is chunked and each chunk is written as
+ * soon as it is full, so that a large response is never held in memory as a whole. Closing the stream ends the response.
+ * If the response is not ended, {@link #discard()} must be called to release the buffer.
+ * <p>
+ * Unless called on an IO thread, the writes block while the write queue of the response is full. This relies on the
+ * completion of the writes rather than on the drain and close handlers, so the handlers set on the response are preserved.
+ */
+public class VertxResponseOutputStream extends OutputStream {
+
+    public static final int DEFAULT_CHUNK_SIZE = 8192;
+
+    private final HttpServerResponse response;
+    private final int chunkSize;
+    private final Handler<AsyncResult<Void>> writeHandler = new Handler<AsyncResult<Void>>() {
+        @Override
+        public void handle(AsyncResult<Void> event) {
+            synchronized (VertxResponseOutputStream.this) {
+                pendingWrites--;
+                if (event.failed() && writeFailure == null) {
+                    writeFailure = event.cause();
+                }
+                VertxResponseOutputStream.this.notifyAll();
+            }
+        }
+    };
+    private ByteBuf buffer;
+    private boolean closed;
+    // guarded by this
+    private int pendingWrites;
+    // guarded by this
+    private Throwable writeFailure;
+
+    public VertxResponseOutputStream(HttpServerResponse response) {
+        this(response, DEFAULT_CHUNK_SIZE);
+    }
+
+    public VertxResponseOutputStream(HttpServerResponse response, int chunkSize) {
+        this.response = response;
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ensureOpen();
+        if (buffer == null) {
+            buffer = PooledByteBufAllocator.DEFAULT.directBuffer(chunkSize);
+        }
+        buffer.writeByte(b);
+        if (!buffer.isWritable()) {
+            writeChunk();
+        }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        ensureOpen();
+        while (len > 0) {
+            if (buffer == null) {
+                buffer = PooledByteBufAllocator.DEFAULT.directBuffer(chunkSize);
+            }
+            int toWrite = Math.min(len, buffer.writableBytes());
+            buffer.writeBytes(b, off, toWrite);
+            off += toWrite;
+            len -= toWrite;
+            if (!buffer.isWritable()) {
+                writeChunk();
+            }
+        }
+    }
+
+    /**
+     * Ends the response with the data written so far.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        ByteBuf last = buffer;
+        buffer = null;
+        if (last == null) {
+            response.end();
+            return;
+        }
+        try {
+            // the buffer is released by Netty once it has been written
+            response.end(new VertxBufferImpl(last));
+        } catch (RuntimeException e) {
+            release(last);
+            throw new IOException("Failed to write", e);
+        }
+    }
+
+    /**
+     * Releases the data which has not been written yet, without ending the response.
+     */
+    public void discard() {
+        closed = true;
+        ByteBuf last = buffer;
+        buffer = null;
+        if (last != null) {
+            release(last);
+        }
+    }
+
+    private void writeChunk() throws IOException {
+        if (!response.headWritten() && !response.headers().contains(HttpHeaders.CONTENT_LENGTH)) {
+            response.setChunked(true);
+        }
+        ByteBuf chunk = buffer;
+        buffer = null;
+        try {
+            awaitWriteable();
+        } catch (IOException e) {
+            release(chunk);
+            throw e;
+        }
+        synchronized (this) {
+            pendingWrites++;
+        }
+        try {
+            // the buffer is released by Netty once it has been written
+            response.write(new VertxBufferImpl(chunk), writeHandler);
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                pendingWrites--;
+            }
+            release(chunk);
+            throw new IOException("Failed to write", e);
+        }
+    }
+
+    private void awaitWriteable() throws IOException {
+        if (response.closed()) {
+            throw new IOException("Connection has been closed");
+        }
+        if (Context.isOnEventLoopThread()) {
+            // Blocking is not allowed, the data is queued by Netty
+            return;
+        }
+        synchronized (this) {
+            if (response.writeQueueFull()) {
+                // the pending writes complete once their data has been flushed, or fail once the connection is closed
+                while (pendingWrites > 0 && writeFailure == null) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        throw new InterruptedIOException(e.getMessage());
+                    }
+                }
+            }
+            if (writeFailure != null) {
+                throw new IOException("Failed to write", writeFailure);
+            }
+        }
+    }
+
+    private static void release(ByteBuf buffer) {
+        if (buffer.refCnt() > 0) {
+            buffer.release();
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Stream is closed");
+        }
+    }
+
+}
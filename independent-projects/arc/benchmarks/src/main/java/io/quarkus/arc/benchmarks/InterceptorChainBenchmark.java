@@ -0,0 +1,145 @@
+package io.quarkus.arc.benchmarks;
+
+import io.quarkus.arc.InjectableInterceptor;
+import io.quarkus.arc.impl.InterceptorInvocation;
+import io.quarkus.arc.impl.InvocationContexts;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import javax.enterprise.context.spi.CreationalContext;
+import javax.enterprise.inject.spi.InterceptionType;
+import javax.interceptor.InvocationContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the overhead of an {@code @AroundInvoke} interceptor chain, as invoked by the generated intercepted
+ * subclasses.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InterceptorChainBenchmark {
+
+    @Param({ "1", "3", "5" })
+    int interceptors;
+
+    @Param({ "false", "true" })
+    boolean contextData;
+
+    private Object target;
+    private Method method;
+    private Function<InvocationContext, Object> forward;
+    private List<InterceptorInvocation> chain;
+    private Set<Annotation> bindings;
+    private Object[] args;
+
+    @Setup
+    public void setup() throws NoSuchMethodException {
+        target = new Target();
+        method = Target.class.getDeclaredMethod("ping", String.class);
+        forward = ctx -> ((Target) ctx.getTarget()).ping((String) ctx.getParameters()[0]);
+        chain = new ArrayList<>(interceptors);
+        for (int i = 0; i < interceptors; i++) {
+            chain.add(InterceptorInvocation.aroundInvoke(new ProceedingInterceptor(i, contextData), new Object()));
+        }
+        bindings = Collections.emptySet();
+        args = new Object[] { "foo" };
+    }
+
+    @Benchmark
+    public Object invoke() throws Exception {
+        return InvocationContexts.performAroundInvoke(target, method, forward, args, chain, bindings);
+    }
+
+    public static class Target {
+
+        public String ping(String value) {
+            return value;
+        }
+
+    }
+
+    /**
+     * An interceptor that simply proceeds, optionally reading the context data like a typical interceptor that needs
+     * the interceptor bindings.
+     */
+    static final class ProceedingInterceptor implements InjectableInterceptor<Object> {
+
+        private final int priority;
+        private final boolean contextData;
+
+        ProceedingInterceptor(int priority, boolean contextData) {
+            this.priority = priority;
+            this.contextData = contextData;
+        }
+
+        @Override
+        public Object intercept(InterceptionType type, Object instance, InvocationContext ctx) throws Exception {
+            if (contextData) {
+                ctx.getContextData().put("priority", priority);
+            }
+            return ctx.proceed();
+        }
+
+        @Override
+        public boolean intercepts(InterceptionType type) {
+            return type == InterceptionType.AROUND_INVOKE;
+        }
+
+        @Override
+        public Set<Annotation> getInterceptorBindings() {
+            return Collections.emptySet();
+        }
+
+        @Override
+        public int getPriority() {
+            return priority;
+        }
+
+        @Override
+        public String getIdentifier() {
+            return "interceptor_" + priority;
+        }
+
+        @Override
+        public Set<Type> getTypes() {
+            return Collections.singleton(Object.class);
+        }
+
+        @Override
+        public Class<?> getBeanClass() {
+            return ProceedingInterceptor.class;
+        }
+
+        @Override
+        public Object create(CreationalContext<Object> creationalContext) {
+            return new Object();
+        }
+
+        @Override
+        public Object get(CreationalContext<Object> creationalContext) {
+            return create(creationalContext);
+        }
+
+    }
+
+}
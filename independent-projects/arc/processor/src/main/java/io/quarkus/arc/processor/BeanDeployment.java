@@ -312,6 +312,14 @@ public class BeanDeployment {
 
         buildContext.putInternal(BuildExtension.Key.REMOVED_BEANS.asString(), Collections.unmodifiableSet(removedBeans));
 
+        // The set of beans is closed now so every request scoped bean can get a slot in the request context
+        int requestContextIndex = 0;
+        for (BeanInfo bean : beans) {
+            if (BuiltinScope.REQUEST.is(bean.getScope())) {
+                bean.setRequestContextIndex(requestContextIndex++);
+            }
+        }
+
         LOGGER.debugf("Bean deployment initialized in %s ms", System.currentTimeMillis() - start);
     }
 
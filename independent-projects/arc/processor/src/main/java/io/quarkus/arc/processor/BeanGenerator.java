@@ -230,6 +230,9 @@ public class BeanGenerator extends AbstractGenerator {
         if (!BuiltinScope.isDefault(bean.getScope())) {
             implementGetScope(bean, beanCreator);
         }
+        if (bean.getRequestContextIndex() != -1) {
+            implementGetRequestContextIndex(bean, beanCreator);
+        }
         if (qualifiers != null) {
             implementGetQualifiers(bean, beanCreator, qualifiers.getFieldDescriptor());
         }
@@ -315,6 +318,9 @@ public class BeanGenerator extends AbstractGenerator {
         if (!BuiltinScope.isDefault(bean.getScope())) {
             implementGetScope(bean, beanCreator);
         }
+        if (bean.getRequestContextIndex() != -1) {
+            implementGetRequestContextIndex(bean, beanCreator);
+        }
         if (qualifiers != null) {
             implementGetQualifiers(bean, beanCreator, qualifiers.getFieldDescriptor());
         }
@@ -412,6 +418,9 @@ public class BeanGenerator extends AbstractGenerator {
         if (!BuiltinScope.isDefault(bean.getScope())) {
             implementGetScope(bean, beanCreator);
         }
+        if (bean.getRequestContextIndex() != -1) {
+            implementGetRequestContextIndex(bean, beanCreator);
+        }
         if (qualifiers != null) {
             implementGetQualifiers(bean, beanCreator, qualifiers.getFieldDescriptor());
         }
@@ -496,6 +505,9 @@ public class BeanGenerator extends AbstractGenerator {
         if (!BuiltinScope.isDefault(bean.getScope())) {
             implementGetScope(bean, beanCreator);
         }
+        if (bean.getRequestContextIndex() != -1) {
+            implementGetRequestContextIndex(bean, beanCreator);
+        }
         if (qualifiers != null) {
             implementGetQualifiers(bean, beanCreator, qualifiers.getFieldDescriptor());
         }
@@ -1595,6 +1607,18 @@ public class BeanGenerator extends AbstractGenerator {
         getScope.returnValue(getScope.loadClass(bean.getScope().getDotName().toString()));
     }
 
+    /**
+     *
+     * @param bean
+     * @param beanCreator
+     * @see InjectableBean#getRequestContextIndex()
+     */
+    protected void implementGetRequestContextIndex(BeanInfo bean, ClassCreator beanCreator) {
+        MethodCreator getRequestContextIndex = beanCreator.getMethodCreator("getRequestContextIndex", int.class)
+                .setModifiers(ACC_PUBLIC);
+        getRequestContextIndex.returnValue(getRequestContextIndex.load(bean.getRequestContextIndex()));
+    }
+
     /**
      *
      * @param bean
@@ -114,6 +114,16 @@ public interface InjectableBean<T> extends Bean<T>, InjectableReferenceProvider<
         return false;
     }
 
+    /**
+     * The index is assigned at build time to every request scoped bean. It allows the request context to store the
+     * contextual instances in an array.
+     *
+     * @return the index of the bean in the request context, or -1 if no index is assigned
+     */
+    default int getRequestContextIndex() {
+        return -1;
+    }
+
     enum Kind {
 
         CLASS,
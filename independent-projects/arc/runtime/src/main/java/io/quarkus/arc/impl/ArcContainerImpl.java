@@ -101,9 +101,7 @@ public class ArcContainerImpl implements ArcContainer {
 
         applicationContext = new ApplicationContext();
         singletonContext = new SingletonContext();
-        requestContext = new RequestContext();
         contexts = new ArrayList<>();
-        contexts.add(requestContext);
 
         for (ComponentsProvider componentsProvider : ServiceLoader.load(ComponentsProvider.class)) {
             Components components = componentsProvider.getComponents();
@@ -135,6 +133,9 @@ public class ArcContainerImpl implements ArcContainer {
         // register built-in beans
         addBuiltInBeans();
 
+        requestContext = new RequestContext(getRequestContextSize(beans));
+        contexts.add(0, requestContext);
+
         Collections.sort(interceptors, (i1, i2) -> Integer.compare(i2.getPriority(), i1.getPriority()));
 
         resolved = new ComputingCache<>(this::resolve);
@@ -155,6 +156,22 @@ public class ArcContainerImpl implements ArcContainer {
         beans.add(InstanceBean.INSTANCE);
     }
 
+    private static int getRequestContextSize(List<InjectableBean<?>> beans) {
+        Set<Integer> indexes = new HashSet<>();
+        int size = 0;
+        for (InjectableBean<?> bean : beans) {
+            int index = bean.getRequestContextIndex();
+            if (index != -1) {
+                if (!indexes.add(index)) {
+                    // The indexes are not unique - all instances are stored in a map
+                    return 0;
+                }
+                size = Math.max(size, index + 1);
+            }
+        }
+        return size;
+    }
+
     public void init() {
         requireRunning();
         // Fire an event with qualifier @Initialized(ApplicationScoped.class)
@@ -1,6 +1,8 @@
 package io.quarkus.arc.impl;
 
+import io.quarkus.arc.ArcInvocationContext;
 import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.List;
@@ -12,24 +14,23 @@ import javax.interceptor.InvocationContext;
 /**
  * Special type of InvocationContext for AroundInvoke interceptors.
  * <p>
- * A new instance of {@link AroundInvokeInvocationContext} is created for each interceptor in the chain. This does not comply
- * with the spec but allows for "asynchronous continuation" of an interceptor chain execution. In other words, it is possible to
- * "cut off" the chain (interceptors executed before dispatch return immediately) and execute all remaining interceptors
- * asynchronously, possibly on a different thread.
+ * A single instance of {@link AroundInvokeInvocationContext} holds the state of an intercepted invocation, i.e. the target,
+ * the parameters and the context data, and is passed to the first interceptor in the chain. Every other interceptor
+ * receives a lightweight {@link Position} that only records its position in the chain and delegates to the shared
+ * instance. Recording the position per interceptor does not comply with the spec but allows for "asynchronous continuation"
+ * of an interceptor chain execution. In other words, it is possible to "cut off" the chain (interceptors executed before
+ * dispatch return immediately) and execute all remaining interceptors asynchronously, possibly on a different thread.
  * <p>
  * Note that context data and method parameters are mutable and are not guarded/synchronized. We expect them to be modified
  * before or after dispatch. If modified before and after dispatch an unpredicatble behavior may occur.
  */
 class AroundInvokeInvocationContext extends AbstractInvocationContext {
 
-    private final int position;
     private final Function<InvocationContext, Object> aroundInvokeForward;
 
-    AroundInvokeInvocationContext(Object target, Method method, Object[] parameters,
-            LazyValue<Map<String, Object>> contextData, Set<Annotation> interceptorBindings, int position,
+    AroundInvokeInvocationContext(Object target, Method method, Object[] parameters, Set<Annotation> interceptorBindings,
             List<InterceptorInvocation> chain, Function<InvocationContext, Object> aroundInvokeForward) {
-        super(target, method, null, parameters, contextData, interceptorBindings, chain);
-        this.position = position;
+        super(target, method, null, parameters, interceptorBindings, chain);
         this.aroundInvokeForward = aroundInvokeForward;
     }
 
@@ -39,16 +40,19 @@ class AroundInvokeInvocationContext extends AbstractInvocationContext {
             Set<Annotation> interceptorBindings) throws Exception {
 
         return chain.get(0).invoke(new AroundInvokeInvocationContext(target, method,
-                parameters, null, interceptorBindings, 1, chain, aroundInvokeForward));
+                parameters, interceptorBindings, chain, aroundInvokeForward));
     }
 
     @Override
     public Object proceed() throws Exception {
+        return proceed(1);
+    }
+
+    Object proceed(int position) throws Exception {
         try {
             if (position < chain.size()) {
                 // Invoke the next interceptor in the chain
-                return chain.get(position).invoke(new AroundInvokeInvocationContext(target, method,
-                        parameters, contextData, interceptorBindings, position + 1, chain, aroundInvokeForward));
+                return chain.get(position).invoke(new Position(this, position + 1));
             } else {
                 // Invoke the target method
                 return aroundInvokeForward.apply(this);
@@ -65,4 +69,64 @@ class AroundInvokeInvocationContext extends AbstractInvocationContext {
         }
     }
 
+    /**
+     * The view of the invocation context passed to an interceptor that is not the first one in the chain.
+     */
+    static final class Position implements ArcInvocationContext {
+
+        private final AroundInvokeInvocationContext context;
+        private final int next;
+
+        Position(AroundInvokeInvocationContext context, int next) {
+            this.context = context;
+            this.next = next;
+        }
+
+        @Override
+        public Object proceed() throws Exception {
+            return context.proceed(next);
+        }
+
+        @Override
+        public Object getTarget() {
+            return context.getTarget();
+        }
+
+        @Override
+        public Object getTimer() {
+            return context.getTimer();
+        }
+
+        @Override
+        public Method getMethod() {
+            return context.getMethod();
+        }
+
+        @Override
+        public Constructor<?> getConstructor() {
+            return context.getConstructor();
+        }
+
+        @Override
+        public Object[] getParameters() {
+            return context.getParameters();
+        }
+
+        @Override
+        public void setParameters(Object[] params) {
+            context.setParameters(params);
+        }
+
+        @Override
+        public Map<String, Object> getContextData() {
+            return context.getContextData();
+        }
+
+        @Override
+        public Set<Annotation> getInterceptorBindings() {
+            return context.getInterceptorBindings();
+        }
+
+    }
+
 }
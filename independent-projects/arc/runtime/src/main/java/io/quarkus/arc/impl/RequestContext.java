@@ -6,12 +6,15 @@ import io.quarkus.arc.InstanceHandle;
 import io.quarkus.arc.ManagedContext;
 import io.quarkus.arc.impl.EventImpl.Notifier;
 import java.lang.annotation.Annotation;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import javax.enterprise.context.BeforeDestroyed;
 import javax.enterprise.context.ContextNotActiveException;
 import javax.enterprise.context.Destroyed;
@@ -24,6 +27,9 @@ import org.jboss.logging.Logger;
 
 /**
  * The built-in context for {@link RequestScoped}.
+ * <p>
+ * The instances of the beans with an index assigned at build time, see {@link InjectableBean#getRequestContextIndex()},
+ * are stored in an array. A map is only used for the other contextuals, e.g. custom beans.
  *
  * @author Martin Kouba
  */
@@ -32,13 +38,17 @@ class RequestContext implements ManagedContext {
     private static final Logger LOGGER = Logger.getLogger(RequestContext.class.getPackage().getName());
 
     // It's a normal scope so there may be no more than one mapped instance per contextual type per thread
-    private final ThreadLocal<ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>>> currentContext = new ThreadLocal<>();
+    private final ThreadLocal<RequestContextState> currentContext = new ThreadLocal<>();
+
+    // The number of beans with an index assigned at build time
+    private final int indexedBeans;
 
     private final LazyValue<Notifier<Object>> initializedNotifier;
     private final LazyValue<Notifier<Object>> beforeDestroyedNotifier;
     private final LazyValue<Notifier<Object>> destroyedNotifier;
 
-    public RequestContext() {
+    public RequestContext(int indexedBeans) {
+        this.indexedBeans = indexedBeans;
         this.initializedNotifier = new LazyValue<>(RequestContext::createInitializedNotifier);
         this.beforeDestroyedNotifier = new LazyValue<>(RequestContext::createBeforeDestroyedNotifier);
         this.destroyedNotifier = new LazyValue<>(RequestContext::createDestroyedNotifier);
@@ -55,7 +65,7 @@ class RequestContext implements ManagedContext {
         if (contextual == null) {
             throw new IllegalArgumentException("Contextual parameter must not be null");
         }
-        Map<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
+        RequestContextState ctx = currentContext.get();
         if (ctx == null) {
             // Thread local not set - context is not active!
             throw new ContextNotActiveException();
@@ -63,9 +73,15 @@ class RequestContext implements ManagedContext {
         ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) ctx.get(contextual);
         if (instance == null && creationalContext != null) {
             // Bean instance does not exist - create one if we have CreationalContext
-            instance = new ContextInstanceHandleImpl<T>((InjectableBean<T>) contextual,
+            ContextInstanceHandle<T> created = new ContextInstanceHandleImpl<T>((InjectableBean<T>) contextual,
                     contextual.create(creationalContext), creationalContext);
-            ctx.put(contextual, instance);
+            instance = (ContextInstanceHandle<T>) ctx.putIfAbsent(contextual, created);
+            if (instance == null) {
+                instance = created;
+            } else {
+                // Another thread created the instance in the meantime
+                created.destroy();
+            }
         }
         return instance != null ? instance.get() : null;
     }
@@ -82,7 +98,7 @@ class RequestContext implements ManagedContext {
 
     @Override
     public void destroy(Contextual<?> contextual) {
-        Map<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
+        RequestContextState ctx = currentContext.get();
         if (ctx == null) {
             // Thread local not set - context is not active!
             throw new ContextNotActiveException();
@@ -96,12 +112,12 @@ class RequestContext implements ManagedContext {
     @Override
     public void activate(ContextState initialState) {
         if (initialState == null) {
-            currentContext.set(new ConcurrentHashMap<>());
+            currentContext.set(new RequestContextState(indexedBeans));
             // Fire an event with qualifier @Initialized(RequestScoped.class) if there are any observers for it
             fireIfNotEmpty(initializedNotifier);
         } else {
             if (initialState instanceof RequestContextState) {
-                currentContext.set(((RequestContextState) initialState).value);
+                currentContext.set((RequestContextState) initialState);
             } else {
                 throw new IllegalArgumentException("Invalid inital state: " + initialState.getClass().getName());
             }
@@ -110,12 +126,12 @@ class RequestContext implements ManagedContext {
 
     @Override
     public ContextState getState() {
-        ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get();
+        RequestContextState ctx = currentContext.get();
         if (ctx == null) {
             // Thread local not set - context is not active!
             throw new ContextNotActiveException();
         }
-        return new RequestContextState(ctx);
+        return ctx;
     }
 
     @Override
@@ -131,13 +147,13 @@ class RequestContext implements ManagedContext {
     @Override
     public void destroy(ContextState state) {
         if (state instanceof RequestContextState) {
-            destroy(((RequestContextState) state).value);
+            destroy((RequestContextState) state);
         } else {
             throw new IllegalArgumentException("Invalid state: " + state.getClass().getName());
         }
     }
 
-    private void destroy(Map<Contextual<?>, ContextInstanceHandle<?>> currentContext) {
+    private void destroy(RequestContextState currentContext) {
         if (currentContext != null) {
             synchronized (currentContext) {
                 // Fire an event with qualifier @BeforeDestroyed(RequestScoped.class) if there are any observers for it
@@ -146,7 +162,7 @@ class RequestContext implements ManagedContext {
                 } catch (Exception e) {
                     LOGGER.warn("An error occurred during delivery of the @BeforeDestroyed(RequestScoped.class) event", e);
                 }
-                for (InstanceHandle<?> instance : currentContext.values()) {
+                for (InstanceHandle<?> instance : currentContext.removeAll()) {
                     try {
                         instance.destroy();
                     } catch (Exception e) {
@@ -159,7 +175,6 @@ class RequestContext implements ManagedContext {
                 } catch (Exception e) {
                     LOGGER.warn("An error occurred during delivery of the @Destroyed(RequestScoped.class) event", e);
                 }
-                currentContext.clear();
             }
         }
     }
@@ -191,16 +206,110 @@ class RequestContext implements ManagedContext {
 
     static class RequestContextState implements ContextState {
 
-        private final ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> value;
+        private final AtomicReferenceArray<ContextInstanceHandle<?>> indexed;
+        // Created lazily as all the request scoped beans usually have an index
+        private volatile ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> others;
+
+        RequestContextState(int indexedBeans) {
+            this.indexed = new AtomicReferenceArray<>(indexedBeans);
+        }
 
-        RequestContextState(ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> value) {
-            this.value = value;
+        ContextInstanceHandle<?> get(Contextual<?> contextual) {
+            int index = indexOf(contextual);
+            if (index != -1) {
+                return indexed.get(index);
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map = others;
+            return map != null ? map.get(contextual) : null;
+        }
+
+        /**
+         *
+         * @return the existing instance, or {@code null} if the given instance was stored
+         */
+        ContextInstanceHandle<?> putIfAbsent(Contextual<?> contextual, ContextInstanceHandle<?> instance) {
+            int index = indexOf(contextual);
+            if (index != -1) {
+                while (!indexed.compareAndSet(index, null, instance)) {
+                    ContextInstanceHandle<?> existing = indexed.get(index);
+                    if (existing != null) {
+                        return existing;
+                    }
+                }
+                return null;
+            }
+            return others().putIfAbsent(contextual, instance);
+        }
+
+        ContextInstanceHandle<?> remove(Contextual<?> contextual) {
+            int index = indexOf(contextual);
+            if (index != -1) {
+                return indexed.getAndSet(index, null);
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map = others;
+            return map != null ? map.remove(contextual) : null;
+        }
+
+        List<ContextInstanceHandle<?>> removeAll() {
+            List<ContextInstanceHandle<?>> removed = new ArrayList<>();
+            for (int i = 0; i < indexed.length(); i++) {
+                ContextInstanceHandle<?> instance = indexed.getAndSet(i, null);
+                if (instance != null) {
+                    removed.add(instance);
+                }
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map = others;
+            if (map != null) {
+                for (Contextual<?> contextual : map.keySet()) {
+                    ContextInstanceHandle<?> instance = map.remove(contextual);
+                    if (instance != null) {
+                        removed.add(instance);
+                    }
+                }
+            }
+            return removed;
         }
 
         @Override
         public Map<InjectableBean<?>, Object> getContextualInstances() {
-            return value.values().stream()
-                    .collect(Collectors.toMap(ContextInstanceHandle::getBean, ContextInstanceHandle::get));
+            Map<InjectableBean<?>, Object> instances = new HashMap<>();
+            for (int i = 0; i < indexed.length(); i++) {
+                ContextInstanceHandle<?> instance = indexed.get(i);
+                if (instance != null) {
+                    instances.put(instance.getBean(), instance.get());
+                }
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map = others;
+            if (map != null) {
+                for (ContextInstanceHandle<?> instance : map.values()) {
+                    instances.put(instance.getBean(), instance.get());
+                }
+            }
+            return instances;
+        }
+
+        private int indexOf(Contextual<?> contextual) {
+            if (contextual instanceof InjectableBean) {
+                int index = ((InjectableBean<?>) contextual).getRequestContextIndex();
+                if (index < indexed.length()) {
+                    return index;
+                }
+            }
+            return -1;
+        }
+
+        private ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> others() {
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> map = others;
+            if (map == null) {
+                synchronized (this) {
+                    map = others;
+                    if (map == null) {
+                        map = new ConcurrentHashMap<>();
+                        others = map;
+                    }
+                }
+            }
+            return map;
         }
 
     }
@@ -0,0 +1,108 @@
+package io.quarkus.arc.test.contexts.request;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.InjectableContext.ContextState;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.RequestScoped;
+import javax.enterprise.inject.Produces;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class RequestContextIndexTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Controller.class, Producer.class);
+
+    @Test
+    public void testIndexedInstances() throws InterruptedException, ExecutionException {
+        ArcContainer arc = Arc.container();
+        InjectableBean<Controller> controllerBean = arc.instance(Controller.class).getBean();
+        InjectableBean<Counter> counterBean = arc.instance(Counter.class).getBean();
+        InjectableBean<Producer> producerBean = arc.instance(Producer.class).getBean();
+        assertNotEquals(-1, controllerBean.getRequestContextIndex());
+        assertNotEquals(-1, counterBean.getRequestContextIndex());
+        assertNotEquals(controllerBean.getRequestContextIndex(), counterBean.getRequestContextIndex());
+        assertEquals(-1, producerBean.getRequestContextIndex());
+
+        ManagedContext requestContext = arc.requestContext();
+        requestContext.activate();
+        try {
+            Controller.DESTROYED.set(false);
+            String controllerId = arc.instance(Controller.class).get().getId();
+            assertEquals(1, arc.instance(Counter.class).get().increment());
+            assertEquals(2, arc.instance(Counter.class).get().increment());
+
+            ContextState state = requestContext.getState();
+            assertEquals(2, state.getContextualInstances().size());
+            assertTrue(state.getContextualInstances().containsKey(controllerBean));
+
+            // The state can be propagated to another thread
+            ExecutorService executor = Executors.newSingleThreadExecutor();
+            try {
+                assertEquals(controllerId, executor.submit(() -> {
+                    requestContext.activate(state);
+                    try {
+                        arc.instance(Counter.class).get().increment();
+                        return arc.instance(Controller.class).get().getId();
+                    } finally {
+                        requestContext.deactivate();
+                    }
+                }).get());
+            } finally {
+                executor.shutdownNow();
+            }
+            assertEquals(4, arc.instance(Counter.class).get().increment());
+
+            // Destroy a single instance
+            requestContext.destroy(controllerBean);
+            assertTrue(Controller.DESTROYED.get());
+            assertNull(requestContext.get(controllerBean));
+            assertEquals(1, state.getContextualInstances().size());
+            assertNotEquals(controllerId, arc.instance(Controller.class).get().getId());
+        } finally {
+            requestContext.terminate();
+        }
+
+        requestContext.activate();
+        try {
+            assertTrue(requestContext.getState().getContextualInstances().isEmpty());
+            assertEquals(1, arc.instance(Counter.class).get().increment());
+        } finally {
+            requestContext.terminate();
+        }
+    }
+
+    @ApplicationScoped
+    static class Producer {
+
+        @RequestScoped
+        @Produces
+        Counter counter() {
+            return new Counter();
+        }
+
+    }
+
+    static class Counter {
+
+        private int value;
+
+        int increment() {
+            return ++value;
+        }
+
+    }
+
+}
@@ -0,0 +1,93 @@
+package io.quarkus.arc.test.interceptors.proceed;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.test.ArcTestContainer;
+import io.quarkus.arc.test.interceptors.Simple;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.Priority;
+import javax.inject.Singleton;
+import javax.interceptor.AroundInvoke;
+import javax.interceptor.Interceptor;
+import javax.interceptor.InvocationContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class ProceedTest {
+
+    static final AtomicInteger CHARLIE_INVOCATIONS = new AtomicInteger();
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(Simple.class, SimpleBean.class,
+            AlphaInterceptor.class, BravoInterceptor.class, CharlieInterceptor.class);
+
+    @Test
+    public void testRepeatedAndAsynchronousProceed() {
+        CHARLIE_INVOCATIONS.set(0);
+        SimpleBean bean = Arc.container().instance(SimpleBean.class).get();
+        assertEquals("ok1:ok2", bean.ping().toCompletableFuture().join());
+        assertEquals(2, CHARLIE_INVOCATIONS.get());
+    }
+
+    @Simple
+    @Singleton
+    static class SimpleBean {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        CompletionStage<String> ping() {
+            return CompletableFuture.completedFuture("ok" + counter.incrementAndGet());
+        }
+
+    }
+
+    // Proceeds twice
+    @Simple
+    @Priority(1)
+    @Interceptor
+    public static class AlphaInterceptor {
+
+        @AroundInvoke
+        Object around(InvocationContext ctx) throws Exception {
+            CompletableFuture<?> first = ((CompletionStage<?>) ctx.proceed()).toCompletableFuture();
+            first.join();
+            CompletableFuture<?> second = ((CompletionStage<?>) ctx.proceed()).toCompletableFuture();
+            return first.thenCombine(second, (r1, r2) -> r1 + ":" + r2);
+        }
+    }
+
+    // Returns immediately and proceeds on a different thread
+    @Simple
+    @Priority(2)
+    @Interceptor
+    public static class BravoInterceptor {
+
+        @AroundInvoke
+        Object around(InvocationContext ctx) throws Exception {
+            return CompletableFuture.supplyAsync(() -> {
+                try {
+                    return ((CompletionStage<?>) ctx.proceed()).toCompletableFuture().join();
+                } catch (Exception e) {
+                    throw new CompletionException(e);
+                }
+            });
+        }
+    }
+
+    @Simple
+    @Priority(3)
+    @Interceptor
+    public static class CharlieInterceptor {
+
+        @AroundInvoke
+        Object around(InvocationContext ctx) throws Exception {
+            CHARLIE_INVOCATIONS.incrementAndGet();
+            return ctx.proceed();
+        }
+    }
+
+}
@@ -27,6 +27,7 @@ public final class EngineBuilder {
     private final List<TemplateLocator> locators;
     private final List<ResultMapper> resultMappers;
     private Function<String, SectionHelperFactory<?>> sectionHelperFunc;
+    private boolean inlineCaches = true;
 
     EngineBuilder() {
         this.sectionHelperFactories = new HashMap<>();
@@ -130,9 +131,25 @@ public final class EngineBuilder {
         return this;
     }
 
+    /**
+     * The inline caches are enabled by default. The index of the first value resolver that applies to a part of an
+     * expression is cached for the class of the base object and the resolvers with higher priority, which did not apply, are
+     * skipped next time the part is evaluated. The inline caches should be disabled if
+     * {@link ValueResolver#appliesTo(EvalContext)} of a resolver does not depend solely on the class of the base object, the
+     * name and the parameters of the part.
+     * 
+     * @param value
+     * @return self
+     * @see Evaluator#getInlineCacheMisses()
+     */
+    public EngineBuilder useInlineCaches(boolean value) {
+        this.inlineCaches = value;
+        return this;
+    }
+
     public Engine build() {
         return new EngineImpl(sectionHelperFactories, valueResolvers, namespaceResolvers, locators, resultMappers,
-                sectionHelperFunc);
+                sectionHelperFunc, inlineCaches);
     }
 
 }
\ No newline at end of file
@@ -43,11 +43,12 @@ class EngineImpl implements Engine {
 
     EngineImpl(Map<String, SectionHelperFactory<?>> sectionHelperFactories, List<ValueResolver> valueResolvers,
             List<NamespaceResolver> namespaceResolvers, List<TemplateLocator> locators,
-            List<ResultMapper> resultMappers, Function<String, SectionHelperFactory<?>> sectionHelperFunc) {
+            List<ResultMapper> resultMappers, Function<String, SectionHelperFactory<?>> sectionHelperFunc,
+            boolean inlineCaches) {
         this.sectionHelperFactories = Collections.unmodifiableMap(new HashMap<>(sectionHelperFactories));
         this.valueResolvers = sort(valueResolvers);
         this.namespaceResolvers = ImmutableList.copyOf(namespaceResolvers);
-        this.evaluator = new EvaluatorImpl(this.valueResolvers);
+        this.evaluator = new EvaluatorImpl(this.valueResolvers, inlineCaches);
         this.templates = new ConcurrentHashMap<>();
         this.locators = sort(locators);
         ServiceLoader<PublisherFactory> loader = ServiceLoader.load(PublisherFactory.class);
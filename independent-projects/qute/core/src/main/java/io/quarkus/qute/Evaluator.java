@@ -15,4 +15,17 @@ public interface Evaluator {
      */
     CompletionStage<Object> evaluate(Expression expression, ResolutionContext resolutionContext);
 
+    /**
+     * The index of the first value resolver that applies to a part of an expression is cached for the class of the base
+     * object. A miss occurs if the part is evaluated for a class that has no entry in the cache, including every evaluation
+     * of a part that was seen with too many classes. A cached resolver that returns {@link Results.Result#NOT_FOUND} is not
+     * a miss.
+     * 
+     * @return the number of inline cache misses
+     * @see EngineBuilder#useInlineCaches(boolean)
+     */
+    default long getInlineCacheMisses() {
+        return 0;
+    }
+
 }
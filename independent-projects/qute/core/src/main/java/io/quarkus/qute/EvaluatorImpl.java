@@ -1,25 +1,39 @@
 package io.quarkus.qute;
 
 import io.quarkus.qute.Expression.Part;
+import io.quarkus.qute.ExpressionImpl.ExpressionPartImpl;
 import io.quarkus.qute.Results.Result;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.LongAdder;
 import org.jboss.logging.Logger;
 
 /**
  * 
+ * Each expression part has a polymorphic inline cache. The index of the first value resolver that applies to the part is
+ * cached for the class of the base object, so that the resolvers that do not apply are skipped next time the part is
+ * evaluated.
  */
 class EvaluatorImpl implements Evaluator {
 
     private static final Logger LOGGER = Logger.getLogger(EvaluatorImpl.class);
 
     private final List<ValueResolver> resolvers;
+    private final boolean inlineCaches;
+    private final LongAdder inlineCacheMisses;
 
-    EvaluatorImpl(List<ValueResolver> valueResolvers) {
+    EvaluatorImpl(List<ValueResolver> valueResolvers, boolean inlineCaches) {
         this.resolvers = valueResolvers;
+        this.inlineCaches = inlineCaches;
+        this.inlineCacheMisses = new LongAdder();
+    }
+
+    @Override
+    public long getInlineCacheMisses() {
+        return inlineCacheMisses.sum();
     }
 
     @Override
@@ -34,13 +48,14 @@ class EvaluatorImpl implements Evaluator {
             }
             EvalContext context = new EvalContextImpl(false, null, parts.next(), resolutionContext);
             LOGGER.debugf("Found '%s' namespace resolver: %s", expression.getNamespace(), resolver.getClass());
-            return resolver.resolve(context).thenCompose(r -> {
-                if (parts.hasNext()) {
-                    return resolveReference(false, r, parts, resolutionContext);
-                } else {
-                    return CompletableFuture.completedFuture(r);
-                }
-            });
+            CompletionStage<Object> result = resolver.resolve(context);
+            if (!parts.hasNext()) {
+                return result;
+            }
+            if (Futures.isCompleted(result)) {
+                return resolveReference(false, Futures.getCompleted(result), parts, resolutionContext);
+            }
+            return result.thenCompose(r -> resolveReference(false, r, parts, resolutionContext));
         } else {
             if (expression.isLiteral()) {
                 return expression.getLiteralValue();
@@ -67,47 +82,100 @@ class EvaluatorImpl implements Evaluator {
 
     private CompletionStage<Object> resolveReference(boolean tryParent, Object ref, Iterator<Part> parts,
             ResolutionContext resolutionContext) {
-        Part part = parts.next();
-        EvalContextImpl evalContext = new EvalContextImpl(tryParent, ref, part, resolutionContext);
-        if (!parts.hasNext()) {
-            // The last part - no need to compose
-            return resolve(evalContext, resolvers.iterator());
-        } else {
-            return resolve(evalContext, resolvers.iterator())
-                    .thenCompose(r -> {
-                        if (parts.hasNext()) {
-                            return resolveReference(tryParent, r, parts, resolutionContext);
+        Object base = ref;
+        while (true) {
+            Part part = parts.next();
+            ExpressionPartImpl cachedPart = inlineCaches && part instanceof ExpressionPartImpl ? (ExpressionPartImpl) part
+                    : null;
+            CompletionStage<Object> result = resolve(
+                    new EvalContextImpl(tryParent, base, part, resolutionContext, cachedPart), 0, true);
+            if (!parts.hasNext()) {
+                // The last part - no need to compose
+                return result;
+            }
+            if (!Futures.isCompleted(result)) {
+                // The value is not available yet - continue asynchronously
+                return result.thenCompose(r -> resolveReference(tryParent, r, parts, resolutionContext));
+            }
+            // Continue with the next part synchronously
+            base = Futures.getCompleted(result);
+        }
+    }
+
+    /**
+     * 
+     * @param evalContext
+     * @param index The index of the first resolver to try
+     * @param useInlineCache If set to true, the resolvers that did not apply to the class of the base object are skipped
+     * @return the result
+     */
+    private CompletionStage<Object> resolve(EvalContextImpl evalContext, int index, boolean useInlineCache) {
+        while (true) {
+            boolean cacheMiss = false;
+            if (useInlineCache && evalContext.cachedPart != null) {
+                int cached = evalContext.cachedPart.inlineCache.get(evalContext.base);
+                if (cached != InlineCache.MISS) {
+                    index = cached;
+                } else {
+                    cacheMiss = true;
+                }
+            }
+            for (; index < resolvers.size(); index++) {
+                ValueResolver resolver = resolvers.get(index);
+                if (!resolver.appliesTo(evalContext)) {
+                    // Try next resolver
+                    continue;
+                }
+                if (cacheMiss) {
+                    cache(evalContext, index);
+                    cacheMiss = false;
+                }
+                CompletionStage<Object> result = resolver.resolve(evalContext);
+                if (!Futures.isCompleted(result)) {
+                    // Not completed yet or failed
+                    EvalContextImpl currentContext = evalContext;
+                    int next = index + 1;
+                    return result.thenCompose(r -> {
+                        if (Result.NOT_FOUND.equals(r)) {
+                            return resolve(currentContext, next, false);
                         } else {
                             return CompletableFuture.completedFuture(r);
                         }
                     });
-        }
-    }
-
-    private CompletionStage<Object> resolve(EvalContextImpl evalContext, Iterator<ValueResolver> resolvers) {
-        if (!resolvers.hasNext()) {
+                }
+                if (!Result.NOT_FOUND.equals(Futures.getCompleted(result))) {
+                    return result;
+                }
+            }
+            if (cacheMiss) {
+                // No resolver applies
+                cache(evalContext, index);
+            }
             ResolutionContext parent = evalContext.resolutionContext.getParent();
             if (evalContext.tryParent && parent != null) {
                 // Continue with parent context
-                return resolve(
-                        new EvalContextImpl(true, parent.getData(), evalContext.name, evalContext.params, parent),
-                        this.resolvers.iterator());
+                evalContext = new EvalContextImpl(true, parent.getData(), evalContext.name, evalContext.params, parent,
+                        evalContext.cachedPart);
+                index = 0;
+                useInlineCache = true;
+            } else {
+                LOGGER.tracef("Unable to resolve %s", evalContext);
+                return Results.NOT_FOUND;
             }
-            LOGGER.tracef("Unable to resolve %s", evalContext);
-            return Results.NOT_FOUND;
         }
-        ValueResolver resolver = resolvers.next();
-        if (resolver.appliesTo(evalContext)) {
-            return resolver.resolve(evalContext).thenCompose(r -> {
-                if (Result.NOT_FOUND.equals(r)) {
-                    return resolve(evalContext, resolvers);
-                } else {
-                    return CompletableFuture.completedFuture(r);
-                }
-            });
-        } else {
-            // Try next resolver
-            return resolve(evalContext, resolvers);
+    }
+
+    private void cache(EvalContextImpl evalContext, int index) {
+        inlineCacheMisses.increment();
+        ExpressionPartImpl part = evalContext.cachedPart;
+        InlineCache cache = part.inlineCache;
+        if (cache != InlineCache.MEGAMORPHIC) {
+            InlineCache newCache = cache.add(evalContext.base, index);
+            part.inlineCache = newCache;
+            if (newCache == InlineCache.MEGAMORPHIC) {
+                LOGGER.debugf("Expression part [%s] evaluated for more than %s classes, the inline cache is disabled",
+                        part, InlineCache.LIMIT);
+            }
         }
     }
 
@@ -118,20 +186,28 @@ class EvaluatorImpl implements Evaluator {
         final String name;
         final List<Expression> params;
         final ResolutionContext resolutionContext;
+        // The part that holds the inline cache, or null if not cached
+        final ExpressionPartImpl cachedPart;
 
         EvalContextImpl(boolean tryParent, Object base, Part part, ResolutionContext resolutionContext) {
+            this(tryParent, base, part, resolutionContext, null);
+        }
+
+        EvalContextImpl(boolean tryParent, Object base, Part part, ResolutionContext resolutionContext,
+                ExpressionPartImpl cachedPart) {
             this(tryParent, base, part.getName(),
                     part.isVirtualMethod() ? part.asVirtualMethod().getParameters() : Collections.emptyList(),
-                    resolutionContext);
+                    resolutionContext, cachedPart);
         }
 
         EvalContextImpl(boolean tryParent, Object base, String name, List<Expression> params,
-                ResolutionContext resolutionContext) {
+                ResolutionContext resolutionContext, ExpressionPartImpl cachedPart) {
             this.tryParent = tryParent;
             this.base = base;
             this.resolutionContext = resolutionContext;
             this.params = params;
             this.name = name;
+            this.cachedPart = cachedPart;
         }
 
         @Override
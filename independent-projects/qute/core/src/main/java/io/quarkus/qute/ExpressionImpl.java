@@ -86,10 +86,13 @@ final class ExpressionImpl implements Expression {
 
         protected final String name;
         protected final String typeInfo;
+        // The resolvers used to resolve this part, see EvaluatorImpl
+        volatile InlineCache inlineCache;
 
         ExpressionPartImpl(String name, String typeInfo) {
             this.name = name;
             this.typeInfo = typeInfo;
+            this.inlineCache = InlineCache.EMPTY;
         }
 
         public String getName() {
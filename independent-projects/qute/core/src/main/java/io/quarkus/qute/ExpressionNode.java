@@ -22,8 +22,12 @@ class ExpressionNode implements TemplateNode {
 
     @Override
     public CompletionStage<ResultNode> resolve(ResolutionContext context) {
-        return context.evaluate(expression)
-                .thenCompose(r -> CompletableFuture.<ResultNode> completedFuture(new SingleResultNode(r, this)));
+        CompletionStage<Object> result = context.evaluate(expression);
+        if (Futures.isCompleted(result)) {
+            // No need to compose if the value is already available
+            return CompletableFuture.completedFuture(new SingleResultNode(Futures.getCompleted(result), this));
+        }
+        return result.thenApply(r -> new SingleResultNode(r, this));
     }
 
     public Origin getOrigin() {
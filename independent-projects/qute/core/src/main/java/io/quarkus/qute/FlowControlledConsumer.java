@@ -0,0 +1,22 @@
+package io.quarkus.qute;
+
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+
+/**
+ * A consumer of the chunks of a template rendered with {@link TemplateInstance#stream(Consumer)} that is able to slow down
+ * the rendering, e.g. when the chunks are written to a network connection.
+ * <p>
+ * The readiness is checked after each iteration of a loop section. If the consumer is not ready, the iteration is resumed
+ * once the returned completion stage is completed.
+ */
+public interface FlowControlledConsumer extends Consumer<String> {
+
+    /**
+     *
+     * @return a completion stage that is completed once the consumer is ready to accept more chunks, an already completed
+     *         stage if the consumer is ready
+     */
+    CompletionStage<Void> whenReady();
+
+}
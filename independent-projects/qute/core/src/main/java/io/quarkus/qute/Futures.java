@@ -17,6 +17,30 @@ public final class Futures {
         return failure;
     }
 
+    /**
+     * 
+     * @param stage
+     * @return {@code true} if the given stage is already completed normally and its value can be obtained synchronously
+     * @see #getCompleted(CompletionStage)
+     */
+    static boolean isCompleted(CompletionStage<?> stage) {
+        if (stage instanceof CompletableFuture) {
+            CompletableFuture<?> future = (CompletableFuture<?>) stage;
+            return future.isDone() && !future.isCompletedExceptionally();
+        }
+        return false;
+    }
+
+    /**
+     * 
+     * @param stage A stage for which {@link #isCompleted(CompletionStage)} returned {@code true}
+     * @return the value of the completed stage
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T getCompleted(CompletionStage<?> stage) {
+        return ((CompletableFuture<T>) stage).getNow(null);
+    }
+
     @SuppressWarnings("unchecked")
     static CompletionStage<Map<String, Object>> evaluateParams(Map<String, Expression> parameters,
             ResolutionContext resolutionContext) {
@@ -44,7 +44,12 @@ public class IfSectionHelper implements SectionHelper {
     public CompletionStage<ResultNode> resolve(SectionResolutionContext context) {
         if (blocks.size() == 1) {
             IfBlock block = blocks.get(0);
-            return block.condition.evaluate(context).thenCompose(r -> {
+            CompletionStage<Object> condition = block.condition.evaluate(context);
+            if (Futures.isCompleted(condition)) {
+                return isFalsy(Futures.getCompleted(condition)) ? CompletableFuture.completedFuture(ResultNode.NOOP)
+                        : context.execute(block.block, context.resolutionContext());
+            }
+            return condition.thenCompose(r -> {
                 if (isFalsy(r)) {
                     return CompletableFuture.completedFuture(ResultNode.NOOP);
                 } else {
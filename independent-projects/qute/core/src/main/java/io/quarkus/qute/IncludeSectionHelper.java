@@ -20,7 +20,9 @@ public class IncludeSectionHelper implements SectionHelper {
 
     @Override
     public CompletionStage<ResultNode> resolve(SectionResolutionContext context) {
-        return ((TemplateImpl) templateSupplier.get()).root.resolve(context.resolutionContext().createChild(extendingBlocks));
+        // Execute the main block of the included template as part of this section so that it's streamed if needed
+        return context.execute(((TemplateImpl) templateSupplier.get()).root.blocks.get(0),
+                context.resolutionContext().createChild(extendingBlocks));
     }
 
     public static class Factory implements SectionHelperFactory<IncludeSectionHelper> {
@@ -0,0 +1,71 @@
+package io.quarkus.qute;
+
+/**
+ * The index of the first value resolver that applies to an expression part, indexed by the class of the base object.
+ * <p>
+ * An instance is immutable, adding an entry creates a new cache. Once more than {@link #LIMIT} classes are seen, the part
+ * is considered megamorphic and nothing is cached anymore.
+ */
+final class InlineCache {
+
+    static final int LIMIT = 4;
+
+    static final int MISS = -1;
+
+    static final InlineCache EMPTY = new InlineCache(new Class<?>[0], new int[0]);
+
+    static final InlineCache MEGAMORPHIC = new InlineCache(new Class<?>[0], new int[0]);
+
+    private final Class<?>[] classes;
+    private final int[] indexes;
+
+    private InlineCache(Class<?>[] classes, int[] indexes) {
+        this.classes = classes;
+        this.indexes = indexes;
+    }
+
+    /**
+     * 
+     * @param base
+     * @return the index of the first resolver that applies or {@link #MISS}
+     */
+    int get(Object base) {
+        Class<?> clazz = base != null ? base.getClass() : null;
+        for (int i = 0; i < classes.length; i++) {
+            if (classes[i] == clazz) {
+                return indexes[i];
+            }
+        }
+        return MISS;
+    }
+
+    /**
+     * 
+     * @param base
+     * @param index
+     * @return the cache with the entry added
+     */
+    InlineCache add(Object base, int index) {
+        if (this == MEGAMORPHIC) {
+            return this;
+        }
+        Class<?> clazz = base != null ? base.getClass() : null;
+        for (int i = 0; i < classes.length; i++) {
+            if (classes[i] == clazz) {
+                // Added concurrently
+                return this;
+            }
+        }
+        if (classes.length == LIMIT) {
+            return MEGAMORPHIC;
+        }
+        Class<?>[] newClasses = new Class<?>[classes.length + 1];
+        int[] newIndexes = new int[indexes.length + 1];
+        System.arraycopy(classes, 0, newClasses, 0, classes.length);
+        System.arraycopy(indexes, 0, newIndexes, 0, indexes.length);
+        newClasses[classes.length] = clazz;
+        newIndexes[indexes.length] = index;
+        return new InlineCache(newClasses, newIndexes);
+    }
+
+}
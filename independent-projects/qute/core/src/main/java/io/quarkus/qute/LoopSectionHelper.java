@@ -32,42 +32,79 @@ public class LoopSectionHelper implements SectionHelper {
         this.iterable = Objects.requireNonNull(iterable);
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public CompletionStage<ResultNode> resolve(SectionResolutionContext context) {
-        return context.resolutionContext().evaluate(iterable).thenCompose(it -> {
-            if (it == null) {
-                throw new TemplateException(String.format(
-                        "Loop section error in template %s on line %s: [%s] resolved to [null] which is not iterable",
-                        iterable.getOrigin().getTemplateId(), iterable.getOrigin().getLine(), iterable.toOriginalString()));
-            }
-            List<CompletionStage<ResultNode>> results = new ArrayList<>();
-            Iterator<?> iterator = extractIterator(it);
-            int idx = 0;
-            // Ideally, we should not block here but we still need to retain the order of results
-            while (iterator.hasNext()) {
-                results.add(nextElement(iterator.next(), idx++, iterator.hasNext(), context));
-            }
-            if (results.isEmpty()) {
-                return CompletableFuture.completedFuture(ResultNode.NOOP);
+        CompletionStage<Object> iterableResult = context.resolutionContext().evaluate(iterable);
+        if (Futures.isCompleted(iterableResult)) {
+            try {
+                return resolveElements(Futures.getCompleted(iterableResult), context);
+            } catch (RuntimeException e) {
+                return Futures.failure(e);
             }
-            CompletableFuture<ResultNode> result = new CompletableFuture<>();
-            CompletableFuture<ResultNode>[] all = new CompletableFuture[results.size()];
-            idx = 0;
-            for (CompletionStage<ResultNode> r : results) {
-                all[idx++] = r.toCompletableFuture();
+        }
+        return iterableResult.thenCompose(it -> resolveElements(it, context));
+    }
+
+    @SuppressWarnings("unchecked")
+    private CompletionStage<ResultNode> resolveElements(Object it, SectionResolutionContext context) {
+        if (it == null) {
+            throw new TemplateException(String.format(
+                    "Loop section error in template %s on line %s: [%s] resolved to [null] which is not iterable",
+                    iterable.getOrigin().getTemplateId(), iterable.getOrigin().getLine(), iterable.toOriginalString()));
+        }
+        Iterator<?> iterator = extractIterator(it);
+        OutputFragment out = SectionNode.getOutput(context);
+        if (out != null) {
+            // Streaming mode - the elements are written one after another
+            return streamElements(iterator, 0, context, out);
+        }
+        List<CompletionStage<ResultNode>> results = new ArrayList<>();
+        int idx = 0;
+        boolean completed = true;
+        // Ideally, we should not block here but we still need to retain the order of results
+        while (iterator.hasNext()) {
+            CompletionStage<ResultNode> element = nextElement(iterator.next(), idx++, iterator.hasNext(), context);
+            completed &= Futures.isCompleted(element);
+            results.add(element);
+        }
+        if (results.isEmpty()) {
+            return CompletableFuture.completedFuture(ResultNode.NOOP);
+        }
+        CompletableFuture<ResultNode>[] all = new CompletableFuture[results.size()];
+        idx = 0;
+        for (CompletionStage<ResultNode> r : results) {
+            all[idx++] = r.toCompletableFuture();
+        }
+        if (completed) {
+            // All elements were resolved synchronously
+            return CompletableFuture.completedFuture(new MultiResultNode(all));
+        }
+        CompletableFuture<ResultNode> result = new CompletableFuture<>();
+        CompletableFuture
+                .allOf(all)
+                .whenComplete((v, t) -> {
+                    if (t != null) {
+                        result.completeExceptionally(t);
+                    } else {
+                        result.complete(new MultiResultNode(all));
+                    }
+                });
+        return result;
+    }
+
+    private CompletionStage<ResultNode> streamElements(Iterator<?> iterator, int index, SectionResolutionContext context,
+            OutputFragment out) {
+        int idx = index;
+        while (iterator.hasNext()) {
+            nextElement(iterator.next(), idx++, iterator.hasNext(), context);
+            CompletionStage<Void> ready = out.ready();
+            if (!Futures.isCompleted(ready)) {
+                // Continue once the consumer is ready to accept more chunks
+                int nextIdx = idx;
+                return ready.thenCompose(v -> streamElements(iterator, nextIdx, context, out));
             }
-            CompletableFuture
-                    .allOf(all)
-                    .whenComplete((v, t) -> {
-                        if (t != null) {
-                            result.completeExceptionally(t);
-                        } else {
-                            result.complete(new MultiResultNode(all));
-                        }
-                    });
-            return result;
-        });
+        }
+        return CompletableFuture.completedFuture(ResultNode.NOOP);
     }
 
     private Iterator<?> extractIterator(Object it) {
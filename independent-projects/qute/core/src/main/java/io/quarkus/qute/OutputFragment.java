@@ -0,0 +1,149 @@
+package io.quarkus.qute;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+
+/**
+ * A part of the output of a template rendered with {@link TemplateInstance#stream(Consumer)}.
+ * <p>
+ * The fragments form a linked list in document order. The chunks written to the first incomplete fragment are passed to
+ * the consumer immediately. The chunks written to the following fragments are buffered until all the preceding fragments
+ * are complete.
+ */
+final class OutputFragment implements Consumer<String> {
+
+    private static final CompletionStage<Void> READY = CompletableFuture.completedFuture(null);
+
+    private final Consumer<String> consumer;
+    private final CompletableFuture<Void> result;
+
+    private OutputFragment next;
+    private List<String> buffer;
+    private boolean active;
+    private boolean complete;
+
+    /**
+     *
+     * @param consumer
+     * @param result Completed once all the fragments are complete
+     */
+    OutputFragment(Consumer<String> consumer, CompletableFuture<Void> result) {
+        this(consumer, result, true);
+    }
+
+    private OutputFragment(Consumer<String> consumer, CompletableFuture<Void> result, boolean active) {
+        this.consumer = consumer;
+        this.result = result;
+        this.active = active;
+    }
+
+    @Override
+    public synchronized void accept(String chunk) {
+        if (active) {
+            write(chunk);
+        } else {
+            if (buffer == null) {
+                buffer = new ArrayList<>();
+            }
+            buffer.add(chunk);
+        }
+    }
+
+    /**
+     * Inserts a new fragment right after this one. The new fragment is followed by the fragment that followed this one.
+     *
+     * @return the new fragment
+     */
+    synchronized OutputFragment split() {
+        OutputFragment fragment = new OutputFragment(consumer, result, false);
+        fragment.next = next;
+        next = fragment;
+        return fragment;
+    }
+
+    /**
+     * Writes the result node and completes this fragment, or fails the rendering if the node could not be resolved.
+     *
+     * @param node
+     * @param failure
+     */
+    void complete(ResultNode node, Throwable failure) {
+        if (failure != null) {
+            result.completeExceptionally(failure);
+            return;
+        }
+        try {
+            node.process(this);
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+            return;
+        }
+        complete();
+    }
+
+    /**
+     * No more chunks will be written to this fragment.
+     */
+    void complete() {
+        OutputFragment fragment;
+        synchronized (this) {
+            complete = true;
+            if (!active) {
+                // The fragment is flushed once the preceding fragments are complete
+                return;
+            }
+            fragment = next;
+        }
+        activate(fragment);
+    }
+
+    /**
+     *
+     * @return a completion stage that is completed once the consumer is ready to accept more chunks
+     * @see FlowControlledConsumer
+     */
+    CompletionStage<Void> ready() {
+        if (consumer instanceof FlowControlledConsumer) {
+            return ((FlowControlledConsumer) consumer).whenReady();
+        }
+        return READY;
+    }
+
+    private void activate(OutputFragment fragment) {
+        while (fragment != null) {
+            OutputFragment next;
+            synchronized (fragment) {
+                fragment.active = true;
+                if (fragment.buffer != null) {
+                    for (String chunk : fragment.buffer) {
+                        fragment.write(chunk);
+                    }
+                    fragment.buffer = null;
+                }
+                if (!fragment.complete) {
+                    return;
+                }
+                next = fragment.next;
+            }
+            fragment = next;
+        }
+        // All the fragments are complete
+        result.complete(null);
+    }
+
+    private void write(String chunk) {
+        if (result.isDone()) {
+            // The rendering already failed
+            return;
+        }
+        try {
+            consumer.accept(chunk);
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+        }
+    }
+
+}
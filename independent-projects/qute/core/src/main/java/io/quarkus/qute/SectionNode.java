@@ -13,6 +13,8 @@ import java.util.concurrent.CompletionStage;
  */
 class SectionNode implements TemplateNode {
 
+    private static final CompletionStage<ResultNode> NOOP = CompletableFuture.completedFuture(ResultNode.NOOP);
+
     static Builder builder(String helperName, Origin origin) {
         return new Builder(helperName, origin);
     }
@@ -31,7 +33,68 @@ class SectionNode implements TemplateNode {
 
     @Override
     public CompletionStage<ResultNode> resolve(ResolutionContext context) {
-        return helper.resolve(new SectionResolutionContextImpl(context));
+        return helper.resolve(new SectionResolutionContextImpl(context, null));
+    }
+
+    /**
+     * Resolve the section in the streaming mode, i.e. the blocks executed by the helper are written to the output as soon as
+     * possible.
+     * 
+     * @param context
+     * @param out The fragment the section is written to
+     * @return the fragment that follows the content of this section
+     */
+    OutputFragment stream(ResolutionContext context, OutputFragment out) {
+        // The helper may finish asynchronously so the content that follows must go into a separate fragment
+        OutputFragment next = out.split();
+        SectionResolutionContextImpl sectionContext = new SectionResolutionContextImpl(context, out);
+        CompletionStage<ResultNode> result;
+        try {
+            result = helper.resolve(sectionContext);
+        } catch (RuntimeException e) {
+            result = Futures.failure(e);
+        }
+        if (Futures.isCompleted(result)) {
+            sectionContext.out.complete(Futures.getCompleted(result), null);
+        } else {
+            result.whenComplete((r, t) -> sectionContext.out.complete(r, t));
+        }
+        return next;
+    }
+
+    /**
+     * 
+     * @param nodes
+     * @param context
+     * @param out
+     * @return the fragment that follows the content of the nodes
+     */
+    static OutputFragment stream(List<TemplateNode> nodes, ResolutionContext context, OutputFragment out) {
+        for (TemplateNode node : nodes) {
+            if (node instanceof SectionNode) {
+                out = ((SectionNode) node).stream(context, out);
+            } else {
+                CompletionStage<ResultNode> result = node.resolve(context);
+                if (Futures.isCompleted(result)) {
+                    Futures.<ResultNode> getCompleted(result).process(out);
+                } else {
+                    // Write the result once resolved and continue with a new fragment
+                    OutputFragment pending = out;
+                    out = out.split();
+                    result.whenComplete(pending::complete);
+                }
+            }
+        }
+        return out;
+    }
+
+    /**
+     * 
+     * @param context
+     * @return the output of the section if resolved in the streaming mode, {@code null} otherwise
+     */
+    static OutputFragment getOutput(SectionResolutionContext context) {
+        return context instanceof SectionResolutionContextImpl ? ((SectionResolutionContextImpl) context).out : null;
     }
 
     public Origin getOrigin() {
@@ -104,9 +167,12 @@ class SectionNode implements TemplateNode {
     class SectionResolutionContextImpl implements SectionResolutionContext {
 
         private final ResolutionContext resolutionContext;
+        // The current output fragment in the streaming mode
+        private OutputFragment out;
 
-        public SectionResolutionContextImpl(ResolutionContext resolutionContext) {
+        public SectionResolutionContextImpl(ResolutionContext resolutionContext, OutputFragment out) {
             this.resolutionContext = resolutionContext;
+            this.out = out;
         }
 
         @Override
@@ -115,16 +181,28 @@ class SectionNode implements TemplateNode {
                 // Use the main block
                 block = blocks.get(0);
             }
+            if (out != null) {
+                // The nodes are written directly
+                out = stream(block.nodes, context, out);
+                return NOOP;
+            }
             if (block.nodes.size() == 1) {
                 return block.nodes.get(0).resolve(context);
             }
-            CompletableFuture<ResultNode> result = new CompletableFuture<ResultNode>();
             @SuppressWarnings("unchecked")
             CompletableFuture<ResultNode>[] results = new CompletableFuture[block.nodes.size()];
             int idx = 0;
+            boolean completed = true;
             for (TemplateNode node : block.nodes) {
-                results[idx++] = node.resolve(context).toCompletableFuture();
+                CompletionStage<ResultNode> nodeResult = node.resolve(context);
+                completed &= Futures.isCompleted(nodeResult);
+                results[idx++] = nodeResult.toCompletableFuture();
+            }
+            if (completed) {
+                // All nodes were resolved synchronously
+                return CompletableFuture.completedFuture(new MultiResultNode(results));
             }
+            CompletableFuture<ResultNode> result = new CompletableFuture<ResultNode>();
             CompletableFuture
                     .allOf(results)
                     .whenComplete((v, t) -> {
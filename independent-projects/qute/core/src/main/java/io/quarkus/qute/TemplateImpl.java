@@ -87,18 +87,27 @@ class TemplateImpl implements Template {
             return renderData(data(), resultConsumer);
         }
 
+        @Override
+        public CompletionStage<Void> stream(Consumer<String> resultConsumer) {
+            return streamData(data(), resultConsumer);
+        }
+
     }
 
     private CompletionStage<Void> renderData(Object data, Consumer<String> consumer) {
+        CompletionStage<ResultNode> resolved = root.resolve(createRootContext(data));
+        if (Futures.isCompleted(resolved)) {
+            // The whole tree was resolved synchronously
+            try {
+                Futures.<ResultNode> getCompleted(resolved).process(consumer);
+            } catch (RuntimeException e) {
+                return Futures.failure(e);
+            }
+            return CompletableFuture.completedFuture(null);
+        }
         CompletableFuture<Void> result = new CompletableFuture<>();
-        DataNamespaceResolver dataResolver = new DataNamespaceResolver();
-        List<NamespaceResolver> namespaceResolvers = ImmutableList.<NamespaceResolver> builder()
-                .addAll(engine.getNamespaceResolvers()).add(dataResolver).build();
-        ResolutionContext rootContext = new ResolutionContextImpl(null, data, namespaceResolvers,
-                engine.getEvaluator(), null);
-        dataResolver.rootContext = rootContext;
         // Async resolution
-        root.resolve(rootContext).whenComplete((r, t) -> {
+        resolved.whenComplete((r, t) -> {
             if (t != null) {
                 result.completeExceptionally(t);
             } else {
@@ -110,6 +119,27 @@ class TemplateImpl implements Template {
         return result;
     }
 
+    private CompletionStage<Void> streamData(Object data, Consumer<String> consumer) {
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        try {
+            // Chunks are written as soon as all the preceding nodes are resolved
+            root.stream(createRootContext(data), new OutputFragment(consumer, result)).complete();
+        } catch (RuntimeException e) {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    private ResolutionContext createRootContext(Object data) {
+        DataNamespaceResolver dataResolver = new DataNamespaceResolver();
+        List<NamespaceResolver> namespaceResolvers = ImmutableList.<NamespaceResolver> builder()
+                .addAll(engine.getNamespaceResolvers()).add(dataResolver).build();
+        ResolutionContext rootContext = new ResolutionContextImpl(null, data, namespaceResolvers,
+                engine.getEvaluator(), null);
+        dataResolver.rootContext = rootContext;
+        return rootContext;
+    }
+
     static class DataNamespaceResolver implements NamespaceResolver {
 
         ResolutionContext rootContext;
@@ -90,4 +90,24 @@ public interface TemplateInstance {
      */
     CompletionStage<Void> consume(Consumer<String> consumer);
 
+    /**
+     * Triggers rendering in the streaming mode. The chunks of the rendered template are passed to the consumer in document
+     * order as soon as all the preceding parts of the template are resolved. Unlike {@link #consume(Consumer)}, the result
+     * is never held in memory as a whole.
+     * <p>
+     * If the consumer is a {@link FlowControlledConsumer}, loops are paused until the consumer is ready to accept more
+     * chunks.
+     * <p>
+     * Note that the blocks executed by section helpers are written as soon as they are executed. A failure that occurs
+     * after some chunks were consumed fails the returned completion stage but the consumed chunks cannot be taken back.
+     * <p>
+     * Implementations that do not support the streaming mode consume the fully rendered template.
+     * 
+     * @param consumer To consume chunks of the rendered template
+     * @return a completion stage that is completed once the rendering finished
+     */
+    default CompletionStage<Void> stream(Consumer<String> consumer) {
+        return consume(consumer);
+    }
+
 }
@@ -31,7 +31,7 @@ public class UserTagSectionHelper implements SectionHelper {
                 // Execute the template with the params as the root context object
                 try {
                     TemplateImpl tagTemplate = (TemplateImpl) templateSupplier.get();
-                    tagTemplate.root.resolve(context.resolutionContext().createChild(r1, null))
+                    context.execute(tagTemplate.root.blocks.get(0), context.resolutionContext().createChild(r1, null))
                             .whenComplete((r2, t2) -> {
                                 if (t2 != null) {
                                     result.completeExceptionally(t2);
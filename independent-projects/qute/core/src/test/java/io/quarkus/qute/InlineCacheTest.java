@@ -0,0 +1,105 @@
+package io.quarkus.qute;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import org.junit.jupiter.api.Test;
+
+public class InlineCacheTest {
+
+    @Test
+    public void testMonomorphicPart() {
+        Engine engine = Engine.builder().addDefaults().build();
+        Template template = engine.parse("{#for item in items}{item.name}{/for}");
+        Map<String, Object> data = new HashMap<>();
+        data.put("items", ImmutableList.of(item("alpha"), item("bravo")));
+
+        assertEquals("alphabravo", template.render(data));
+        long misses = engine.getEvaluator().getInlineCacheMisses();
+        assertTrue(misses > 0);
+        assertEquals("alphabravo", template.render(data));
+        assertEquals("alphabravo", template.render(data));
+        // All the resolvers are cached after the first rendering
+        assertEquals(misses, engine.getEvaluator().getInlineCacheMisses());
+    }
+
+    @Test
+    public void testMegamorphicPart() {
+        Engine engine = Engine.builder().addDefaults().addValueResolver(new ValueResolver() {
+
+            @Override
+            public boolean appliesTo(EvalContext context) {
+                return context.getName().equals("str");
+            }
+
+            @Override
+            public CompletionStage<Object> resolve(EvalContext context) {
+                return CompletableFuture.completedFuture(context.getBase().toString());
+            }
+        }).build();
+        Template template = engine.parse("{#for item in items}{item.str}:{/for}");
+        Map<String, Object> data = new HashMap<>();
+        // More than InlineCache.LIMIT classes
+        data.put("items", ImmutableList.of(1, 2L, "3", 4.0, 5.0f, '6'));
+
+        assertEquals("1:2:3:4.0:5.0:6:", template.render(data));
+        long misses = engine.getEvaluator().getInlineCacheMisses();
+        assertEquals("1:2:3:4.0:5.0:6:", template.render(data));
+        // The resolver is not cached for the classes above the limit
+        assertTrue(engine.getEvaluator().getInlineCacheMisses() > misses);
+    }
+
+    @Test
+    public void testCachedResolverNotFound() {
+        Engine engine = Engine.builder().addDefaults().addValueResolver(new ValueResolver() {
+
+            @Override
+            public int getPriority() {
+                return 10;
+            }
+
+            @Override
+            public boolean appliesTo(EvalContext context) {
+                return context.getBase() instanceof Map;
+            }
+
+            @Override
+            public CompletionStage<Object> resolve(EvalContext context) {
+                return ((Map<?, ?>) context.getBase()).containsKey("custom") ? CompletableFuture.completedFuture("CUSTOM")
+                        : Results.NOT_FOUND;
+            }
+        }).build();
+        Template template = engine.parse("{#for item in items}{item.name}:{/for}");
+        Map<String, Object> custom = item("alpha");
+        custom.put("custom", true);
+        Map<String, Object> data = new HashMap<>();
+        data.put("items", ImmutableList.of(custom, item("bravo"), custom));
+
+        // The same class is resolved by different resolvers
+        assertEquals("CUSTOM:bravo:CUSTOM:", template.render(data));
+        assertEquals("CUSTOM:bravo:CUSTOM:", template.render(data));
+    }
+
+    @Test
+    public void testInlineCachesDisabled() {
+        Engine engine = Engine.builder().addDefaults().useInlineCaches(false).build();
+        Template template = engine.parse("{#for item in items}{item.name}{/for}");
+        Map<String, Object> data = new HashMap<>();
+        data.put("items", ImmutableList.of(item("alpha"), item("bravo")));
+
+        assertEquals("alphabravo", template.render(data));
+        assertEquals("alphabravo", template.render(data));
+        assertEquals(0, engine.getEvaluator().getInlineCacheMisses());
+    }
+
+    private static Map<String, Object> item(String name) {
+        Map<String, Object> item = new HashMap<>();
+        item.put("name", name);
+        return item;
+    }
+
+}
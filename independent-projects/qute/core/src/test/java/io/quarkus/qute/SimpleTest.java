@@ -1,6 +1,7 @@
 package io.quarkus.qute;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import io.quarkus.qute.Results.Result;
 import io.quarkus.qute.TemplateNode.Origin;
@@ -193,4 +194,40 @@ public class SimpleTest {
                         .render(Collections.emptyList()));
     }
 
+    @Test
+    public void testSyncAndAsyncResolution() {
+        Engine engine = Engine.builder().addDefaultSectionHelpers().addDefaultValueResolvers()
+                .addValueResolver(new ValueResolver() {
+
+                    @Override
+                    public boolean appliesTo(EvalContext context) {
+                        return context.getBase() instanceof String
+                                && (context.getName().equals("async") || context.getName().equals("lower"));
+                    }
+
+                    @Override
+                    public CompletionStage<Object> resolve(EvalContext context) {
+                        if (context.getName().equals("lower")) {
+                            return CompletableFuture.completedFuture(context.getBase().toString().toLowerCase());
+                        }
+                        return CompletableFuture.supplyAsync(() -> context.getBase().toString().toUpperCase());
+                    }
+
+                }).build();
+        Map<String, Object> data = new HashMap<>();
+        data.put("name", "foo");
+        data.put("list", ImmutableList.of("alpha", "bravo", "charlie"));
+
+        // Everything is resolved synchronously
+        CompletableFuture<String> sync = engine.parse("{#for item in list}{item}{#if hasNext},{/if}{/for} {name}")
+                .data(data).renderAsync().toCompletableFuture();
+        assertTrue(sync.isDone());
+        assertEquals("alpha,bravo,charlie foo", sync.join());
+
+        // Async resolution of the first part, the remaining parts are resolved once the value is available
+        assertEquals("ALPHA:alpha,BRAVO:bravo,CHARLIE:charlie FOO",
+                engine.parse("{#for item in list}{item.async}:{item.async.lower}"
+                        + "{#if hasNext},{/if}{/for} {name.async}").render(data));
+    }
+
 }
@@ -0,0 +1,135 @@
+package io.quarkus.qute;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+public class StreamingTest {
+
+    @Test
+    public void testStreamSync() {
+        Engine engine = Engine.builder().addDefaultSectionHelpers().addDefaultValueResolvers().build();
+        engine.putTemplate("base", engine.parse("<ul>{#insert items}{/insert}</ul>"));
+        Template template = engine.parse(
+                "{#include base}{#items}{#for item in list}<li>{item}{#if hasNext},{/if}</li>{/for}{/items}{/include}");
+        Map<String, Object> data = new HashMap<>();
+        data.put("list", ImmutableList.of("alpha", "bravo", "charlie"));
+
+        List<String> chunks = new ArrayList<>();
+        CompletableFuture<Void> result = template.instance().data("list", data.get("list")).stream(chunks::add)
+                .toCompletableFuture();
+        assertTrue(result.isDone());
+        assertEquals(template.render(data), String.join("", chunks));
+        assertEquals("<ul><li>alpha,</li><li>bravo,</li><li>charlie</li></ul>", String.join("", chunks));
+    }
+
+    @Test
+    public void testStreamInDocumentOrder() {
+        CompletableFuture<Object> pending = new CompletableFuture<>();
+        Engine engine = Engine.builder().addDefaultSectionHelpers().addDefaultValueResolvers()
+                .addValueResolver(new ValueResolver() {
+
+                    @Override
+                    public boolean appliesTo(EvalContext context) {
+                        return context.getName().equals("pending");
+                    }
+
+                    @Override
+                    public CompletionStage<Object> resolve(EvalContext context) {
+                        return pending;
+                    }
+                }).build();
+        Template template = engine.parse("{#for item in list}[{#if item == 'bravo'}{item.pending}{#else}{item}{/if}]{/for}!");
+
+        List<String> chunks = new ArrayList<>();
+        CompletableFuture<Void> result = template.instance().data("list", ImmutableList.of("alpha", "bravo", "charlie"))
+                .stream(chunks::add).toCompletableFuture();
+        // Everything that precedes the pending value is written
+        assertFalse(result.isDone());
+        assertEquals("[alpha][", String.join("", chunks));
+
+        pending.complete("BRAVO");
+        assertTrue(result.isDone());
+        assertEquals("[alpha][BRAVO][charlie]!", String.join("", chunks));
+    }
+
+    @Test
+    public void testFlowControl() {
+        Engine engine = Engine.builder().addDefaultSectionHelpers().addDefaultValueResolvers().build();
+        Template template = engine.parse("{#for i in total}{i}:{/for}");
+
+        List<String> chunks = new ArrayList<>();
+        List<CompletableFuture<Void>> readiness = new ArrayList<>();
+        FlowControlledConsumer consumer = new FlowControlledConsumer() {
+
+            @Override
+            public void accept(String chunk) {
+                chunks.add(chunk);
+            }
+
+            @Override
+            public CompletionStage<Void> whenReady() {
+                CompletableFuture<Void> ready = new CompletableFuture<>();
+                readiness.add(ready);
+                return ready;
+            }
+        };
+        CompletableFuture<Void> result = template.instance().data("total", 3).stream(consumer).toCompletableFuture();
+        // The loop is paused after each iteration
+        assertEquals("1:", String.join("", chunks));
+        readiness.get(0).complete(null);
+        assertEquals("1:2:", String.join("", chunks));
+        readiness.get(1).complete(null);
+        assertEquals("1:2:3:", String.join("", chunks));
+        assertFalse(result.isDone());
+        readiness.get(2).complete(null);
+        assertTrue(result.isDone());
+    }
+
+    @Test
+    public void testStreamLargeLoop() {
+        Engine engine = Engine.builder().addDefaultSectionHelpers().addDefaultValueResolvers().build();
+        Template template = engine.parse("{#for i in total}<tr><td>{i}</td></tr>{/for}");
+
+        StringBuilder builder = new StringBuilder();
+        template.instance().data("total", 10000).stream(builder::append).toCompletableFuture().join();
+        assertEquals(IntStream.rangeClosed(1, 10000).mapToObj(i -> "<tr><td>" + i + "</td></tr>")
+                .collect(Collectors.joining()), builder.toString());
+    }
+
+    @Test
+    public void testStreamFailure() {
+        Engine engine = Engine.builder().addDefaultSectionHelpers().addDefaultValueResolvers()
+                .addValueResolver(new ValueResolver() {
+
+                    @Override
+                    public boolean appliesTo(EvalContext context) {
+                        return context.getName().equals("fail");
+                    }
+
+                    @Override
+                    public CompletionStage<Object> resolve(EvalContext context) {
+                        return Futures.failure(new IllegalStateException("Foo!"));
+                    }
+                }).build();
+        List<String> chunks = new ArrayList<>();
+        ExecutionException e = assertThrows(ExecutionException.class,
+                () -> engine.parse("Hello {name.fail} and {name}!").instance().data("name", "world").stream(chunks::add)
+                        .toCompletableFuture().get());
+        assertTrue(e.getCause() instanceof IllegalStateException);
+        assertEquals("Hello ", String.join("", chunks));
+    }
+
+}